@@ -1,12 +1,40 @@
 package com.hezaerd.wapi;
 
+import java.nio.file.Path;
+
+import com.hezaerd.wapi.client.WapiHttpClientConfig;
+import com.hezaerd.wapi.dispatch.Dispatchers;
 import com.hezaerd.wapi.utils.ModLib;
+import com.hezaerd.wapi.warmup.WarmUp;
 
 import net.fabricmc.api.ModInitializer;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.loader.api.FabricLoader;
 
 public class Wapi implements ModInitializer {
+	private static volatile WapiClient sharedClient;
+
 	@Override
 	public void onInitialize() {
+		ServerTickEvents.END_SERVER_TICK.register(server -> Dispatchers.serverThread().runTick());
+
+		// Created without any request: the client side warms it up, see WapiClientMod
+		Path cacheDirectory = FabricLoader.getInstance().getGameDir().resolve("cache").resolve(ModLib.MOD_ID);
+		WapiClient client = new WapiClient(WarmUp.configure(WapiHttpClientConfig.builder(), cacheDirectory).build());
+		sharedClient = client;
+		Runtime.getRuntime().addShutdownHook(new Thread(client::close, "wapi-shutdown"));
+
 		ModLib.LOGGER.info("Successfully initialized");
 	}
+
+	/**
+	 * Gets the client created at mod initialization, whose classes, item metadata and ability trees
+	 * are warmed up from the disk cache on physical clients. Mods without specific configuration
+	 * needs can share it; it is closed when the game exits.
+	 *
+	 * @return The shared client, or null before the mod is initialized
+	 */
+	public static WapiClient getSharedClient() {
+		return sharedClient;
+	}
 }
@@ -11,13 +11,17 @@ import com.hezaerd.wapi.modules.MapModule;
 import com.hezaerd.wapi.modules.NewsModule;
 import com.hezaerd.wapi.modules.PlayerModule;
 import com.hezaerd.wapi.modules.SearchModule;
+import com.hezaerd.wapi.reactive.ReactiveWapiClient;
+import com.hezaerd.wapi.search.SearchIndex;
+import com.hezaerd.wapi.search.SearchIndexFeeder;
+import com.hezaerd.wapi.sync.SyncWapiClient;
 
 /**
  * Main client class for interacting with the Wynncraft API.
  * This class serves as the entry point for making API requests.
  * Provides a fluent, simple interface for accessing different API modules.
  */
-public final class WapiClient {
+public final class WapiClient implements AutoCloseable {
 	private final WapiHttpClientConfig config;
 	private final WapiHttpClient httpClient;
 
@@ -32,6 +36,15 @@ public final class WapiClient {
 	private final ClassesModule classesModule;
 	private final NewsModule newsModule;
 
+	// Blocking facade over the modules above
+	private final SyncWapiClient syncClient;
+
+	// Backpressured publishers over the modules above
+	private final ReactiveWapiClient reactiveClient;
+
+	// Local autocomplete over the names seen in responses
+	private final SearchIndex searchIndex;
+
 	/**
 	 * Creates a new WapiClient with custom configuration.
 	 *
@@ -50,6 +63,12 @@ public final class WapiClient {
 		this.searchModule = new SearchModule(httpClient);
 		this.classesModule = new ClassesModule(httpClient);
 		this.newsModule = new NewsModule(httpClient);
+
+		this.syncClient = new SyncWapiClient(this);
+		this.reactiveClient = new ReactiveWapiClient(this);
+
+		this.searchIndex = new SearchIndex();
+		SearchIndexFeeder.attach(searchIndex, httpClient);
 	}
 
 	/**
@@ -140,6 +159,37 @@ public final class WapiClient {
 		return newsModule;
 	}
 
+	/**
+	 * Access the blocking facade, e.g. {@code client.sync().player().get(name)}.
+	 * Best used from virtual threads, see {@link WapiHttpClientConfig.Builder#useVirtualThreads(boolean)}.
+	 * Not usable from the game thread of a {@link com.hezaerd.wapi.dispatch.TickExecutor} completion executor,
+	 * where calls fail fast instead of waiting forever for the next tick.
+	 *
+	 * @return SyncWapiClient for blocking operations
+	 */
+	public SyncWapiClient sync() {
+		return syncClient;
+	}
+
+	/**
+	 * Access backpressured {@link java.util.concurrent.Flow.Publisher} variants of the modules.
+	 *
+	 * @return ReactiveWapiClient for demand-driven operations
+	 */
+	public ReactiveWapiClient reactive() {
+		return reactiveClient;
+	}
+
+	/**
+	 * Access the local search index, fed with the player, guild and item names
+	 * of the responses received so far.
+	 *
+	 * @return SearchIndex for local autocomplete
+	 */
+	public SearchIndex searchIndex() {
+		return searchIndex;
+	}
+
 	/**
 	 * Get the underlying HTTP client for advanced usage.
 	 *
@@ -149,6 +199,15 @@ public final class WapiClient {
 		return httpClient;
 	}
 
+	/**
+	 * Releases the resources of the client, see {@link WapiHttpClient#close()}.
+	 * The client must not be used afterwards.
+	 */
+	@Override
+	public void close() {
+		httpClient.close();
+	}
+
 	/**
 	 * Get the current configuration.
 	 *
@@ -0,0 +1,17 @@
+package com.hezaerd.wapi;
+
+import com.hezaerd.wapi.dispatch.Dispatchers;
+import com.hezaerd.wapi.warmup.WarmUp;
+
+import net.fabricmc.api.ClientModInitializer;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+
+public class WapiClientMod implements ClientModInitializer {
+	@Override
+	public void onInitializeClient() {
+		ClientTickEvents.END_CLIENT_TICK.register(client -> Dispatchers.clientThread().runTick());
+
+		// Preloads the static data screens need in the background, loading must not wait for it
+		WarmUp.start(Wapi.getSharedClient());
+	}
+}
@@ -0,0 +1,114 @@
+package com.hezaerd.wapi.buffer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of heap buffers for response bodies, in power-of-two sizes from 4 KiB to 4 MiB.
+ * Larger buffers are allocated on demand and never pooled. Buffers that are not
+ * returned are simply garbage collected, so a leak only costs the reuse.
+ */
+public class BufferPool {
+	private static final int MIN_SHIFT = 12;
+	private static final int MAX_SHIFT = 22;
+
+	private final Queue<ByteBuffer>[] free;
+	private final AtomicInteger[] freeCounts;
+	private final int maxPerSize;
+
+	/**
+	 * Creates a buffer pool.
+	 *
+	 * @param maxPerSize The maximum number of idle buffers kept per size
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public BufferPool(int maxPerSize) {
+		int sizes = MAX_SHIFT - MIN_SHIFT + 1;
+		this.free = new Queue[sizes];
+		this.freeCounts = new AtomicInteger[sizes];
+		this.maxPerSize = maxPerSize;
+
+		for (int i = 0; i < sizes; i++) {
+			free[i] = new ConcurrentLinkedQueue<>();
+			freeCounts[i] = new AtomicInteger();
+		}
+	}
+
+	/**
+	 * Takes a cleared buffer of at least the given capacity.
+	 *
+	 * @param minCapacity The minimum capacity in bytes
+	 * @return A buffer whose capacity is the next power of two, at least 4 KiB
+	 */
+	public ByteBuffer acquire(int minCapacity) {
+		int shift = shiftOf(minCapacity);
+		if (shift > MAX_SHIFT) {
+			return ByteBuffer.allocate(minCapacity);
+		}
+
+		int index = shift - MIN_SHIFT;
+		ByteBuffer buffer = free[index].poll();
+		if (buffer == null) {
+			return ByteBuffer.allocate(1 << shift);
+		}
+		freeCounts[index].decrementAndGet();
+		return buffer.clear();
+	}
+
+	/**
+	 * Returns a buffer to the pool. The caller must not touch it afterwards.
+	 *
+	 * @param buffer A buffer taken from {@link #acquire(int)}
+	 */
+	public void release(ByteBuffer buffer) {
+		int capacity = buffer.capacity();
+		if (Integer.bitCount(capacity) != 1 || capacity < (1 << MIN_SHIFT) || capacity > (1 << MAX_SHIFT)) {
+			return;
+		}
+
+		int index = Integer.numberOfTrailingZeros(capacity) - MIN_SHIFT;
+		if (freeCounts[index].incrementAndGet() > maxPerSize) {
+			freeCounts[index].decrementAndGet();
+			return;
+		}
+		free[index].offer(buffer);
+	}
+
+	/**
+	 * Reads a stream to its end into a pooled buffer, growing it as needed.
+	 *
+	 * @param in The stream to read
+	 * @return A buffer positioned at zero with its limit at the end of the data
+	 * @throws IOException If reading fails
+	 */
+	public ByteBuffer read(InputStream in) throws IOException {
+		ByteBuffer buffer = acquire(1 << MIN_SHIFT);
+		try {
+			while (true) {
+				if (!buffer.hasRemaining()) {
+					ByteBuffer larger = acquire(buffer.capacity() * 2);
+					larger.put(buffer.flip());
+					release(buffer);
+					buffer = larger;
+				}
+
+				int read = in.read(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+				if (read < 0) {
+					return buffer.flip();
+				}
+				buffer.position(buffer.position() + read);
+			}
+		} catch (IOException | RuntimeException e) {
+			release(buffer);
+			throw e;
+		}
+	}
+
+	private static int shiftOf(int capacity) {
+		return Math.max(MIN_SHIFT, 32 - Integer.numberOfLeadingZeros(Math.max(1, capacity - 1)));
+	}
+}
@@ -0,0 +1,153 @@
+package com.hezaerd.wapi.buffer;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.gson.Gson;
+
+/**
+ * The raw JSON body of a response, held in a pooled and reference-counted buffer.
+ * It can be passed through as-is (e.g. forwarded to a web frontend) through read-only views,
+ * and decoded lazily into any number of types, each decoded once and then shared.
+ * <p>
+ * Whoever receives a payload owns one reference and must {@link #release()} it
+ * (or close it) when done; {@link #retain()} hands out further references.
+ * Views and streams are only valid while a reference is held.
+ */
+public final class SharedPayload implements AutoCloseable {
+	private final ByteBuffer buffer;
+	private final BufferPool pool;
+	private final Gson gson;
+	private final AtomicInteger references = new AtomicInteger(1);
+	private final Map<Class<?>, Object> decoded = new ConcurrentHashMap<>();
+
+	/**
+	 * Wraps a buffer, taking ownership of it.
+	 *
+	 * @param buffer A heap buffer positioned at zero with its limit at the end of the data
+	 * @param pool The pool the buffer returns to once the last reference is released
+	 * @param gson The Gson instance used to decode the payload
+	 */
+	public SharedPayload(ByteBuffer buffer, BufferPool pool, Gson gson) {
+		this.buffer = buffer;
+		this.pool = pool;
+		this.gson = gson;
+	}
+
+	/**
+	 * Adds a reference, for handing the payload to another consumer.
+	 *
+	 * @return This payload
+	 * @throws IllegalStateException If the payload was already released
+	 */
+	public SharedPayload retain() {
+		int count;
+		do {
+			count = references.get();
+			if (count <= 0) {
+				throw new IllegalStateException("Payload already released");
+			}
+		} while (!references.compareAndSet(count, count + 1));
+		return this;
+	}
+
+	/**
+	 * Drops a reference, returning the buffer to the pool when it was the last one.
+	 *
+	 * @return true if the buffer was returned to the pool
+	 * @throws IllegalStateException If the payload was already released
+	 */
+	public boolean release() {
+		int count = references.decrementAndGet();
+		if (count < 0) {
+			references.incrementAndGet();
+			throw new IllegalStateException("Payload already released");
+		}
+		if (count > 0) {
+			return false;
+		}
+
+		decoded.clear();
+		pool.release(buffer);
+		return true;
+	}
+
+	@Override
+	public void close() {
+		release();
+	}
+
+	/**
+	 * Gets a read-only view of the raw bytes, with its own position and limit.
+	 *
+	 * @return The JSON body as UTF-8 bytes
+	 */
+	public ByteBuffer asByteBuffer() {
+		checkLive();
+		return buffer.asReadOnlyBuffer();
+	}
+
+	/**
+	 * Opens a stream over the raw bytes, without copying them.
+	 *
+	 * @return A stream of the JSON body as UTF-8 bytes
+	 */
+	public InputStream openStream() {
+		checkLive();
+		return new ByteArrayInputStream(buffer.array(), buffer.arrayOffset(), buffer.limit());
+	}
+
+	/**
+	 * Gets the raw JSON as a string.
+	 *
+	 * @return The JSON body
+	 */
+	public String asString() {
+		checkLive();
+		return new String(buffer.array(), buffer.arrayOffset(), buffer.limit(), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Gets the size of the payload.
+	 *
+	 * @return The size in bytes
+	 */
+	public int size() {
+		return buffer.limit();
+	}
+
+	/**
+	 * Decodes the payload, at most once per type. Later calls return the same instance,
+	 * so decoded objects should be treated as read-only.
+	 *
+	 * @param type The type to decode into
+	 * @param <T> The decoded type
+	 * @return The decoded object
+	 * @throws com.google.gson.JsonParseException If the payload does not match the type
+	 */
+	public <T> T decode(Class<T> type) {
+		checkLive();
+		return type.cast(decoded.computeIfAbsent(type,
+			t -> gson.fromJson(new InputStreamReader(openStream(), StandardCharsets.UTF_8), t)));
+	}
+
+	private void checkLive() {
+		if (references.get() <= 0) {
+			throw new IllegalStateException("Payload already released");
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "SharedPayload{" +
+				"size=" + size() +
+				", references=" + references.get() +
+				'}';
+	}
+}
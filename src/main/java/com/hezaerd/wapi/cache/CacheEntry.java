@@ -0,0 +1,69 @@
+package com.hezaerd.wapi.cache;
+
+import com.hezaerd.wapi.models.ResponseSource;
+
+/**
+ * A decoded response held by the {@link ResponseCache}.
+ */
+public class CacheEntry {
+	private final Object value;
+	private final long fetchedAt;
+	private final String etag;
+	private final String lastModified;
+	private final ResponseSource source;
+
+	/**
+	 * Creates a cache entry.
+	 *
+	 * @param value The decoded response data
+	 * @param fetchedAt When the data was fetched, in milliseconds since epoch
+	 */
+	public CacheEntry(Object value, long fetchedAt) {
+		this(value, fetchedAt, null, null);
+	}
+
+	/**
+	 * Creates a cache entry with the validators used to revalidate it conditionally.
+	 *
+	 * @param value The decoded response data
+	 * @param fetchedAt When the data was fetched, in milliseconds since epoch
+	 * @param etag The ETag header of the response, or null
+	 * @param lastModified The Last-Modified header of the response, or null
+	 */
+	public CacheEntry(Object value, long fetchedAt, String etag, String lastModified) {
+		this(value, fetchedAt, etag, lastModified, ResponseSource.MEMORY);
+	}
+
+	/**
+	 * Creates a cache entry loaded from another tier.
+	 *
+	 * @param value The decoded response data
+	 * @param fetchedAt When the data was fetched, in milliseconds since epoch
+	 * @param etag The ETag header of the response, or null
+	 * @param lastModified The Last-Modified header of the response, or null
+	 * @param source Where the entry was loaded from
+	 */
+	public CacheEntry(Object value, long fetchedAt, String etag, String lastModified, ResponseSource source) {
+		this.value = value;
+		this.fetchedAt = fetchedAt;
+		this.etag = etag;
+		this.lastModified = lastModified;
+		this.source = source;
+	}
+
+	public Object getValue() { return value; }
+	public long getFetchedAt() { return fetchedAt; }
+	public String getEtag() { return etag; }
+	public String getLastModified() { return lastModified; }
+	public ResponseSource getSource() { return source; }
+
+	/**
+	 * Gets the age of the entry.
+	 *
+	 * @param now The current time in milliseconds since epoch
+	 * @return The age in milliseconds
+	 */
+	public long getAgeMillis(long now) {
+		return Math.max(0, now - fetchedAt);
+	}
+}
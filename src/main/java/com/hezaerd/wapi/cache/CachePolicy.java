@@ -0,0 +1,151 @@
+package com.hezaerd.wapi.cache;
+
+import java.time.Duration;
+
+/**
+ * Caching policy for a family of endpoints.
+ * A cached response is fresh for {@code ttl}. After that it may still be served:
+ * <ul>
+ *     <li>immediately, while a background refresh runs, for up to {@code staleWhileRevalidate} past the ttl</li>
+ *     <li>as a fallback when the refresh fails, for up to {@code staleIfError} past the ttl</li>
+ * </ul>
+ * Hot entries can also be refreshed ahead of time, once they reach {@code refreshAhead}
+ * of their ttl, see {@link RefreshAheadScheduler}.
+ * Resources answered with 404 are remembered as missing for {@code negativeTtl} and never served stale.
+ */
+public class CachePolicy {
+	private final Duration ttl;
+	private final Duration staleWhileRevalidate;
+	private final Duration staleIfError;
+	private final double refreshAhead;
+	private final boolean persistent;
+	private final Duration negativeTtl;
+
+	private CachePolicy(Builder builder) {
+		this.ttl = builder.ttl;
+		this.staleWhileRevalidate = builder.staleWhileRevalidate;
+		this.staleIfError = builder.staleIfError;
+		this.refreshAhead = builder.refreshAhead;
+		this.persistent = builder.persistent;
+		this.negativeTtl = builder.negativeTtl;
+	}
+
+	// Getters
+	public Duration getTtl() { return ttl; }
+	public Duration getStaleWhileRevalidate() { return staleWhileRevalidate; }
+	public Duration getStaleIfError() { return staleIfError; }
+	public double getRefreshAhead() { return refreshAhead; }
+	public boolean isPersistent() { return persistent; }
+	public Duration getNegativeTtl() { return negativeTtl; }
+
+	/**
+	 * Checks if an entry of the given age can be served without revalidation.
+	 *
+	 * @param ageMillis The age of the entry in milliseconds
+	 * @return true if the entry is fresh
+	 */
+	public boolean isFresh(long ageMillis) {
+		return ageMillis <= ttl.toMillis();
+	}
+
+	/**
+	 * Checks if an entry of the given age can be served while it is refreshed in the background.
+	 *
+	 * @param ageMillis The age of the entry in milliseconds
+	 * @return true if the entry can be served stale
+	 */
+	public boolean canServeWhileRevalidating(long ageMillis) {
+		return ageMillis <= ttl.toMillis() + staleWhileRevalidate.toMillis();
+	}
+
+	/**
+	 * Checks if an entry of the given age can be served when the upstream request fails.
+	 *
+	 * @param ageMillis The age of the entry in milliseconds
+	 * @return true if the entry can be served stale
+	 */
+	public boolean canServeOnError(long ageMillis) {
+		return ageMillis <= ttl.toMillis() + staleIfError.toMillis();
+	}
+
+	/**
+	 * Checks if a resource found missing this long ago can be reported missing again without a request.
+	 *
+	 * @param ageMillis The age of the negative entry in milliseconds
+	 * @return true if the negative entry is fresh
+	 */
+	public boolean isNegativeFresh(long ageMillis) {
+		return ageMillis <= negativeTtl.toMillis();
+	}
+
+	/**
+	 * Gets how long an entry remains useful under this policy.
+	 *
+	 * @return The maximum age at which an entry may still be served
+	 */
+	public Duration getMaxAge() {
+		return ttl.plus(staleWhileRevalidate.compareTo(staleIfError) >= 0 ? staleWhileRevalidate : staleIfError);
+	}
+
+	/**
+	 * Builder for CachePolicy.
+	 */
+	public static class Builder {
+		private Duration ttl = Duration.ofSeconds(30);
+		private Duration staleWhileRevalidate = Duration.ZERO;
+		private Duration staleIfError = Duration.ZERO;
+		private double refreshAhead = 0;
+		private boolean persistent = false;
+		private Duration negativeTtl = Duration.ofSeconds(30);
+
+		public Builder ttl(Duration ttl) {
+			this.ttl = ttl;
+			return this;
+		}
+
+		public Builder staleWhileRevalidate(Duration staleWhileRevalidate) {
+			this.staleWhileRevalidate = staleWhileRevalidate;
+			return this;
+		}
+
+		public Builder staleIfError(Duration staleIfError) {
+			this.staleIfError = staleIfError;
+			return this;
+		}
+
+		/**
+		 * Refreshes hot entries in the background once they reach this fraction of their ttl
+		 * (e.g. 0.8 refreshes at 80% of the ttl). Zero, the default, disables refresh-ahead.
+		 */
+		public Builder refreshAhead(double refreshAhead) {
+			this.refreshAhead = Math.max(0, Math.min(refreshAhead, 1));
+			return this;
+		}
+
+		/**
+		 * Also keeps the responses in the client's disk cache, if it has one, so they survive restarts.
+		 * Entries loaded from disk are served like memory entries of the same age. Disabled by default.
+		 */
+		public Builder persistent(boolean persistent) {
+			this.persistent = persistent;
+			return this;
+		}
+
+		/**
+		 * How long a 404 is cached, so repeated lookups of a missing player or guild do not reach the API.
+		 * Thirty seconds by default; zero disables negative caching.
+		 */
+		public Builder negativeTtl(Duration negativeTtl) {
+			this.negativeTtl = negativeTtl;
+			return this;
+		}
+
+		public CachePolicy build() {
+			return new CachePolicy(this);
+		}
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+}
@@ -0,0 +1,170 @@
+package com.hezaerd.wapi.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import com.hezaerd.wapi.utils.ModLib;
+
+/**
+ * Persistent tier of the response cache, keeping raw response bodies in one file per key.
+ * Each file starts with a header line holding the fetch time and validators of the response,
+ * so entries loaded after a restart can be revalidated conditionally.
+ * Files are replaced atomically; I/O failures are logged and treated as misses.
+ */
+public class DiskCache {
+	private static final String MAGIC = "wapi1";
+	private static final String NONE = "-";
+
+	private final Path directory;
+
+	/**
+	 * Creates a disk cache.
+	 *
+	 * @param directory The directory holding the cached files, created on first write
+	 */
+	public DiskCache(Path directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * Reads a cached response.
+	 *
+	 * @param key The cache key
+	 * @return The entry, or null if the key is not cached or its file is unreadable
+	 */
+	public Entry read(String key) {
+		Path file = fileOf(key);
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+
+		try (InputStream in = Files.newInputStream(file)) {
+			byte[] content = in.readAllBytes();
+			int newline = indexOf(content, (byte) '\n');
+			if (newline < 0) {
+				return null;
+			}
+
+			String[] header = new String(content, 0, newline, StandardCharsets.UTF_8).split("\t", -1);
+			if (header.length != 4 || !header[0].equals(MAGIC)) {
+				return null;
+			}
+
+			byte[] body = new byte[content.length - newline - 1];
+			System.arraycopy(content, newline + 1, body, 0, body.length);
+			return new Entry(body, Long.parseLong(header[1]), valueOf(header[2]), valueOf(header[3]));
+		} catch (IOException | NumberFormatException e) {
+			ModLib.LOGGER.warn("Failed to read disk cache entry {}: {}", file, e.toString());
+			return null;
+		}
+	}
+
+	/**
+	 * Writes a response, replacing the previous one.
+	 *
+	 * @param key The cache key
+	 * @param body The raw response body
+	 * @param fetchedAt When the response was fetched, in milliseconds since epoch
+	 * @param etag The ETag header of the response, or null
+	 * @param lastModified The Last-Modified header of the response, or null
+	 */
+	public void write(String key, byte[] body, long fetchedAt, String etag, String lastModified) {
+		Path file = fileOf(key);
+		try {
+			Files.createDirectories(directory);
+			Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+			try {
+				try (OutputStream out = Files.newOutputStream(temp)) {
+					String header = MAGIC + '\t' + fetchedAt + '\t' + headerOf(etag) + '\t' + headerOf(lastModified) + '\n';
+					out.write(header.getBytes(StandardCharsets.UTF_8));
+					out.write(body);
+				}
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+		} catch (IOException e) {
+			ModLib.LOGGER.warn("Failed to write disk cache entry {}: {}", file, e.toString());
+		}
+	}
+
+	/**
+	 * Deletes a cached response.
+	 *
+	 * @param key The cache key
+	 */
+	public void invalidate(String key) {
+		try {
+			Files.deleteIfExists(fileOf(key));
+		} catch (IOException e) {
+			ModLib.LOGGER.warn("Failed to delete disk cache entry for {}: {}", key, e.toString());
+		}
+	}
+
+	/**
+	 * Names the file of a key after its SHA-256, as keys hold URLs.
+	 */
+	private Path fileOf(String key) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+			return directory.resolve(HexFormat.of().formatHex(digest, 0, 16) + ".json");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+	private static int indexOf(byte[] content, byte value) {
+		for (int i = 0; i < content.length; i++) {
+			if (content[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Validators are header values, so they hold neither tabs nor newlines.
+	 */
+	private static String headerOf(String value) {
+		return value == null || value.isEmpty() ? NONE : value.replace('\t', ' ').replace('\n', ' ');
+	}
+
+	private static String valueOf(String header) {
+		return header.equals(NONE) ? null : header;
+	}
+
+	public Path getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * A cached response body with its fetch time and validators.
+	 */
+	public static final class Entry {
+		private final byte[] body;
+		private final long fetchedAt;
+		private final String etag;
+		private final String lastModified;
+
+		Entry(byte[] body, long fetchedAt, String etag, String lastModified) {
+			this.body = body;
+			this.fetchedAt = fetchedAt;
+			this.etag = etag;
+			this.lastModified = lastModified;
+		}
+
+		// Getters
+		public byte[] getBody() { return body; }
+		public long getFetchedAt() { return fetchedAt; }
+		public String getEtag() { return etag; }
+		public String getLastModified() { return lastModified; }
+	}
+}
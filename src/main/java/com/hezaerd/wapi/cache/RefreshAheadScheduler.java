@@ -0,0 +1,220 @@
+package com.hezaerd.wapi.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import com.hezaerd.wapi.utils.ModLib;
+
+/**
+ * Refreshes hot cache entries shortly before they expire, so that frequently
+ * requested keys are almost never served after a network round trip.
+ * <p>
+ * Every cached access bumps an exponentially decaying hit score for its key.
+ * Periodically, keys whose score reaches the hot threshold (or that were pinned
+ * through a prefetch) and whose entry passed the policy's refresh-ahead point are
+ * refreshed, but only while the rate limit budget has room to spare.
+ */
+public class RefreshAheadScheduler {
+	private static final long SCAN_INTERVAL_MILLIS = 1000;
+	private static final double HALF_LIFE_MILLIS = 60_000;
+
+	private final ResponseCache cache;
+	private final Refresher refresher;
+	private final BooleanSupplier hasSpareBudget;
+	private final double hotThreshold;
+	private final int maxTrackedKeys;
+
+	private final Map<String, HotKey> keys = new ConcurrentHashMap<>();
+	private volatile ScheduledExecutorService scheduler;
+	private volatile boolean closed;
+
+	/**
+	 * Creates a refresh-ahead scheduler.
+	 *
+	 * @param cache The cache whose entries are refreshed
+	 * @param refresher Sends background refreshes
+	 * @param hasSpareBudget Whether a background request can be sent without delaying foreground requests
+	 * @param hotThreshold The decayed hit score from which a key is considered hot
+	 * @param maxTrackedKeys The maximum number of keys tracked at once
+	 */
+	public RefreshAheadScheduler(ResponseCache cache, Refresher refresher, BooleanSupplier hasSpareBudget,
+			double hotThreshold, int maxTrackedKeys) {
+		this.cache = cache;
+		this.refresher = refresher;
+		this.hasSpareBudget = hasSpareBudget;
+		this.hotThreshold = hotThreshold;
+		this.maxTrackedKeys = maxTrackedKeys;
+	}
+
+	/**
+	 * Records an access to a cached key.
+	 *
+	 * @param key The cache key
+	 * @param url The request URL
+	 * @param responseType The decoded response type
+	 * @param policy The cache policy of the endpoint
+	 */
+	public void recordAccess(String key, String url, Class<?> responseType, CachePolicy policy) {
+		track(key, url, responseType, policy, false);
+	}
+
+	/**
+	 * Pins a key so that it is kept fresh regardless of its hit score.
+	 *
+	 * @param key The cache key
+	 * @param url The request URL
+	 * @param responseType The decoded response type
+	 * @param policy The cache policy of the endpoint
+	 */
+	public void pin(String key, String url, Class<?> responseType, CachePolicy policy) {
+		track(key, url, responseType, policy, true);
+	}
+
+	/**
+	 * Stops keeping a pinned key fresh.
+	 *
+	 * @param key The cache key
+	 */
+	public void unpin(String key) {
+		HotKey hotKey = keys.get(key);
+		if (hotKey != null) {
+			hotKey.pinned = false;
+		}
+	}
+
+	/**
+	 * Stops the background scan for good: later accesses no longer start it again.
+	 */
+	public synchronized void shutdown() {
+		closed = true;
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+			scheduler = null;
+		}
+	}
+
+	private void track(String key, String url, Class<?> responseType, CachePolicy policy, boolean pin) {
+		if (policy.getRefreshAhead() <= 0) {
+			return;
+		}
+		if (!keys.containsKey(key) && keys.size() >= maxTrackedKeys) {
+			return;
+		}
+
+		HotKey hotKey = keys.computeIfAbsent(key, k -> new HotKey(url, responseType, policy));
+		synchronized (hotKey) {
+			hotKey.score += 1;
+			hotKey.pinned |= pin;
+		}
+		ensureStarted();
+	}
+
+	private void ensureStarted() {
+		if (scheduler == null && !closed) {
+			synchronized (this) {
+				if (scheduler == null && !closed) {
+					scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+						Thread thread = new Thread(task, "wapi-refresh-ahead");
+						thread.setDaemon(true);
+						thread.setPriority(Thread.MIN_PRIORITY);
+						return thread;
+					});
+					scheduler.scheduleWithFixedDelay(() -> {
+						// An exception escaping the task would silently cancel every later scan
+						try {
+							scan();
+						} catch (RuntimeException e) {
+							ModLib.LOGGER.warn("Refresh-ahead scan failed: {}", e.toString());
+						}
+					}, SCAN_INTERVAL_MILLIS, SCAN_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Decays hit scores, forgets cold keys and refreshes hot entries nearing expiry.
+	 */
+	private void scan() {
+		long now = System.currentTimeMillis();
+		double decay = Math.pow(0.5, SCAN_INTERVAL_MILLIS / HALF_LIFE_MILLIS);
+
+		Iterator<Map.Entry<String, HotKey>> iterator = keys.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<String, HotKey> tracked = iterator.next();
+			HotKey hotKey = tracked.getValue();
+
+			boolean hot;
+			synchronized (hotKey) {
+				hotKey.score *= decay;
+				hot = hotKey.pinned || hotKey.score >= hotThreshold;
+				if (!hotKey.pinned && hotKey.score < 0.01) {
+					iterator.remove();
+					continue;
+				}
+			}
+
+			if (!hot || hotKey.refreshing) {
+				continue;
+			}
+
+			CacheEntry entry = cache.get(tracked.getKey());
+			if (entry != null && !shouldRefresh(entry, hotKey.policy, now)) {
+				continue;
+			}
+
+			// Foreground requests always come first
+			if (!hasSpareBudget.getAsBoolean()) {
+				return;
+			}
+
+			hotKey.refreshing = true;
+			refresher.refresh(tracked.getKey(), hotKey.url, hotKey.responseType)
+				.whenComplete((ignored, error) -> hotKey.refreshing = false);
+		}
+	}
+
+	private static boolean shouldRefresh(CacheEntry entry, CachePolicy policy, long now) {
+		Duration ttl = policy.getTtl();
+		return entry.getAgeMillis(now) >= (long) (ttl.toMillis() * policy.getRefreshAhead());
+	}
+
+	/**
+	 * Sends a background refresh of a cached key.
+	 */
+	@FunctionalInterface
+	public interface Refresher {
+		/**
+		 * Refreshes a key, storing the result in the cache.
+		 *
+		 * @param key The cache key
+		 * @param url The request URL
+		 * @param responseType The decoded response type
+		 * @return A future completing once the refresh is done
+		 */
+		CompletableFuture<?> refresh(String key, String url, Class<?> responseType);
+	}
+
+	private static final class HotKey {
+		private final String url;
+		private final Class<?> responseType;
+		private final CachePolicy policy;
+
+		private double score;
+		private boolean pinned;
+		private volatile boolean refreshing;
+
+		private HotKey(String url, Class<?> responseType, CachePolicy policy) {
+			this.url = url;
+			this.responseType = responseType;
+			this.policy = policy;
+		}
+	}
+}
@@ -0,0 +1,91 @@
+package com.hezaerd.wapi.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded in-memory cache of decoded API responses, evicting the least recently used entries.
+ * Entries are keyed by request URL and response type, and each endpoint family
+ * gets its own {@link CachePolicy}, matched by the longest endpoint prefix.
+ */
+public class ResponseCache {
+	private final Map<String, CacheEntry> entries;
+	private final List<Map.Entry<String, CachePolicy>> policies;
+
+	/**
+	 * Creates a response cache.
+	 *
+	 * @param policies Cache policies keyed by endpoint prefix (e.g. "/v3/guild/")
+	 * @param maxEntries The maximum number of cached responses
+	 */
+	public ResponseCache(Map<String, CachePolicy> policies, int maxEntries) {
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+				return size() > maxEntries;
+			}
+		};
+
+		// Longest prefixes first, so the most specific policy wins
+		this.policies = new ArrayList<>(policies.entrySet());
+		this.policies.sort(Comparator.comparingInt((Map.Entry<String, CachePolicy> e) -> e.getKey().length()).reversed());
+	}
+
+	/**
+	 * Builds the cache key of a request.
+	 *
+	 * @param url The full request URL
+	 * @param responseType The decoded response type
+	 * @return The cache key
+	 */
+	public static String key(String url, Class<?> responseType) {
+		return responseType.getName() + ' ' + url;
+	}
+
+	/**
+	 * Finds the policy of an endpoint.
+	 *
+	 * @param endpoint The API endpoint (e.g., "/v3/guild/Foo")
+	 * @return The matching policy, or null if the endpoint is not cached
+	 */
+	public CachePolicy policyFor(String endpoint) {
+		for (Map.Entry<String, CachePolicy> policy : policies) {
+			if (endpoint.startsWith(policy.getKey())) {
+				return policy.getValue();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Checks if any endpoint is cached.
+	 *
+	 * @return true if at least one policy is configured
+	 */
+	public boolean isEnabled() {
+		return !policies.isEmpty();
+	}
+
+	public synchronized CacheEntry get(String key) {
+		return entries.get(key);
+	}
+
+	public synchronized void put(String key, CacheEntry entry) {
+		entries.put(key, entry);
+	}
+
+	public synchronized void invalidate(String key) {
+		entries.remove(key);
+	}
+
+	public synchronized void clear() {
+		entries.clear();
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+}
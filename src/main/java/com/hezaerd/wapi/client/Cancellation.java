@@ -0,0 +1,72 @@
+package com.hezaerd.wapi.client;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.Future;
+
+/**
+ * Links a request future to its underlying HTTP exchange, so that cancelling
+ * the request aborts the exchange or stops reading its body.
+ */
+final class Cancellation {
+	private boolean cancelled;
+	private Future<?> exchange;
+	private Closeable body;
+
+	/**
+	 * Attaches the pending exchange, aborting it right away if already cancelled.
+	 *
+	 * @return false if the request was already cancelled
+	 */
+	synchronized boolean attach(Future<?> exchange) {
+		if (cancelled) {
+			exchange.cancel(true);
+			return false;
+		}
+		this.exchange = exchange;
+		return true;
+	}
+
+	/**
+	 * Attaches the response body stream, closing it right away if already cancelled.
+	 *
+	 * @return false if the request was already cancelled
+	 */
+	synchronized boolean attach(Closeable body) {
+		if (cancelled) {
+			closeQuietly(body);
+			return false;
+		}
+		this.body = body;
+		return true;
+	}
+
+	synchronized boolean isCancelled() {
+		return cancelled;
+	}
+
+	void cancel() {
+		Future<?> pendingExchange;
+		Closeable pendingBody;
+		synchronized (this) {
+			cancelled = true;
+			pendingExchange = exchange;
+			pendingBody = body;
+		}
+
+		if (pendingExchange != null) {
+			pendingExchange.cancel(true);
+		}
+		if (pendingBody != null) {
+			closeQuietly(pendingBody);
+		}
+	}
+
+	private static void closeQuietly(Closeable closeable) {
+		try {
+			closeable.close();
+		} catch (IOException ignored) {
+			// Closing only aborts the read, nothing to recover
+		}
+	}
+}
@@ -0,0 +1,141 @@
+package com.hezaerd.wapi.client;
+
+/**
+ * Count-based circuit breaker tracking failed and slow calls over a sliding window.
+ */
+public class CircuitBreaker {
+	/**
+	 * State of a circuit breaker.
+	 */
+	public enum State {
+		/** Calls go through and are recorded. */
+		CLOSED,
+		/** Calls are rejected until the open duration elapses. */
+		OPEN,
+		/** A limited number of trial calls decide whether to close or reopen. */
+		HALF_OPEN
+	}
+
+	private final CircuitBreakerConfig config;
+	private final long slowCallNanos;
+
+	// Ring buffers of the last outcomes
+	private final boolean[] failures;
+	private final boolean[] slowCalls;
+	private int position;
+	private int recorded;
+	private int failureCount;
+	private int slowCount;
+
+	private State state = State.CLOSED;
+	private long openUntil;
+	private int trialsStarted;
+	private int trialsSucceeded;
+
+	public CircuitBreaker(CircuitBreakerConfig config) {
+		this.config = config;
+		this.slowCallNanos = config.getSlowCallDuration().toNanos();
+		this.failures = new boolean[config.getWindowSize()];
+		this.slowCalls = new boolean[config.getWindowSize()];
+	}
+
+	/**
+	 * Asks permission to send a call. Every permitted call must be followed by {@link #record(long, boolean)}.
+	 *
+	 * @return true if the call may go through
+	 */
+	@SuppressWarnings("fallthrough")
+	public synchronized boolean tryAcquirePermission() {
+		switch (state) {
+			case CLOSED:
+				return true;
+			case OPEN:
+				if (System.currentTimeMillis() < openUntil) {
+					return false;
+				}
+				state = State.HALF_OPEN;
+				trialsStarted = 0;
+				trialsSucceeded = 0;
+				// fall through: the first trial calls are admitted as in HALF_OPEN
+			case HALF_OPEN:
+			default:
+				if (trialsStarted >= config.getHalfOpenCalls()) {
+					return false;
+				}
+				trialsStarted++;
+				return true;
+		}
+	}
+
+	/**
+	 * Gives back a permission obtained through {@link #tryAcquirePermission()}
+	 * for a call that was never sent.
+	 */
+	public synchronized void releasePermission() {
+		if (state == State.HALF_OPEN && trialsStarted > 0) {
+			trialsStarted--;
+		}
+	}
+
+	/**
+	 * Records the outcome of a permitted call.
+	 *
+	 * @param durationNanos How long the call took
+	 * @param failed Whether the call failed (network error, timeout or server error)
+	 */
+	public synchronized void record(long durationNanos, boolean failed) {
+		boolean slow = durationNanos >= slowCallNanos;
+
+		if (state == State.HALF_OPEN) {
+			if (failed || slow) {
+				open();
+			} else if (++trialsSucceeded >= config.getHalfOpenCalls()) {
+				close();
+			}
+			return;
+		}
+		if (state == State.OPEN) {
+			return;
+		}
+
+		if (recorded == failures.length) {
+			failureCount -= failures[position] ? 1 : 0;
+			slowCount -= slowCalls[position] ? 1 : 0;
+		} else {
+			recorded++;
+		}
+		failures[position] = failed;
+		slowCalls[position] = slow;
+		failureCount += failed ? 1 : 0;
+		slowCount += slow ? 1 : 0;
+		position = (position + 1) % failures.length;
+
+		if (recorded >= config.getMinimumCalls() &&
+				(failureCount >= config.getFailureRateThreshold() * recorded ||
+				slowCount >= config.getSlowCallRateThreshold() * recorded)) {
+			open();
+		}
+	}
+
+	/**
+	 * Gets the current state, without transitioning from open to half-open.
+	 *
+	 * @return The circuit state
+	 */
+	public synchronized State getState() {
+		return state;
+	}
+
+	private void open() {
+		state = State.OPEN;
+		openUntil = System.currentTimeMillis() + config.getOpenDuration().toMillis();
+	}
+
+	private void close() {
+		state = State.CLOSED;
+		position = 0;
+		recorded = 0;
+		failureCount = 0;
+		slowCount = 0;
+	}
+}
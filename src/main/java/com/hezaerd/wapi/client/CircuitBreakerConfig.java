@@ -0,0 +1,95 @@
+package com.hezaerd.wapi.client;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the per endpoint family circuit breakers.
+ * A circuit opens when, over the last {@code windowSize} calls (and at least
+ * {@code minimumCalls}), the rate of failed or slow calls reaches its threshold.
+ * Requests then fail fast for {@code openDuration}, after which a few trial calls
+ * decide whether the circuit closes again.
+ */
+public class CircuitBreakerConfig {
+	private final int windowSize;
+	private final int minimumCalls;
+	private final double failureRateThreshold;
+	private final double slowCallRateThreshold;
+	private final Duration slowCallDuration;
+	private final Duration openDuration;
+	private final int halfOpenCalls;
+
+	private CircuitBreakerConfig(Builder builder) {
+		this.windowSize = builder.windowSize;
+		this.minimumCalls = Math.min(builder.minimumCalls, builder.windowSize);
+		this.failureRateThreshold = builder.failureRateThreshold;
+		this.slowCallRateThreshold = builder.slowCallRateThreshold;
+		this.slowCallDuration = builder.slowCallDuration;
+		this.openDuration = builder.openDuration;
+		this.halfOpenCalls = builder.halfOpenCalls;
+	}
+
+	// Getters
+	public int getWindowSize() { return windowSize; }
+	public int getMinimumCalls() { return minimumCalls; }
+	public double getFailureRateThreshold() { return failureRateThreshold; }
+	public double getSlowCallRateThreshold() { return slowCallRateThreshold; }
+	public Duration getSlowCallDuration() { return slowCallDuration; }
+	public Duration getOpenDuration() { return openDuration; }
+	public int getHalfOpenCalls() { return halfOpenCalls; }
+
+	/**
+	 * Builder for CircuitBreakerConfig.
+	 */
+	public static class Builder {
+		private int windowSize = 20;
+		private int minimumCalls = 10;
+		private double failureRateThreshold = 0.5;
+		private double slowCallRateThreshold = 0.8;
+		private Duration slowCallDuration = Duration.ofSeconds(5);
+		private Duration openDuration = Duration.ofSeconds(30);
+		private int halfOpenCalls = 3;
+
+		public Builder windowSize(int windowSize) {
+			this.windowSize = Math.max(1, windowSize);
+			return this;
+		}
+
+		public Builder minimumCalls(int minimumCalls) {
+			this.minimumCalls = Math.max(1, minimumCalls);
+			return this;
+		}
+
+		public Builder failureRateThreshold(double failureRateThreshold) {
+			this.failureRateThreshold = Math.max(0, Math.min(failureRateThreshold, 1));
+			return this;
+		}
+
+		public Builder slowCallRateThreshold(double slowCallRateThreshold) {
+			this.slowCallRateThreshold = Math.max(0, Math.min(slowCallRateThreshold, 1));
+			return this;
+		}
+
+		public Builder slowCallDuration(Duration slowCallDuration) {
+			this.slowCallDuration = slowCallDuration;
+			return this;
+		}
+
+		public Builder openDuration(Duration openDuration) {
+			this.openDuration = openDuration;
+			return this;
+		}
+
+		public Builder halfOpenCalls(int halfOpenCalls) {
+			this.halfOpenCalls = Math.max(1, halfOpenCalls);
+			return this;
+		}
+
+		public CircuitBreakerConfig build() {
+			return new CircuitBreakerConfig(this);
+		}
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+}
@@ -0,0 +1,56 @@
+package com.hezaerd.wapi.client;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import com.hezaerd.wapi.cache.CacheEntry;
+
+/**
+ * Validators of a conditional revalidation: sent from the cached entry and
+ * captured from the response for the next revalidation.
+ */
+final class Conditional {
+	private final CacheEntry previous;
+	private volatile String etag;
+	private volatile String lastModified;
+
+	/**
+	 * @param previous The cached entry being revalidated, or null if there is none
+	 */
+	Conditional(CacheEntry previous) {
+		this.previous = previous;
+	}
+
+	/**
+	 * Adds If-None-Match / If-Modified-Since when the cached entry has validators.
+	 */
+	void applyTo(HttpRequest.Builder request) {
+		if (previous == null) {
+			return;
+		}
+		if (previous.getEtag() != null) {
+			request.header("If-None-Match", previous.getEtag());
+		}
+		if (previous.getLastModified() != null) {
+			request.header("If-Modified-Since", previous.getLastModified());
+		}
+	}
+
+	/**
+	 * Captures the validators of a response, keeping the cached ones a 304 response omits.
+	 */
+	void capture(HttpResponse<?> response) {
+		boolean notModified = response.statusCode() == 304 && previous != null;
+		etag = response.headers().firstValue("ETag")
+			.orElse(notModified ? previous.getEtag() : null);
+		lastModified = response.headers().firstValue("Last-Modified")
+			.orElse(notModified ? previous.getLastModified() : null);
+	}
+
+	/**
+	 * Gets the cached entry, still valid when the server answered 304 Not Modified.
+	 */
+	CacheEntry getPrevious() { return previous; }
+	String getEtag() { return etag; }
+	String getLastModified() { return lastModified; }
+}
@@ -0,0 +1,50 @@
+package com.hezaerd.wapi.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * HTTP content negotiation for compressed response bodies.
+ * Decompression is streamed, so the JSON decoder reads inflated bytes
+ * as they arrive instead of buffering the whole payload first.
+ */
+final class ContentEncoding {
+	/**
+	 * Encodings sent in the Accept-Encoding header, in order of preference.
+	 */
+	static final String ACCEPTED = "gzip, deflate";
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private ContentEncoding() {
+		throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+	}
+
+	/**
+	 * Wraps the response body in a decompressing stream matching its Content-Encoding.
+	 *
+	 * @param response The response with an unread body
+	 * @return A stream of decompressed body bytes
+	 * @throws IOException if the encoding is unsupported or the gzip header is malformed
+	 */
+	static InputStream decode(HttpResponse<InputStream> response) throws IOException {
+		InputStream body = response.body();
+		String encoding = response.headers().firstValue("Content-Encoding")
+			.map(value -> value.trim().toLowerCase(Locale.ROOT))
+			.orElse("identity");
+
+		return switch (encoding) {
+			case "gzip", "x-gzip" -> new GZIPInputStream(body, BUFFER_SIZE);
+			case "deflate" -> new InflaterInputStream(body);
+			case "identity", "" -> body;
+			default -> {
+				body.close();
+				throw new IOException("Unsupported Content-Encoding: " + encoding);
+			}
+		};
+	}
+}
@@ -0,0 +1,68 @@
+package com.hezaerd.wapi.client;
+
+import java.util.concurrent.Semaphore;
+
+import com.hezaerd.wapi.exceptions.NetworkException;
+
+/**
+ * Isolation unit for a group of related endpoints (e.g. "/v3/guild"),
+ * with its own circuit breaker and concurrency bulkhead so that a degraded
+ * API area cannot exhaust the connections shared with healthy ones.
+ */
+public class EndpointFamily {
+	private final String name;
+	private final CircuitBreaker circuitBreaker;
+	private final Semaphore bulkhead;
+	private final LatencyTracker latency = new LatencyTracker(128);
+
+	// Rejections are frequent while the family is degraded, so their failures are shared
+	private final NetworkException circuitOpen;
+	private final NetworkException bulkheadFull;
+
+	public EndpointFamily(String name, CircuitBreakerConfig circuitBreakerConfig, int bulkheadSize) {
+		this.name = name;
+		this.circuitBreaker = new CircuitBreaker(circuitBreakerConfig);
+		this.bulkhead = new Semaphore(bulkheadSize, true);
+		this.circuitOpen = new NetworkException("Circuit open for " + name + ", failing fast", null, -1, null, name);
+		this.bulkheadFull = new NetworkException("Too many concurrent requests to " + name, null, -1, null, name);
+	}
+
+	/**
+	 * Records the outcome of a sent call.
+	 *
+	 * @param durationNanos How long the call took until its response headers arrived
+	 * @param failed Whether the call failed (network error, timeout or server error)
+	 */
+	public void record(long durationNanos, boolean failed) {
+		circuitBreaker.record(durationNanos, failed);
+		if (!failed) {
+			latency.record(durationNanos);
+		}
+	}
+
+	/**
+	 * Gets the family an endpoint belongs to, made of its first two path segments.
+	 *
+	 * @param endpoint The API endpoint (e.g., "/v3/guild/Foo")
+	 * @return The family name (e.g., "/v3/guild")
+	 */
+	public static String nameOf(String endpoint) {
+		int start = endpoint.startsWith("/") ? 1 : 0;
+		int end = endpoint.indexOf('?');
+		String path = end < 0 ? endpoint.substring(start) : endpoint.substring(start, end);
+
+		int first = path.indexOf('/');
+		if (first < 0) {
+			return "/" + path;
+		}
+		int second = path.indexOf('/', first + 1);
+		return "/" + (second < 0 ? path : path.substring(0, second));
+	}
+
+	public String getName() { return name; }
+	public CircuitBreaker getCircuitBreaker() { return circuitBreaker; }
+	public Semaphore getBulkhead() { return bulkhead; }
+	public LatencyTracker getLatency() { return latency; }
+	public NetworkException getCircuitOpenFailure() { return circuitOpen; }
+	public NetworkException getBulkheadFullFailure() { return bulkheadFull; }
+}
@@ -0,0 +1,127 @@
+package com.hezaerd.wapi.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hedging policy for latency-critical endpoints.
+ * When the first attempt has not answered after the observed latency percentile
+ * of its endpoint family, a second attempt is sent over a separate connection and
+ * whichever successful response arrives first wins, cancelling the other attempt.
+ * <p>
+ * Hedges are budgeted: every request earns {@code budgetRatio} of a hedge token and
+ * every hedge spends one, and hedges are only sent while the rate limit has spare
+ * requests left, so hedging never causes rate limit errors.
+ */
+public class HedgePolicy {
+	private final List<String> endpointPrefixes;
+	private final double percentile;
+	private final Duration minDelay;
+	private final Duration maxDelay;
+	private final int minSamples;
+	private final double budgetRatio;
+
+	private HedgePolicy(Builder builder) {
+		this.endpointPrefixes = List.copyOf(builder.endpointPrefixes);
+		this.percentile = builder.percentile;
+		this.minDelay = builder.minDelay;
+		this.maxDelay = builder.maxDelay;
+		this.minSamples = builder.minSamples;
+		this.budgetRatio = builder.budgetRatio;
+	}
+
+	// Getters
+	public List<String> getEndpointPrefixes() { return endpointPrefixes; }
+	public double getPercentile() { return percentile; }
+	public Duration getMinDelay() { return minDelay; }
+	public Duration getMaxDelay() { return maxDelay; }
+	public int getMinSamples() { return minSamples; }
+	public double getBudgetRatio() { return budgetRatio; }
+
+	/**
+	 * Checks if requests to an endpoint are hedged.
+	 *
+	 * @param endpoint The API endpoint (e.g., "/v3/player/Foo")
+	 * @return true if the endpoint matches one of the prefixes
+	 */
+	public boolean appliesTo(String endpoint) {
+		for (String prefix : endpointPrefixes) {
+			if (endpoint.startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Computes how long to wait for the first attempt before hedging.
+	 * Uses the max delay until enough latency samples are recorded.
+	 *
+	 * @param latency The latencies of the endpoint family
+	 * @return The hedge delay in nanoseconds
+	 */
+	public long hedgeDelayNanos(LatencyTracker latency) {
+		long max = maxDelay.toNanos();
+		if (latency.getCount() < minSamples) {
+			return max;
+		}
+		return Math.max(minDelay.toNanos(), Math.min(latency.percentile(percentile), max));
+	}
+
+	/**
+	 * Builder for HedgePolicy.
+	 */
+	public static class Builder {
+		private final List<String> endpointPrefixes = new ArrayList<>();
+		private double percentile = 0.95;
+		private Duration minDelay = Duration.ofMillis(50);
+		private Duration maxDelay = Duration.ofSeconds(2);
+		private int minSamples = 20;
+		private double budgetRatio = 0.05;
+
+		/**
+		 * Hedges requests to endpoints starting with the given prefix (e.g. "/v3/player/").
+		 */
+		public Builder endpoint(String endpointPrefix) {
+			this.endpointPrefixes.add(endpointPrefix);
+			return this;
+		}
+
+		public Builder percentile(double percentile) {
+			this.percentile = Math.max(0.5, Math.min(percentile, 1));
+			return this;
+		}
+
+		public Builder minDelay(Duration minDelay) {
+			this.minDelay = minDelay;
+			return this;
+		}
+
+		public Builder maxDelay(Duration maxDelay) {
+			this.maxDelay = maxDelay;
+			return this;
+		}
+
+		public Builder minSamples(int minSamples) {
+			this.minSamples = Math.max(1, minSamples);
+			return this;
+		}
+
+		/**
+		 * Maximum share of requests that may be hedged (e.g. 0.05 for 5%).
+		 */
+		public Builder budgetRatio(double budgetRatio) {
+			this.budgetRatio = Math.max(0, Math.min(budgetRatio, 1));
+			return this;
+		}
+
+		public HedgePolicy build() {
+			return new HedgePolicy(this);
+		}
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+}
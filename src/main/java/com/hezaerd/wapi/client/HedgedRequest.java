@@ -0,0 +1,103 @@
+package com.hezaerd.wapi.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.hezaerd.wapi.buffer.SharedPayload;
+import com.hezaerd.wapi.models.ApiResponse;
+
+/**
+ * Races the attempts of a hedged request.
+ * The first successful attempt wins and the others are cancelled; if every
+ * attempt fails, the last failure is reported. Pooled payloads of successful
+ * attempts that lost the race are released.
+ */
+final class HedgedRequest<T> {
+	private final CompletableFuture<ApiResponse<T>> result = new CompletableFuture<>();
+	private final List<CompletableFuture<ApiResponse<T>>> attempts = new ArrayList<>();
+	private final Object previous;
+	private int outstanding;
+
+	/**
+	 * Creates a race.
+	 *
+	 * @param previous The cached value a 304 answer returns, owned by the cache and never released, or null
+	 */
+	HedgedRequest(Object previous) {
+		this.previous = previous;
+		result.whenComplete((response, error) -> {
+			if (result.isCancelled()) {
+				cancelAll();
+			}
+		});
+	}
+
+	CompletableFuture<ApiResponse<T>> result() {
+		return result;
+	}
+
+	/**
+	 * Checks if a hedge is still useful.
+	 */
+	synchronized boolean isPending() {
+		return !result.isDone() && outstanding > 0;
+	}
+
+	/**
+	 * Adds an attempt to the race.
+	 */
+	void add(CompletableFuture<ApiResponse<T>> attempt) {
+		synchronized (this) {
+			if (result.isDone()) {
+				attempt.cancel(true);
+				return;
+			}
+			attempts.add(attempt);
+			outstanding++;
+		}
+		attempt.whenComplete((response, error) -> onComplete(attempt, response, error));
+	}
+
+	private void onComplete(CompletableFuture<ApiResponse<T>> attempt, ApiResponse<T> response, Throwable error) {
+		boolean succeeded = error == null && response != null && response.isSuccess();
+		boolean last;
+		synchronized (this) {
+			outstanding--;
+			last = outstanding == 0;
+		}
+
+		if (succeeded) {
+			if (result.complete(response)) {
+				cancelAll();
+			} else {
+				discard(response);
+			}
+		} else if (last) {
+			if (error != null) {
+				result.completeExceptionally(error);
+			} else {
+				result.complete(response);
+			}
+		}
+	}
+
+	/**
+	 * Releases the payload of a response nobody will receive.
+	 */
+	private void discard(ApiResponse<T> response) {
+		if (response.getDataOrNull() instanceof SharedPayload payload && payload != previous) {
+			payload.release();
+		}
+	}
+
+	private void cancelAll() {
+		List<CompletableFuture<ApiResponse<T>>> pending;
+		synchronized (this) {
+			pending = new ArrayList<>(attempts);
+		}
+		for (CompletableFuture<ApiResponse<T>> attempt : pending) {
+			attempt.cancel(true);
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package com.hezaerd.wapi.client;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the latencies of the most recent calls to estimate latency percentiles.
+ */
+public class LatencyTracker {
+	private final long[] samples;
+	private int position;
+	private int count;
+
+	public LatencyTracker(int windowSize) {
+		this.samples = new long[Math.max(1, windowSize)];
+	}
+
+	public synchronized void record(long durationNanos) {
+		samples[position] = durationNanos;
+		position = (position + 1) % samples.length;
+		count = Math.min(count + 1, samples.length);
+	}
+
+	/**
+	 * Gets the number of recorded samples, up to the window size.
+	 *
+	 * @return The sample count
+	 */
+	public synchronized int getCount() {
+		return count;
+	}
+
+	/**
+	 * Estimates a latency percentile from the recorded samples.
+	 *
+	 * @param percentile The percentile, between 0 and 1 (e.g. 0.95)
+	 * @return The latency in nanoseconds, or -1 without samples
+	 */
+	public long percentile(double percentile) {
+		long[] sorted;
+		synchronized (this) {
+			if (count == 0) {
+				return -1;
+			}
+			sorted = Arrays.copyOf(samples, count);
+		}
+
+		Arrays.sort(sorted);
+		int index = (int) Math.ceil(percentile * sorted.length) - 1;
+		return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+	}
+}
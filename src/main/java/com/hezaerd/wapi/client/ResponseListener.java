@@ -0,0 +1,17 @@
+package com.hezaerd.wapi.client;
+
+/**
+ * Observes the responses decoded from the network, e.g. to index the names they contain.
+ * Listeners run on the request thread and must return quickly.
+ */
+@FunctionalInterface
+public interface ResponseListener {
+	/**
+	 * Called for each successful response decoded from the network.
+	 * Cached responses and raw payloads are not reported.
+	 *
+	 * @param endpoint The endpoint path, without the query (e.g. "/v3/guild/Foo")
+	 * @param data The decoded response data
+	 */
+	void onResponse(String endpoint, Object data);
+}
@@ -1,49 +1,180 @@
 package com.hezaerd.wapi.client;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URI;
+import java.net.URLEncoder;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 
+import com.hezaerd.wapi.buffer.BufferPool;
+import com.hezaerd.wapi.buffer.SharedPayload;
+import com.hezaerd.wapi.cache.CacheEntry;
+import com.hezaerd.wapi.cache.CachePolicy;
+import com.hezaerd.wapi.cache.DiskCache;
+import com.hezaerd.wapi.cache.RefreshAheadScheduler;
+import com.hezaerd.wapi.cache.ResponseCache;
+import com.hezaerd.wapi.dispatch.Dispatchers;
+import com.hezaerd.wapi.exceptions.NetworkException;
+import com.hezaerd.wapi.exceptions.RateLimitException;
+import com.hezaerd.wapi.exceptions.ResourceNotFoundException;
+import com.hezaerd.wapi.exceptions.ValidationException;
+import com.hezaerd.wapi.exceptions.WynnApiException;
+import com.hezaerd.wapi.json.Projection;
 import com.hezaerd.wapi.models.ApiResponse;
+import com.hezaerd.wapi.models.ModelAdapters;
+import com.hezaerd.wapi.models.ResponseSource;
+import com.hezaerd.wapi.ratelimit.RateBudget;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
 
 /**
  * Implementation of IWapiHttpClient using Java's built-in HttpClient.
  * Automatically parses Wynncraft's rate limit headers and provides
  * a simple interface for making API requests.
  */
-public class WapiHttpClient {
+public class WapiHttpClient implements AutoCloseable {
 	private static final String BASE_URL = "https://api.wynncraft.com";
 	private static final Logger LOGGER = Logger.getLogger(WapiHttpClient.class.getName());
 
+	// Keep-alive properties of the JDK HttpClient, process-wide and read once when the first client is created
+	private static final String KEEP_ALIVE_PROPERTY = "jdk.httpclient.keepalive.timeout";
+	private static final String KEEP_ALIVE_H2_PROPERTY = "jdk.httpclient.keepalive.timeout.h2";
+
+	// Requests per minute allowed by the Wynncraft API, until its headers say otherwise
+	private static final int DEFAULT_RATE_LIMIT = 120;
+
+	// Failures carrying nothing specific to a request are shared
+	private static final NetworkException CANCELLED = new NetworkException("Request cancelled", null, -1, null, null);
+
 	private final HttpClient httpClient;
 	private final Gson gson;
 	private final boolean enableLogging;
+	private final Duration requestTimeout;
+	private final int maxConnections;
+	private final NetworkException queueTimeout;
+
+	// Foreground requests failing with a retryable error are repeated
+	private final int maxRetryAttempts;
+	private final Duration retryDelay;
+
+	// Runs the blocking request tasks
+	private final Executor executor;
+
+	// The executor created by this client for virtual threads, shut down on close
+	private final ExecutorService ownedExecutor;
+
+	// Completes the returned futures, or null to complete on the request thread
+	private final Executor completionExecutor;
+
+	// Bounds the number of in-flight requests to maxConnections
+	private final Semaphore connectionPermits;
+
+	// Cached responses and the revalidations in flight, keyed by cache key. Background refreshes give up
+	// instead of queueing, so foreground callers never join them and only share foreground requests
+	private final ResponseCache cache;
+	private final Map<String, CompletableFuture<?>> revalidations = new ConcurrentHashMap<>();
+	private final Map<String, CompletableFuture<?>> backgroundRevalidations = new ConcurrentHashMap<>();
+	private final RefreshAheadScheduler refreshAhead;
+	private final int backgroundRequestReserve;
+
+	// Persistent tier of the cache for persistent policies, or null
+	private final DiskCache diskCache;
 
-	// Rate limit tracking from API headers
-	private volatile int remainingRequests = 120;
+	// Circuit breaker and bulkhead per endpoint family
+	private final Map<String, EndpointFamily> families = new ConcurrentHashMap<>();
+	private final CircuitBreakerConfig circuitBreakerConfig;
+	private final int bulkheadSize;
+
+	// Hedged requests use their own client, hence their own connections
+	private final HedgePolicy hedgePolicy;
+	private final HttpClient hedgeHttpClient;
+	private double hedgeTokens;
+
+	// Observers of the responses decoded from the network
+	private final List<ResponseListener> listeners = new CopyOnWriteArrayList<>();
+
+	// Pooled buffers for raw payloads
+	private final BufferPool bufferPool = new BufferPool(8);
+
+	// Share of a rate limit budget coordinated with other clients, or null
+	private final RateBudget rateBudget;
+
+	// Rate limit tracking from API headers, assuming the documented limit until the first response
+	private volatile int remainingRequests = DEFAULT_RATE_LIMIT;
 	private volatile long resetTime = 0;
-	private volatile int rateLimit = 120;
+	private volatile int rateLimit = DEFAULT_RATE_LIMIT;
 
 	public WapiHttpClient(WapiHttpClientConfig config) {
 		this.enableLogging = config.isLoggingEnabled();
-		this.gson = new Gson();
+		this.gson = ModelAdapters.createGson();
+		this.requestTimeout = config.getRequestTimeout();
+		this.completionExecutor = config.getCompletionExecutor();
+		this.maxConnections = config.getMaxConnections();
+		this.connectionPermits = new Semaphore(maxConnections, true);
+		this.queueTimeout = new NetworkException("Request queue timed out after " + requestTimeout.toMillis() + "ms: " +
+			maxConnections + " requests already in flight", null, -1, null, null);
+		this.maxRetryAttempts = config.getMaxRetryAttempts();
+		this.retryDelay = config.getRetryDelay();
+		this.cache = new ResponseCache(config.getCachePolicies(), config.getCacheMaxEntries());
+		this.backgroundRequestReserve = config.getBackgroundRequestReserve();
+		this.diskCache = config.getDiskCacheDirectory() != null ? new DiskCache(config.getDiskCacheDirectory()) : null;
+		this.circuitBreakerConfig = config.getCircuitBreaker();
+		this.bulkheadSize = config.getBulkheadSize();
+		this.rateBudget = config.getRateBudget() != null ? config.getRateBudget().join() : null;
+		this.refreshAhead = new RefreshAheadScheduler(cache,
+			(key, url, type) -> revalidate(key, url, type, true),
+			this::hasSpareBudget, config.getHotKeyThreshold(), config.getCacheMaxEntries());
 
+		applyConnectionPoolPolicy(config);
+
+		// HTTP/2 multiplexes concurrent requests over a single connection,
+		// falling back to HTTP/1.1 keep-alive connections when unsupported
 		HttpClient.Builder builder = HttpClient.newBuilder()
-			.connectTimeout(config.getConnectTimeout())
-			.connectTimeout(config.getRequestTimeout());
+			.version(HttpClient.Version.HTTP_2)
+			.connectTimeout(config.getConnectTimeout());
 
 		if (config.getExecutor() != null) {
-			builder.executor(config.getExecutor());
+			this.executor = config.getExecutor();
+			this.ownedExecutor = null;
+			builder.executor(executor);
+		} else if (config.isVirtualThreadsEnabled()) {
+			this.ownedExecutor = Executors.newVirtualThreadPerTaskExecutor();
+			this.executor = ownedExecutor;
+			builder.executor(executor);
+		} else {
+			this.executor = ForkJoinPool.commonPool();
+			this.ownedExecutor = null;
 		}
 
 		this.httpClient = builder.build();
+		this.hedgePolicy = config.getHedgePolicy();
+		this.hedgeHttpClient = hedgePolicy != null ? builder.build() : null;
 	}
 
 	/**
@@ -67,51 +198,716 @@ public class WapiHttpClient {
 	 * @return CompletableFuture containing the API response
 	 */
 	public <T> CompletableFuture<ApiResponse<T>> get(String endpoint, Class<T> responseType, String... queryParams) {
-		return CompletableFuture.supplyAsync(() -> {
-			try {
-				String url = buildUrl(endpoint, queryParams);
+		String url = buildUrl(endpoint, queryParams);
+		CachePolicy policy = cache.policyFor(normalize(endpoint));
+
+		CompletableFuture<ApiResponse<T>> future = policy != null
+			? getCached(url, responseType, policy)
+			: request(url, decoderFor(responseType), null);
+
+		return completionExecutor != null ? Dispatchers.deliverOn(future, completionExecutor) : future;
+	}
+
+	/**
+	 * Makes a GET request decoding only the projected fields of the response;
+	 * all other fields are skipped while streaming and left at their defaults.
+	 * Projected requests bypass the response cache.
+	 *
+	 * @param endpoint the API endpoint
+	 * @param responseType the expected response type
+	 * @param projection the fields to decode
+	 * @param queryParams alternating key-value pairs (e.g., "key1", "value1", "key2", "value2")
+	 * @return CompletableFuture containing the partially decoded response
+	 */
+	public <T> CompletableFuture<ApiResponse<T>> get(String endpoint, Class<T> responseType, Projection projection,
+			String... queryParams) {
+		CompletableFuture<ApiResponse<T>> future = request(buildUrl(endpoint, queryParams), body -> {
+			JsonReader reader = new JsonReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+			return gson.fromJson(projection.read(reader), responseType);
+		}, null);
+
+		return completionExecutor != null ? Dispatchers.deliverOn(future, completionExecutor) : future;
+	}
+
+	/**
+	 * Makes a GET request decoding the response body with a custom decoder, which runs on the
+	 * request executor as the body streams in, never on the completion executor. A decoder
+	 * reports a malformed body by throwing a {@link JsonParseException}, which completes the
+	 * future with a structured failure. Custom decoded requests bypass the response cache.
+	 *
+	 * @param endpoint the API endpoint
+	 * @param decoder decodes the response body
+	 * @param queryParams alternating key-value pairs (e.g., "key1", "value1", "key2", "value2")
+	 * @return CompletableFuture containing the decoded response
+	 */
+	public <T> CompletableFuture<ApiResponse<T>> get(String endpoint, BodyDecoder<T> decoder, String... queryParams) {
+		CompletableFuture<ApiResponse<T>> future = request(buildUrl(endpoint, queryParams), decoder, null);
+
+		return completionExecutor != null ? Dispatchers.deliverOn(future, completionExecutor) : future;
+	}
 
+	/**
+	 * Makes a conditional GET request, revalidating a previous response with its ETag and Last-Modified headers.
+	 * When the server answers 304 Not Modified, the future completes with the previous entry itself,
+	 * so unchanged data can be detected by identity; otherwise it completes with a new entry carrying
+	 * the decoded data and its validators. Conditional requests bypass the response cache.
+	 *
+	 * @param endpoint the API endpoint
+	 * @param responseType the expected response type
+	 * @param previous the entry of the previous response, or null for an unconditional request
+	 * @param queryParams alternating key-value pairs (e.g., "key1", "value1", "key2", "value2")
+	 * @return CompletableFuture containing the previous or a new entry
+	 */
+	public <T> CompletableFuture<ApiResponse<CacheEntry>> getIfModified(String endpoint, Class<T> responseType,
+			CacheEntry previous, String... queryParams) {
+		Conditional conditional = new Conditional(previous);
+		CompletableFuture<ApiResponse<T>> request = request(buildUrl(endpoint, queryParams), decoderFor(responseType), conditional);
+		CompletableFuture<ApiResponse<CacheEntry>> future = Dispatchers.propagateCancel(request.thenApply(response ->
+			response.map(data -> previous != null && data == previous.getValue()
+				? previous
+				: new CacheEntry(data, response.getFetchedAt(), conditional.getEtag(), conditional.getLastModified()))),
+			request);
+
+		return completionExecutor != null ? Dispatchers.deliverOn(future, completionExecutor) : future;
+	}
+
+	/**
+	 * Makes a GET request and keeps the raw JSON body, for passing it through without re-encoding
+	 * or decoding it lazily with {@link SharedPayload#decode(Class)}.
+	 * The caller owns one reference to the payload and must release it when done.
+	 * When the endpoint is cached, typed requests for the same URL decode the cached payload
+	 * instead of fetching it again.
+	 *
+	 * @param endpoint the API endpoint
+	 * @param queryParams alternating key-value pairs (e.g., "key1", "value1", "key2", "value2")
+	 * @return CompletableFuture containing the raw payload
+	 */
+	public CompletableFuture<ApiResponse<SharedPayload>> getRaw(String endpoint, String... queryParams) {
+		return get(endpoint, SharedPayload.class, queryParams);
+	}
+
+	/**
+	 * Serves a cached endpoint according to its policy: fresh entries directly,
+	 * stale entries while revalidating in the background, and stale entries
+	 * again when the revalidation fails within the stale-if-error window.
+	 * Resources recently found missing are reported missing again without a request.
+	 * Revalidations are shared by concurrent callers, so cancelling one caller's future
+	 * only detaches it; the request keeps running and still updates the cache.
+	 */
+	private <T> CompletableFuture<ApiResponse<T>> getCached(String url, Class<T> responseType, CachePolicy policy) {
+		String key = ResponseCache.key(url, responseType);
+		CacheEntry cached = cache.get(key);
+		refreshAhead.recordAccess(key, url, responseType, policy);
+
+		if (cached == null && diskCache != null && policy.isPersistent()) {
+			// Reading and decoding a large file must not stall the caller, often a game thread
+			CompletableFuture<CacheEntry> load = CompletableFuture.supplyAsync(() -> loadFromDisk(key, responseType), executor);
+			return Dispatchers.propagateCancel(load.thenCompose(loaded -> serveLoaded(key, url, responseType, policy, loaded)), load);
+		}
+		return serveLoaded(key, url, responseType, policy, cached);
+	}
+
+	/**
+	 * Serves a cached endpoint from the entry found in memory or on disk, if any.
+	 */
+	private <T> CompletableFuture<ApiResponse<T>> serveLoaded(String key, String url, Class<T> responseType,
+			CachePolicy policy, CacheEntry cached) {
+		if (responseType == SharedPayload.class) {
+			// The cache keeps its own reference, every caller gets another one
+			return serveCached(key, url, responseType, policy, cached)
+				.thenApply(response -> response.map(payload -> responseType.cast(((SharedPayload) payload).retain())));
+		}
+		if (cached == null) {
+			cached = decodeRawEntry(url, responseType);
+		}
+		return serveCached(key, url, responseType, policy, cached);
+	}
+
+	private <T> CompletableFuture<ApiResponse<T>> serveCached(String key, String url, Class<T> responseType,
+			CachePolicy policy, CacheEntry entry) {
+
+		if (entry != null && entry.getValue() instanceof ResourceNotFoundException notFound) {
+			if (policy.isNegativeFresh(entry.getAgeMillis(System.currentTimeMillis()))) {
+				return CompletableFuture.completedFuture(ApiResponse.failure(notFound));
+			}
+			return revalidate(key, url, responseType, false);
+		}
+
+		if (entry != null) {
+			long age = entry.getAgeMillis(System.currentTimeMillis());
+			if (policy.isFresh(age)) {
+				return CompletableFuture.completedFuture(fromCache(entry, responseType, false));
+			}
+			if (policy.canServeWhileRevalidating(age)) {
+				revalidate(key, url, responseType, false);
+				return CompletableFuture.completedFuture(fromCache(entry, responseType, true));
+			}
+		}
+
+		return revalidate(key, url, responseType, false).thenApply(response -> {
+			if (response.isSuccess() || entry == null) {
+				return response;
+			}
+			// A client error means the request itself is wrong or the resource is gone, old data would hide it
+			WynnApiException failure = response.getException();
+			if (failure.isClientError() && !failure.isRateLimitError()) {
+				return response;
+			}
+			if (policy.canServeOnError(entry.getAgeMillis(System.currentTimeMillis()))) {
 				if (enableLogging) {
-					LOGGER.info("Making GET request to: " + url);
+					LOGGER.info("Serving stale response for " + url + ": " + response.getError());
 				}
+				return fromCache(entry, responseType, true);
+			}
+			return response;
+		});
+	}
 
-				HttpRequest request = HttpRequest.newBuilder()
-					.uri(URI.create(url))
-					.header("User-Agent", "WynnAPI-Client/1.0")
-					.GET()
-					.build();
+	/**
+	 * Fetches a cached endpoint from the network and stores the result.
+	 * Concurrent revalidations of the same key share a single request. A background refresh joins a
+	 * foreground request in flight, but a foreground caller never joins a background refresh, which
+	 * gives up on a full bulkhead or an exhausted rate budget rather than waiting.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> CompletableFuture<ApiResponse<T>> revalidate(String key, String url, Class<T> responseType, boolean background) {
+		if (background) {
+			CompletableFuture<?> foreground = revalidations.get(key);
+			if (foreground != null) {
+				return ((CompletableFuture<ApiResponse<T>>) foreground).copy();
+			}
+		}
 
-				HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+		Map<String, CompletableFuture<?>> inFlight = background ? backgroundRevalidations : revalidations;
+		CompletableFuture<ApiResponse<T>> created = new CompletableFuture<>();
+		CompletableFuture<ApiResponse<T>> pending = (CompletableFuture<ApiResponse<T>>) (CompletableFuture<?>) inFlight.putIfAbsent(key, created);
+		if (pending != null) {
+			return pending.copy();
+		}
 
-				// Parse rate limit headers
-				parseRateLimitHeaders(response);
+		// Revalidates conditionally when the cached entry has an ETag or Last-Modified
+		CacheEntry previous = cache.get(key);
+		Conditional conditional = new Conditional(previous != null && previous.getValue() instanceof WynnApiException ? null : previous);
+		BodyDecoder<T> decoder = diskCache != null && isPersistent(url)
+			? persisting(key, decoderFor(responseType), conditional)
+			: decoderFor(responseType);
+		CompletableFuture<ApiResponse<T>> exchange = background
+			? send(url, decoder, conditional, true, httpClient)
+			: request(url, decoder, conditional);
 
-				if (enableLogging) {
-					LOGGER.info("Response status: " + response.statusCode() +
-							", Rate limit remaining: " + remainingRequests);
+		exchange.whenComplete((response, error) -> {
+			if (response != null && response.isSuccess()) {
+				// A raw payload hands its first reference to the cache, which never releases it:
+				// evicted payloads are left to the garbage collector as readers may still hold views
+				cache.put(key, new CacheEntry(response.getDataOrNull(), response.getFetchedAt(),
+					conditional.getEtag(), conditional.getLastModified()));
+			} else if (response != null && response.getException() instanceof ResourceNotFoundException notFound) {
+				cache.put(key, new CacheEntry(notFound, response.getTimestamp()));
+				if (diskCache != null && isPersistent(url)) {
+					diskCache.invalidate(key);
+				}
+			}
+			inFlight.remove(key, created);
+
+			if (error != null) {
+				created.completeExceptionally(error);
+			} else {
+				created.complete(response);
+			}
+		});
+		return created.copy();
+	}
+
+	/**
+	 * Decodes the cached raw payload of a URL, if any, so typed and raw requests share one fetch.
+	 */
+	private CacheEntry decodeRawEntry(String url, Class<?> responseType) {
+		CacheEntry raw = cache.get(ResponseCache.key(url, SharedPayload.class));
+		if (raw == null) {
+			return null;
+		}
+
+		if (!(raw.getValue() instanceof SharedPayload payload)) {
+			return raw;
+		}
+
+		try {
+			return new CacheEntry(payload.decode(responseType), raw.getFetchedAt());
+		} catch (JsonParseException e) {
+			return null;
+		}
+	}
+
+	private static <T> ApiResponse<T> fromCache(CacheEntry entry, Class<T> responseType, boolean stale) {
+		return ApiResponse.cached(responseType.cast(entry.getValue()), entry.getSource(), entry.getFetchedAt(), stale);
+	}
+
+	/**
+	 * Loads a persisted response into the memory cache, keeping its original fetch time and validators
+	 * so that the cache policy and conditional revalidation apply as if it had never left memory.
+	 */
+	private CacheEntry loadFromDisk(String key, Class<?> responseType) {
+		DiskCache.Entry stored = diskCache.read(key);
+		if (stored == null) {
+			return null;
+		}
+
+		try {
+			Object value = decoderFor(responseType).decode(new ByteArrayInputStream(stored.getBody()));
+			CacheEntry entry = new CacheEntry(value, stored.getFetchedAt(), stored.getEtag(), stored.getLastModified(),
+				ResponseSource.DISK);
+			cache.put(key, entry);
+			return entry;
+		} catch (IOException | JsonParseException e) {
+			diskCache.invalidate(key);
+			return null;
+		}
+	}
+
+	/**
+	 * Wraps a decoder to also write the raw body to the disk cache once it decoded successfully.
+	 */
+	private <T> BodyDecoder<T> persisting(String key, BodyDecoder<T> decoder, Conditional conditional) {
+		return body -> {
+			byte[] bytes = body.readAllBytes();
+			T value = decoder.decode(new ByteArrayInputStream(bytes));
+			diskCache.write(key, bytes, System.currentTimeMillis(), conditional.getEtag(), conditional.getLastModified());
+			return value;
+		};
+	}
+
+	private boolean isPersistent(String url) {
+		int query = url.indexOf('?');
+		CachePolicy policy = cache.policyFor(url.substring(BASE_URL.length(), query < 0 ? url.length() : query));
+		return policy != null && policy.isPersistent();
+	}
+
+	/**
+	 * Warms the cache for an endpoint and keeps it fresh ahead of expiry from then on,
+	 * using only spare rate limit budget. The endpoint needs a cache policy with refresh-ahead.
+	 *
+	 * @param endpoint the API endpoint
+	 * @param responseType the expected response type
+	 * @param queryParams alternating key-value pairs (e.g., "key1", "value1", "key2", "value2")
+	 * @return true if the endpoint is cached and was scheduled for prefetching
+	 */
+	public boolean prefetch(String endpoint, Class<?> responseType, String... queryParams) {
+		CachePolicy policy = cache.policyFor(normalize(endpoint));
+		if (policy == null || policy.getRefreshAhead() <= 0) {
+			return false;
+		}
+
+		String url = buildUrl(endpoint, queryParams);
+		refreshAhead.pin(ResponseCache.key(url, responseType), url, responseType, policy);
+		return true;
+	}
+
+	/**
+	 * Gets how many background requests can be sent in the current rate limit window without
+	 * delaying foreground requests: the remaining requests, capped by this client's share of a
+	 * shared rate budget, minus {@link WapiHttpClientConfig#getBackgroundRequestReserve()}.
+	 * Once the window reported by the API has reset, its whole limit counts as remaining again.
+	 *
+	 * @return The spare request budget, never negative
+	 */
+	public int getSpareBudget() {
+		int remaining = resetTime > 0 && System.currentTimeMillis() / 1000 >= resetTime ? rateLimit : remainingRequests;
+		if (rateBudget != null) {
+			remaining = Math.min(remaining, rateBudget.getAvailable());
+		}
+		return Math.max(0, remaining - backgroundRequestReserve);
+	}
+
+	/**
+	 * Checks if a background request can be sent without delaying foreground requests.
+	 */
+	private boolean hasSpareBudget() {
+		return getSpareBudget() > 0 && connectionPermits.availablePermits() > 1;
+	}
+
+	/**
+	 * Sends a foreground request, repeated while it fails with a retryable error, up to the configured attempts.
+	 * No retry starts later than the request timeout after the first attempt, so a hung endpoint
+	 * holds the caller for at most about twice the request timeout.
+	 * Cancelling the returned future cancels the attempt in flight and any scheduled retry.
+	 */
+	private <T> CompletableFuture<ApiResponse<T>> request(String url, BodyDecoder<T> decoder, Conditional conditional) {
+		if (maxRetryAttempts == 0) {
+			return requestOnce(url, decoder, conditional);
+		}
+
+		CompletableFuture<ApiResponse<T>> result = new CompletableFuture<>();
+		AtomicReference<CompletableFuture<ApiResponse<T>>> current = new AtomicReference<>();
+		result.whenComplete((response, error) -> {
+			CompletableFuture<ApiResponse<T>> attempt = current.get();
+			if (result.isCancelled() && attempt != null) {
+				attempt.cancel(true);
+			}
+		});
+		retry(url, decoder, conditional, 0, System.nanoTime() + requestTimeout.toNanos(), current, result);
+		return result;
+	}
+
+	private <T> void retry(String url, BodyDecoder<T> decoder, Conditional conditional, int attempt, long deadline,
+			AtomicReference<CompletableFuture<ApiResponse<T>>> current, CompletableFuture<ApiResponse<T>> result) {
+		CompletableFuture<ApiResponse<T>> pending = requestOnce(url, decoder, conditional);
+		current.set(pending);
+		if (result.isCancelled()) {
+			pending.cancel(true);
+			return;
+		}
+
+		pending.whenComplete((response, error) -> {
+			if (result.isDone()) {
+				return;
+			}
+			if (error != null) {
+				result.completeExceptionally(error);
+				return;
+			}
+
+			long delay = retryDelayMillis(response, attempt);
+			if (delay < 0 || System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay) > deadline) {
+				result.complete(response);
+				return;
+			}
+			if (enableLogging) {
+				LOGGER.info("Retrying request to " + url + " in " + delay + "ms: " + response.getError());
+			}
+			CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, executor).execute(() -> {
+				if (!result.isDone()) {
+					retry(url, decoder, conditional, attempt + 1, deadline, current, result);
 				}
+			});
+		});
+	}
 
-				if (response.statusCode() == 429) {
-					return ApiResponse.failure("Rate limit exceeded. Reset in " +
-						Math.max(0, resetTime - System.currentTimeMillis() / 1000) + " seconds");
+	/**
+	 * Gets the delay before retrying a failed attempt: the rate limit reset when the API tells it,
+	 * an exponential backoff from the retry delay otherwise. Negative when the response is final.
+	 */
+	private long retryDelayMillis(ApiResponse<?> response, int attempt) {
+		if (response.isSuccess() || attempt >= maxRetryAttempts) {
+			return -1;
+		}
+
+		WynnApiException failure = response.getException();
+		if (!failure.isRetryable()) {
+			return -1;
+		}
+		return failure.getRetryAfterMillis() > 0 ? failure.getRetryAfterMillis() : retryDelay.toMillis() << attempt;
+	}
+
+	/**
+	 * Sends a single attempt of a foreground request, hedged when the hedge policy covers its endpoint.
+	 */
+	private <T> CompletableFuture<ApiResponse<T>> requestOnce(String url, BodyDecoder<T> decoder, Conditional conditional) {
+		if (hedgePolicy == null || !hedgePolicy.appliesTo(url.substring(BASE_URL.length()))) {
+			return send(url, decoder, conditional, false, httpClient);
+		}
+
+		EndpointFamily family = familyOf(url);
+		HedgedRequest<T> hedged = new HedgedRequest<>(conditional != null && conditional.getPrevious() != null
+			? conditional.getPrevious().getValue()
+			: null);
+		earnHedgeToken();
+		hedged.add(send(url, decoder, conditional, false, httpClient));
+
+		long delay = hedgePolicy.hedgeDelayNanos(family.getLatency());
+		CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS, executor).execute(() -> {
+			if (hedged.isPending() && hasSpareBudget() && spendHedgeToken()) {
+				if (enableLogging) {
+					LOGGER.info("Hedging request to " + url + " after " + TimeUnit.NANOSECONDS.toMillis(delay) + "ms");
 				}
+				hedged.add(send(url, decoder, conditional, true, hedgeHttpClient));
+			}
+		});
+		return hedged.result();
+	}
+
+	private synchronized void earnHedgeToken() {
+		hedgeTokens = Math.min(hedgeTokens + hedgePolicy.getBudgetRatio(), 10);
+	}
+
+	private synchronized boolean spendHedgeToken() {
+		if (hedgeTokens < 1) {
+			return false;
+		}
+		hedgeTokens -= 1;
+		return true;
+	}
+
+	/**
+	 * Sends the request on the request executor, within the circuit breaker and bulkhead
+	 * of its endpoint family and the connection limit.
+	 * Background requests never wait for a permit, they give up instead.
+	 * Cancelling the returned future aborts the HTTP exchange.
+	 */
+	private <T> CompletableFuture<ApiResponse<T>> send(String url, BodyDecoder<T> decoder, Conditional conditional,
+			boolean background, HttpClient client) {
+		EndpointFamily family = familyOf(url);
+		Cancellation cancellation = new Cancellation();
+
+		CompletableFuture<ApiResponse<T>> future = CompletableFuture.supplyAsync(() -> {
+			if (cancellation.isCancelled()) {
+				return ApiResponse.failure(CANCELLED);
+			}
+
+			CircuitBreaker circuitBreaker = family.getCircuitBreaker();
+			if (!circuitBreaker.tryAcquirePermission()) {
+				return ApiResponse.failure(family.getCircuitOpenFailure());
+			}
 
-				if (response.statusCode() != 200) {
-					return ApiResponse.failure("HTTP " + response.statusCode() + ": " + response.body());
+			// Every exit that does not record an outcome gives the permission back,
+			// or a half-open circuit would run out of trial calls
+			AtomicBoolean recorded = new AtomicBoolean();
+			try {
+				if (!acquire(family.getBulkhead(), background)) {
+					return ApiResponse.failure(family.getBulkheadFullFailure());
 				}
 
 				try {
-					T data = gson.fromJson(response.body(), responseType);
-					return ApiResponse.success(data);
-				} catch (JsonSyntaxException e) {
-					return ApiResponse.failure("Failed to parse JSON response: " + e.getMessage());
+					if (!acquire(connectionPermits, background)) {
+						return ApiResponse.failure(queueTimeout);
+					}
+
+					// The permit is held until the body is fully read, as the connection is busy until then
+					try {
+						// The shared budget is taken last, as it cannot be handed back once taken. An exhausted
+						// share is reported like a 429, so it is retried and backed off until the window resets
+						if (rateBudget != null && !rateBudget.tryAcquire()) {
+							return ApiResponse.failure(new RateLimitException(rateBudget.getResetSeconds(), 0, family.getName()));
+						}
+						return execute(url, decoder, conditional, family, client, cancellation, recorded);
+					} finally {
+						connectionPermits.release();
+					}
+				} finally {
+					family.getBulkhead().release();
 				}
 
-			} catch (IOException | InterruptedException e) {
+			} catch (IOException e) {
+				return ApiResponse.failure(new NetworkException(e.getMessage(), e, -1, url, family.getName()));
+			} catch (InterruptedException e) {
+				// Only a real interrupt is restored, pool workers keep the flag for their next task
 				Thread.currentThread().interrupt();
-				return ApiResponse.failure("Request failed: " + e.getMessage());
+				return ApiResponse.failure(new NetworkException(e.getMessage(), e, -1, url, family.getName()));
+			} finally {
+				if (!recorded.get()) {
+					circuitBreaker.releasePermission();
+				}
+			}
+		}, executor);
+
+		future.whenComplete((response, error) -> {
+			if (future.isCancelled()) {
+				cancellation.cancel();
 			}
 		});
+		return future;
+	}
+
+	/**
+	 * Acquires a permit, waiting up to the request timeout for foreground requests only.
+	 */
+	private boolean acquire(Semaphore permits, boolean background) throws InterruptedException {
+		return background
+			? permits.tryAcquire()
+			: permits.tryAcquire(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	private EndpointFamily familyOf(String url) {
+		String name = EndpointFamily.nameOf(url.substring(BASE_URL.length()));
+		return families.computeIfAbsent(name, n -> new EndpointFamily(n, circuitBreakerConfig, bulkheadSize));
+	}
+
+	/**
+	 * Decodes a response body into the given type, keeping it raw for {@link SharedPayload}.
+	 */
+	private <T> BodyDecoder<T> decoderFor(Class<T> responseType) {
+		if (responseType == SharedPayload.class) {
+			return body -> responseType.cast(new SharedPayload(bufferPool.read(body), bufferPool, gson));
+		}
+		return body -> gson.fromJson(new InputStreamReader(body, StandardCharsets.UTF_8), responseType);
+	}
+
+	/**
+	 * Sends the request and decodes the response body straight from the
+	 * (decompressed) response stream. Sets {@code recorded} once the outcome is recorded in the family.
+	 */
+	private <T> ApiResponse<T> execute(String url, BodyDecoder<T> decoder, Conditional conditional, EndpointFamily family,
+			HttpClient client, Cancellation cancellation, AtomicBoolean recorded) throws IOException, InterruptedException {
+		if (enableLogging) {
+			LOGGER.info("Making GET request to: " + url);
+		}
+
+		HttpRequest.Builder builder = HttpRequest.newBuilder()
+			.uri(URI.create(url))
+			.timeout(requestTimeout)
+			.header("User-Agent", "WynnAPI-Client/1.0")
+			.header("Accept-Encoding", ContentEncoding.ACCEPTED)
+			.GET();
+		if (conditional != null) {
+			conditional.applyTo(builder);
+		}
+		HttpRequest request = builder.build();
+
+		long start = System.nanoTime();
+		CompletableFuture<HttpResponse<InputStream>> exchange = client.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream());
+		if (!cancellation.attach(exchange)) {
+			return ApiResponse.failure(CANCELLED);
+		}
+
+		HttpResponse<InputStream> response;
+		try {
+			response = exchange.get();
+		} catch (CancellationException e) {
+			return ApiResponse.failure(CANCELLED);
+		} catch (InterruptedException e) {
+			exchange.cancel(true);
+			throw e;
+		} catch (ExecutionException e) {
+			family.record(System.nanoTime() - start, true);
+			recorded.set(true);
+			throw e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+		}
+		family.record(System.nanoTime() - start, response.statusCode() >= 500);
+		recorded.set(true);
+
+		// Parse rate limit headers
+		parseRateLimitHeaders(response);
+		if (conditional != null) {
+			conditional.capture(response);
+		}
+
+		if (enableLogging) {
+			LOGGER.info("Response status: " + response.statusCode() +
+					", Rate limit remaining: " + remainingRequests);
+		}
+
+		// Statuses without a body to decode are handled before the decoder reads a compression header
+		try (InputStream raw = response.body()) {
+			if (!cancellation.attach(raw)) {
+				return ApiResponse.failure(CANCELLED);
+			}
+
+			if (response.statusCode() == 304 && conditional != null && conditional.getPrevious() != null) {
+				// Still valid: the cached data is as good as a fresh download
+				@SuppressWarnings("unchecked")
+				T data = (T) conditional.getPrevious().getValue();
+				return ApiResponse.cached(data, ResponseSource.NETWORK, System.currentTimeMillis(), false);
+			}
+
+			if (response.statusCode() != 200) {
+				return ApiResponse.failure(failureOf(response.statusCode(), url, family, response));
+			}
+
+			try (InputStream body = ContentEncoding.decode(response)) {
+				T data = decoder.decode(body);
+				notifyListeners(url, data);
+				return ApiResponse.success(data);
+			} catch (JsonSyntaxException | JsonIOException e) {
+				return ApiResponse.failure(new WynnApiException("Failed to parse JSON response: " + e.getMessage(), e,
+					response.statusCode(), family.getName(), false));
+			}
+		}
+	}
+
+	/**
+	 * Turns an error status into a structured failure. Rate limits and missing resources
+	 * are built from the status and URL alone, without reading the body.
+	 */
+	private WynnApiException failureOf(int statusCode, String url, EndpointFamily family, HttpResponse<InputStream> response) {
+		if (statusCode == 429) {
+			return new RateLimitException(Math.max(0, resetTime - System.currentTimeMillis() / 1000), remainingRequests,
+				family.getName());
+		}
+		if (statusCode == 404) {
+			return new ResourceNotFoundException(family.getName().substring(family.getName().lastIndexOf('/') + 1),
+				resourceIdOf(url, family), family.getName(), false);
+		}
+
+		String message = errorBody(response);
+		if (statusCode == 400) {
+			return new ValidationException(message, family.getName());
+		}
+		return new NetworkException(message, null, statusCode, url, family.getName());
+	}
+
+	/**
+	 * Reads an error body for the failure message. Error bodies may be empty despite a Content-Encoding,
+	 * so an unreadable body is reported as empty rather than as a network failure.
+	 */
+	private static String errorBody(HttpResponse<InputStream> response) {
+		try (InputStream body = ContentEncoding.decode(response)) {
+			return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			return "";
+		}
+	}
+
+	/**
+	 * Gets the path of a URL past its endpoint family (e.g., "Foo/characters" for "/v3/player/Foo/characters").
+	 */
+	private static String resourceIdOf(String url, EndpointFamily family) {
+		int start = BASE_URL.length() + family.getName().length() + 1;
+		int end = url.indexOf('?');
+		if (end < 0) {
+			end = url.length();
+		}
+		return start < end ? url.substring(start, end) : "";
+	}
+
+	private void notifyListeners(String url, Object data) {
+		if (listeners.isEmpty() || data == null || data instanceof SharedPayload) {
+			return;
+		}
+
+		int query = url.indexOf('?');
+		String endpoint = url.substring(BASE_URL.length(), query < 0 ? url.length() : query);
+		for (ResponseListener listener : listeners) {
+			try {
+				listener.onResponse(endpoint, data);
+			} catch (RuntimeException e) {
+				LOGGER.warning("Response listener failed for " + endpoint + ": " + e);
+			}
+		}
+	}
+
+	/**
+	 * Applies the keep-alive policy to the JDK connection pool, only when explicitly configured.
+	 * These are JVM-wide settings read once by the JDK, so the first client wins
+	 * and values set explicitly on the command line are left untouched.
+	 */
+	private static void applyConnectionPoolPolicy(WapiHttpClientConfig config) {
+		if (config.getConnectionIdleTimeout() == null) {
+			return;
+		}
+
+		String idleSeconds = String.valueOf(Math.max(1, config.getConnectionIdleTimeout().toSeconds()));
+		setPropertyIfAbsent(KEEP_ALIVE_PROPERTY, idleSeconds);
+		setPropertyIfAbsent(KEEP_ALIVE_H2_PROPERTY, idleSeconds);
+	}
+
+	private static void setPropertyIfAbsent(String key, String value) {
+		if (System.getProperty(key) == null) {
+			System.setProperty(key, value);
+		}
+	}
+
+	private static String normalize(String endpoint) {
+		return endpoint.startsWith("/") ? endpoint : "/" + endpoint;
+	}
+
+	/**
+	 * Percent-encodes a value for use as one path segment, e.g. free text typed by a player.
+	 * Spaces become {@code %20}, and {@code /}, {@code ?}, {@code #} and {@code %} are escaped.
+	 *
+	 * @param value The raw segment
+	 * @return The encoded segment
+	 */
+	public static String encodePathSegment(String value) {
+		return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
 	}
 
 	/**
@@ -140,7 +936,7 @@ public class WapiHttpClient {
 	 * Parses rate limit headers from the API response.
 	 * Uses Wynncraft's own rate limit data to stay synchronized.
 	 */
-	private void parseRateLimitHeaders(HttpResponse<String> response) {
+	private void parseRateLimitHeaders(HttpResponse<?> response) {
 		response.headers().firstValue("RateLimit-Remaining")
 			.ifPresent(remaining -> {
 				try {
@@ -167,6 +963,87 @@ public class WapiHttpClient {
 					// Ignore parsing errors, keep current value
 				}
 			});
+
+		if (rateBudget != null && response.headers().firstValue("RateLimit-Remaining").isPresent()) {
+			rateBudget.update(remainingRequests, rateLimit, Math.max(0, resetTime - System.currentTimeMillis() / 1000));
+		}
+	}
+
+	/**
+	 * Registers a listener notified of every response decoded from the network.
+	 *
+	 * @param listener The listener
+	 */
+	public void addResponseListener(ResponseListener listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * Unregisters a response listener.
+	 *
+	 * @param listener The listener
+	 */
+	public void removeResponseListener(ResponseListener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Releases the resources of this client: stops refresh-ahead, leaves the shared rate budget
+	 * so other clients get its share back, and shuts down the HTTP clients and the virtual thread
+	 * executor it created. Executors passed in the configuration are left running.
+	 * The client must not be used afterwards.
+	 */
+	@Override
+	public void close() {
+		refreshAhead.shutdown();
+		if (rateBudget != null) {
+			rateBudget.close();
+		}
+		httpClient.shutdown();
+		if (hedgeHttpClient != null) {
+			hedgeHttpClient.shutdown();
+		}
+		if (ownedExecutor != null) {
+			ownedExecutor.shutdown();
+		}
+	}
+
+	/**
+	 * Gets the response cache, e.g. to invalidate entries.
+	 *
+	 * @return The response cache
+	 */
+	public ResponseCache getCache() {
+		return cache;
+	}
+
+	/**
+	 * Gets the circuit breaker state of an endpoint family.
+	 *
+	 * @param endpoint Any endpoint of the family (e.g., "/v3/guild/Foo")
+	 * @return The circuit state, CLOSED if the family was never used
+	 */
+	public CircuitBreaker.State getCircuitState(String endpoint) {
+		EndpointFamily family = families.get(EndpointFamily.nameOf(endpoint));
+		return family != null ? family.getCircuitBreaker().getState() : CircuitBreaker.State.CLOSED;
+	}
+
+	/**
+	 * Decodes a successful response body, read as it streams in.
+	 *
+	 * @param <T> The decoded type
+	 */
+	@FunctionalInterface
+	public interface BodyDecoder<T> {
+		/**
+		 * Decodes a response body.
+		 *
+		 * @param body The decompressed response body, closed by the client
+		 * @return The decoded data
+		 * @throws IOException If the body cannot be read
+		 * @throws JsonParseException If the body is malformed
+		 */
+		T decode(InputStream body) throws IOException;
 	}
 
 	/**
@@ -1,8 +1,15 @@
 package com.hezaerd.wapi.client;
 
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.Executor;
 
+import com.hezaerd.wapi.cache.CachePolicy;
+import com.hezaerd.wapi.ratelimit.RateBudgetCoordinator;
+
 /**
  * Configuration class for WapiHttpClient.
  */
@@ -13,8 +20,19 @@ public class WapiHttpClientConfig {
 	private final Duration retryDelay;
 	private final boolean enableLogging;
 	private final Executor executor;
+	private final boolean useVirtualThreads;
+	private final Executor completionExecutor;
 	private final int maxConnections;
 	private final Duration connectionIdleTimeout;
+	private final Map<String, CachePolicy> cachePolicies;
+	private final int cacheMaxEntries;
+	private final double hotKeyThreshold;
+	private final int backgroundRequestReserve;
+	private final CircuitBreakerConfig circuitBreaker;
+	private final int bulkheadSize;
+	private final HedgePolicy hedgePolicy;
+	private final RateBudgetCoordinator rateBudget;
+	private final Path diskCacheDirectory;
 
 	private WapiHttpClientConfig(Builder builder) {
 		this.connectTimeout = builder.connectTimeout;
@@ -23,8 +41,21 @@ public class WapiHttpClientConfig {
 		this.retryDelay = builder.retryDelay;
 		this.enableLogging = builder.enableLogging;
 		this.executor = builder.executor;
+		this.useVirtualThreads = builder.useVirtualThreads;
+		this.completionExecutor = builder.completionExecutor;
 		this.maxConnections = builder.maxConnections;
 		this.connectionIdleTimeout = builder.connectionIdleTimeout;
+		this.cachePolicies = Collections.unmodifiableMap(new LinkedHashMap<>(builder.cachePolicies));
+		this.cacheMaxEntries = builder.cacheMaxEntries;
+		this.hotKeyThreshold = builder.hotKeyThreshold;
+		this.backgroundRequestReserve = builder.backgroundRequestReserve;
+		this.circuitBreaker = builder.circuitBreaker;
+		this.bulkheadSize = builder.bulkheadSize > 0
+			? Math.min(builder.bulkheadSize, builder.maxConnections)
+			: Math.max(1, (builder.maxConnections + 1) / 2);
+		this.hedgePolicy = builder.hedgePolicy;
+		this.rateBudget = builder.rateBudget;
+		this.diskCacheDirectory = builder.diskCacheDirectory;
 	}
 
 	// Getters
@@ -34,8 +65,19 @@ public class WapiHttpClientConfig {
 	public Duration getRetryDelay() { return retryDelay; }
 	public boolean isLoggingEnabled() { return enableLogging; }
 	public Executor getExecutor() { return executor; }
+	public boolean isVirtualThreadsEnabled() { return useVirtualThreads; }
+	public Executor getCompletionExecutor() { return completionExecutor; }
 	public int getMaxConnections() { return maxConnections; }
 	public Duration getConnectionIdleTimeout() { return connectionIdleTimeout; }
+	public Map<String, CachePolicy> getCachePolicies() { return cachePolicies; }
+	public int getCacheMaxEntries() { return cacheMaxEntries; }
+	public double getHotKeyThreshold() { return hotKeyThreshold; }
+	public int getBackgroundRequestReserve() { return backgroundRequestReserve; }
+	public CircuitBreakerConfig getCircuitBreaker() { return circuitBreaker; }
+	public int getBulkheadSize() { return bulkheadSize; }
+	public HedgePolicy getHedgePolicy() { return hedgePolicy; }
+	public RateBudgetCoordinator getRateBudget() { return rateBudget; }
+	public Path getDiskCacheDirectory() { return diskCacheDirectory; }
 
 	/**
 	 * Builder for WapiHttpClientConfig.
@@ -43,12 +85,23 @@ public class WapiHttpClientConfig {
 	public static class Builder {
 		private Duration connectTimeout = Duration.ofSeconds(10);
 		private Duration requestTimeout = Duration.ofSeconds(30);
-		private int maxRetryAttempts = 3;
+		private int maxRetryAttempts = 0;
 		private Duration retryDelay = Duration.ofSeconds(1);
 		private boolean enableLogging = false;
 		private Executor executor = null;
+		private boolean useVirtualThreads = false;
+		private Executor completionExecutor = null;
 		private int maxConnections = 10;
-		private Duration connectionIdleTimeout = Duration.ofMinutes(5);
+		private Duration connectionIdleTimeout = null;
+		private final Map<String, CachePolicy> cachePolicies = new LinkedHashMap<>();
+		private int cacheMaxEntries = 512;
+		private double hotKeyThreshold = 3;
+		private int backgroundRequestReserve = 20;
+		private CircuitBreakerConfig circuitBreaker = CircuitBreakerConfig.builder().build();
+		private int bulkheadSize = 0;
+		private HedgePolicy hedgePolicy = null;
+		private RateBudgetCoordinator rateBudget = null;
+		private Path diskCacheDirectory = null;
 
 		public Builder connectTimeout(Duration connectTimeout) {
 			this.connectTimeout = connectTimeout;
@@ -60,6 +113,11 @@ public class WapiHttpClientConfig {
 			return this;
 		}
 
+		/**
+		 * Retries foreground requests failing with an I/O error, a server error or a rate limit, up to this many times,
+		 * with an exponential back-off from {@link #retryDelay(Duration)} or the rate limit reset.
+		 * Retries only start within the request timeout of the first attempt. Zero, the default, disables retries.
+		 */
 		public Builder maxRetryAttempts(int maxRetryAttempts) {
 			this.maxRetryAttempts = Math.max(0, Math.min(maxRetryAttempts, 10));
 			return this;
@@ -80,16 +138,116 @@ public class WapiHttpClientConfig {
 			return this;
 		}
 
+		/**
+		 * Runs requests on a virtual thread per task instead of the common pool.
+		 * Ignored when a custom {@link #executor(Executor)} is set.
+		 */
+		public Builder useVirtualThreads(boolean useVirtualThreads) {
+			this.useVirtualThreads = useVirtualThreads;
+			return this;
+		}
+
+		/**
+		 * Completes every returned future on this executor, so that dependent stages
+		 * run there, e.g. {@link com.hezaerd.wapi.dispatch.Dispatchers#clientThread()}.
+		 * By default futures complete on the thread that finished the request.
+		 * With a game thread executor, the blocking facade ({@code WapiClient.sync()}) cannot be used
+		 * from that game thread, and fails fast there.
+		 */
+		public Builder completionExecutor(Executor completionExecutor) {
+			this.completionExecutor = completionExecutor;
+			return this;
+		}
+
 		public Builder maxConnections(int maxConnections) {
 			this.maxConnections = Math.max(1, maxConnections);
 			return this;
 		}
 
+		/**
+		 * Keep-alive of idle pooled connections. The JDK HttpClient only reads it from JVM-wide system properties,
+		 * so setting it affects every HttpClient in the process, including other mods', and only takes effect
+		 * if no client was created before and the properties are not already set.
+		 * Unset by default, leaving the JDK default.
+		 */
 		public Builder connectionIdleTimeout(Duration connectionIdleTimeout) {
 			this.connectionIdleTimeout = connectionIdleTimeout;
 			return this;
 		}
 
+		/**
+		 * Caches responses of endpoints starting with the given prefix (e.g. "/v3/guild/").
+		 * When several prefixes match, the longest one applies. Endpoints without a policy are not cached.
+		 */
+		public Builder cachePolicy(String endpointPrefix, CachePolicy policy) {
+			this.cachePolicies.put(endpointPrefix, policy);
+			return this;
+		}
+
+		public Builder cacheMaxEntries(int cacheMaxEntries) {
+			this.cacheMaxEntries = Math.max(1, cacheMaxEntries);
+			return this;
+		}
+
+		/**
+		 * Decayed number of accesses (with a one minute half-life) from which a cached key
+		 * is refreshed ahead of expiry.
+		 */
+		public Builder hotKeyThreshold(double hotKeyThreshold) {
+			this.hotKeyThreshold = Math.max(0, hotKeyThreshold);
+			return this;
+		}
+
+		/**
+		 * Number of remaining rate limit requests kept for foreground calls.
+		 * Background refreshes only run while more requests than this remain.
+		 */
+		public Builder backgroundRequestReserve(int backgroundRequestReserve) {
+			this.backgroundRequestReserve = Math.max(0, backgroundRequestReserve);
+			return this;
+		}
+
+		public Builder circuitBreaker(CircuitBreakerConfig circuitBreaker) {
+			this.circuitBreaker = circuitBreaker;
+			return this;
+		}
+
+		/**
+		 * Maximum number of concurrent requests per endpoint family (e.g. "/v3/guild").
+		 * Defaults to half of {@link #maxConnections(int)}, so a stalled family always
+		 * leaves connections to the others.
+		 */
+		public Builder bulkheadSize(int bulkheadSize) {
+			this.bulkheadSize = Math.max(0, bulkheadSize);
+			return this;
+		}
+
+		/**
+		 * Enables hedged requests for latency-critical endpoints. Disabled by default.
+		 */
+		public Builder hedging(HedgePolicy hedgePolicy) {
+			this.hedgePolicy = hedgePolicy;
+			return this;
+		}
+
+		/**
+		 * Shares the rate limit with other clients (in this process or others on the host)
+		 * through the given coordinator. By default each client only follows the API headers.
+		 */
+		public Builder rateBudget(RateBudgetCoordinator rateBudget) {
+			this.rateBudget = rateBudget;
+			return this;
+		}
+
+		/**
+		 * Keeps the responses of persistent cache policies in this directory, so they survive restarts.
+		 * See {@link CachePolicy.Builder#persistent(boolean)}. Disabled by default.
+		 */
+		public Builder diskCache(Path directory) {
+			this.diskCacheDirectory = directory;
+			return this;
+		}
+
 		public WapiHttpClientConfig build() {
 			return new WapiHttpClientConfig(this);
 		}
@@ -0,0 +1,118 @@
+package com.hezaerd.wapi.dispatch;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Completion executors for API responses.
+ * By default a response completes on whichever thread finished the request;
+ * these executors let callers choose where their continuations run instead.
+ *
+ * <pre>{@code
+ * Dispatchers.deliverOn(wapi.player().get(name), Dispatchers.clientThread())
+ *     .thenAccept(response -> updateScreen(response));
+ * }</pre>
+ */
+public final class Dispatchers {
+	private static final TickExecutor CLIENT_THREAD = new TickExecutor("client thread", 64, Duration.ofMillis(2));
+	private static final TickExecutor SERVER_THREAD = new TickExecutor("server thread", 64, Duration.ofMillis(2));
+
+	private Dispatchers() {
+		throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+	}
+
+	/**
+	 * Runs continuations on the Minecraft client thread, at the end of each client tick,
+	 * within a per-tick budget. Tasks only run on physical clients.
+	 *
+	 * @return The client thread executor
+	 */
+	public static TickExecutor clientThread() {
+		return CLIENT_THREAD;
+	}
+
+	/**
+	 * Runs continuations on the Minecraft server thread, at the end of each server tick,
+	 * within a per-tick budget. Tasks only run while a server (integrated or dedicated) is running.
+	 *
+	 * @return The server thread executor
+	 */
+	public static TickExecutor serverThread() {
+		return SERVER_THREAD;
+	}
+
+	/**
+	 * Runs continuations on a shared pool of daemon worker threads,
+	 * for heavy processing that should stay off the game threads.
+	 *
+	 * @return The worker pool executor
+	 */
+	public static Executor worker() {
+		return WorkerPool.INSTANCE;
+	}
+
+	/**
+	 * Runs continuations directly on the thread completing the request.
+	 *
+	 * @return The direct executor
+	 */
+	public static Executor direct() {
+		return Runnable::run;
+	}
+
+	/**
+	 * Returns a future completing on the given executor once the source completes.
+	 * Dependent stages without an explicit executor then run on that executor too.
+	 * Cancelling the returned future cancels the source, aborting its request.
+	 *
+	 * @param future The source future
+	 * @param executor The executor to complete on
+	 * @param <T> The type of the result
+	 * @return A future completing on the executor
+	 */
+	public static <T> CompletableFuture<T> deliverOn(CompletableFuture<T> future, Executor executor) {
+		return propagateCancel(future.thenApplyAsync(Function.identity(), executor), future);
+	}
+
+	/**
+	 * Cancels the source once the derived future is cancelled. Stages such as {@code thenApply}
+	 * do not forward cancellation, so futures derived one to one from a request use this to keep
+	 * aborting it. Futures shared by several callers must not be linked this way.
+	 *
+	 * @param derived The future returned to the caller
+	 * @param source The future it was derived from
+	 * @param <T> The type of the result
+	 * @return The derived future
+	 */
+	public static <T> CompletableFuture<T> propagateCancel(CompletableFuture<T> derived, Future<?> source) {
+		derived.whenComplete((value, error) -> {
+			if (derived.isCancelled()) {
+				source.cancel(true);
+			}
+		});
+		return derived;
+	}
+
+	/**
+	 * Lazily created worker pool, sized to the available processors minus the game threads.
+	 */
+	private static final class WorkerPool {
+		private static final ExecutorService INSTANCE = create();
+
+		private static ExecutorService create() {
+			int threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 2);
+			AtomicInteger counter = new AtomicInteger();
+			return Executors.newFixedThreadPool(threads, task -> {
+				Thread thread = new Thread(task, "wapi-worker-" + counter.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package com.hezaerd.wapi.dispatch;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+import com.hezaerd.wapi.utils.ModLib;
+
+/**
+ * Executor whose tasks run on a game thread, drained once per tick.
+ * Each tick runs at most {@code maxTasksPerTick} tasks and stops early once the
+ * time budget is spent, so a burst of responses is spread over several ticks
+ * instead of causing a frame-time spike. Remaining tasks run on the next ticks.
+ */
+public final class TickExecutor implements Executor {
+	private final String name;
+	private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+	private volatile int maxTasksPerTick;
+	private volatile long budgetNanos;
+
+	// The thread draining the tasks, known after its first tick
+	private volatile Thread owner;
+
+	/**
+	 * Creates a tick executor.
+	 *
+	 * @param name The name used in log messages
+	 * @param maxTasksPerTick The maximum number of tasks run per tick
+	 * @param budget The maximum time spent running tasks per tick
+	 */
+	public TickExecutor(String name, int maxTasksPerTick, Duration budget) {
+		this.name = name;
+		setBudget(maxTasksPerTick, budget);
+	}
+
+	/**
+	 * Changes the per-tick budget.
+	 *
+	 * @param maxTasksPerTick The maximum number of tasks run per tick
+	 * @param budget The maximum time spent running tasks per tick
+	 */
+	public void setBudget(int maxTasksPerTick, Duration budget) {
+		this.maxTasksPerTick = Math.max(1, maxTasksPerTick);
+		this.budgetNanos = Math.max(0, budget.toNanos());
+	}
+
+	@Override
+	public void execute(Runnable task) {
+		tasks.add(Objects.requireNonNull(task, "task"));
+	}
+
+	/**
+	 * Runs queued tasks within the per-tick budget.
+	 * Must be called from the thread the tasks belong to, once per tick.
+	 * At least one task runs per tick, so the queue always makes progress.
+	 *
+	 * @return The number of tasks that ran
+	 */
+	public int runTick() {
+		owner = Thread.currentThread();
+		long deadline = System.nanoTime() + budgetNanos;
+		int limit = maxTasksPerTick;
+		int ran = 0;
+
+		Runnable task;
+		while (ran < limit && (task = tasks.poll()) != null) {
+			try {
+				task.run();
+			} catch (Throwable t) {
+				ModLib.LOGGER.error("Uncaught exception in {} task", name, t);
+			}
+			ran++;
+
+			if (System.nanoTime() - deadline >= 0) {
+				break;
+			}
+		}
+		return ran;
+	}
+
+	/**
+	 * Checks if the calling thread is the one running the tasks. Blocking it on a task
+	 * of this executor would wait forever, as the task only runs on its next tick.
+	 *
+	 * @return true if called from the thread that ran the last tick
+	 */
+	public boolean isOwnerThread() {
+		return owner == Thread.currentThread();
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Gets the number of tasks waiting for a tick.
+	 *
+	 * @return The number of pending tasks
+	 */
+	public int getPendingCount() {
+		return tasks.size();
+	}
+}
@@ -1,5 +1,7 @@
 package com.hezaerd.wapi.exceptions;
 
+import java.io.IOException;
+
 /**
  * Exception thrown when network-related errors occur.
  * This includes connection timeouts, network failures, and HTTP errors.
@@ -50,6 +52,21 @@ public class NetworkException extends WynnApiException {
 		this.method = method;
 	}
 
+	/**
+	 * Creates a new NetworkException for a failed GET request, without a stack trace.
+	 *
+	 * @param message The error message
+	 * @param cause The cause of the exception, or null
+	 * @param statusCode The HTTP status code, or -1 if no response was received
+	 * @param url The URL that was being accessed, or null if the request was not sent
+	 * @param endpoint The endpoint family of the request, or null
+	 */
+	public NetworkException(String message, Throwable cause, int statusCode, String url, String endpoint) {
+		super(message, cause, statusCode, endpoint, false);
+		this.url = url;
+		this.method = "GET";
+	}
+
 	/**
 	 * Gets the URL that was being accessed.
 	 *
@@ -68,8 +85,22 @@ public class NetworkException extends WynnApiException {
 		return method;
 	}
 
+	/**
+	 * I/O failures such as timeouts or reset connections are retryable, as are server errors.
+	 */
+	@Override
+	public boolean isRetryable() {
+		return getCause() instanceof IOException || super.isRetryable();
+	}
+
 	@Override
 	public String getMessage() {
+		if (url == null) {
+			return super.getMessage();
+		}
+		if (getStatusCode() > 0) {
+			return String.format("Network error for %s %s (HTTP %d): %s", method, url, getStatusCode(), super.getMessage());
+		}
 		return String.format("Network error for %s %s: %s", method, url, super.getMessage());
 	}
 }
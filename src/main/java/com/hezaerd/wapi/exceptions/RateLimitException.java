@@ -22,6 +22,19 @@ public class RateLimitException extends WynnApiException {
 		this.remainingRequests = remainingRequests;
 	}
 
+	/**
+	 * Creates a new RateLimitException for a rejected request, without a stack trace.
+	 *
+	 * @param resetTime The time when the rate limit resets (in seconds)
+	 * @param remainingRequests The number of remaining requests
+	 * @param endpoint The endpoint family of the request
+	 */
+	public RateLimitException(long resetTime, int remainingRequests, String endpoint) {
+		super(null, null, 429, endpoint, false);
+		this.resetTime = resetTime;
+		this.remainingRequests = remainingRequests;
+	}
+
 	/**
 	 * Gets the time when the rate limit resets.
 	 *
@@ -49,6 +62,11 @@ public class RateLimitException extends WynnApiException {
 		return resetTime * 1000;
 	}
 
+	@Override
+	public long getRetryAfterMillis() {
+		return getTimeUntilReset();
+	}
+
 	@Override
 	public String getMessage() {
 		return String.format("Rate limit exceeded. Reset in %d seconds. Remaining requests: %d",
@@ -16,7 +16,22 @@ public class ResourceNotFoundException extends WynnApiException {
 	 * @param resourceId The identifier of the resource
 	 */
 	public ResourceNotFoundException(String resourceType, String resourceId) {
-		super(String.format("%s '%s' not found", resourceType, resourceId), 404);
+		super(null, 404);
+		this.resourceType = resourceType;
+		this.resourceId = resourceId;
+	}
+
+	/**
+	 * Creates a new ResourceNotFoundException for a request answered with 404.
+	 * The message is only formatted when asked for.
+	 *
+	 * @param resourceType The type of resource
+	 * @param resourceId The identifier of the resource
+	 * @param endpoint The endpoint family of the request
+	 * @param writableStackTrace Whether the stack trace is captured
+	 */
+	public ResourceNotFoundException(String resourceType, String resourceId, String endpoint, boolean writableStackTrace) {
+		super(null, null, 404, endpoint, writableStackTrace);
 		this.resourceType = resourceType;
 		this.resourceId = resourceId;
 	}
@@ -51,4 +66,10 @@ public class ResourceNotFoundException extends WynnApiException {
 	public String getResourceId() {
 		return resourceId;
 	}
+
+	@Override
+	public String getMessage() {
+		String message = super.getMessage();
+		return message != null ? message : String.format("%s '%s' not found", resourceType, resourceId);
+	}
 }
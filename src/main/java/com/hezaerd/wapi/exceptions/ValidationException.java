@@ -32,6 +32,17 @@ public class ValidationException extends WynnApiException {
 		this.validationErrors = new ArrayList<>(validationErrors);
 	}
 
+	/**
+	 * Creates a new ValidationException for a request rejected with 400, without a stack trace.
+	 *
+	 * @param message The error message
+	 * @param endpoint The endpoint family of the request
+	 */
+	public ValidationException(String message, String endpoint) {
+		super(message, null, 400, endpoint, false);
+		this.validationErrors = new ArrayList<>();
+	}
+
 	/**
 	 * Adds a validation error.
 	 *
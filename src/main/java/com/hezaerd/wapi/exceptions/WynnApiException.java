@@ -8,6 +8,7 @@ public class WynnApiException extends RuntimeException {
 
 	private final int statusCode;
 	private final String requestId;
+	private final String endpoint;
 
 	/**
 	 * Creates a new WynnApiException.
@@ -18,6 +19,7 @@ public class WynnApiException extends RuntimeException {
 		super(message);
 		this.statusCode = -1;
 		this.requestId = null;
+		this.endpoint = null;
 	}
 
 	/**
@@ -30,6 +32,7 @@ public class WynnApiException extends RuntimeException {
 		super(message, cause);
 		this.statusCode = -1;
 		this.requestId = null;
+		this.endpoint = null;
 	}
 
 	/**
@@ -42,6 +45,7 @@ public class WynnApiException extends RuntimeException {
 		super(message);
 		this.statusCode = statusCode;
 		this.requestId = null;
+		this.endpoint = null;
 	}
 
 	/**
@@ -55,6 +59,25 @@ public class WynnApiException extends RuntimeException {
 		super(message);
 		this.statusCode = statusCode;
 		this.requestId = requestId;
+		this.endpoint = null;
+	}
+
+	/**
+	 * Creates a new WynnApiException describing a failed request.
+	 * Failures returned in responses rather than thrown can skip the stack trace,
+	 * which is most of the cost of creating an exception, and be shared between requests.
+	 *
+	 * @param message The error message
+	 * @param cause The cause of the exception, or null
+	 * @param statusCode The HTTP status code, or -1 if no response was received
+	 * @param endpoint The endpoint family of the request (e.g., "/v3/player"), or null
+	 * @param writableStackTrace Whether the stack trace and suppressed exceptions are recorded
+	 */
+	public WynnApiException(String message, Throwable cause, int statusCode, String endpoint, boolean writableStackTrace) {
+		super(message, cause, writableStackTrace, writableStackTrace);
+		this.statusCode = statusCode;
+		this.requestId = null;
+		this.endpoint = endpoint;
 	}
 
 	/**
@@ -75,6 +98,15 @@ public class WynnApiException extends RuntimeException {
 		return requestId;
 	}
 
+	/**
+	 * Gets the endpoint family of the failed request, a template shared by all its URLs.
+	 *
+	 * @return The endpoint family (e.g., "/v3/player"), or null if unknown
+	 */
+	public String getEndpoint() {
+		return endpoint;
+	}
+
 	/**
 	 * Checks if this is a client error (4xx).
 	 *
@@ -101,4 +133,23 @@ public class WynnApiException extends RuntimeException {
 	public boolean isRateLimitError() {
 		return statusCode == 429;
 	}
+
+	/**
+	 * Checks if repeating the request may succeed: server errors and rate limits are transient,
+	 * other client errors are not.
+	 *
+	 * @return true if the request can be retried
+	 */
+	public boolean isRetryable() {
+		return isServerError() || isRateLimitError();
+	}
+
+	/**
+	 * Gets how long to wait before retrying, as told by the API.
+	 *
+	 * @return The delay in milliseconds, or 0 if the API did not tell
+	 */
+	public long getRetryAfterMillis() {
+		return 0;
+	}
 }
@@ -0,0 +1,57 @@
+package com.hezaerd.wapi.json;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free pool deduplicating equal values, such as the guild names,
+ * server names and UUIDs repeated across thousands of decoded members.
+ * Each value maps to a single slot by hash; a colliding value replaces the previous one,
+ * so the pool never grows and stale values simply age out.
+ *
+ * @param <T> The pooled type, with value-based equals and hashCode
+ */
+public final class InternPool<T> {
+	private final AtomicReferenceArray<T> slots;
+	private final int mask;
+
+	/**
+	 * Creates a pool.
+	 *
+	 * @param capacity The number of slots, rounded up to a power of two
+	 */
+	public InternPool(int capacity) {
+		int size = Math.max(16, Integer.highestOneBit(capacity - 1) << 1);
+		this.slots = new AtomicReferenceArray<>(size);
+		this.mask = size - 1;
+	}
+
+	/**
+	 * Gets the pooled instance equal to the value, pooling the value if there is none.
+	 *
+	 * @param value The value, may be null
+	 * @return The pooled instance, or null for null
+	 */
+	public T intern(T value) {
+		if (value == null) {
+			return null;
+		}
+
+		int hash = value.hashCode();
+		int index = (hash ^ (hash >>> 16)) & mask;
+		T pooled = slots.get(index);
+		if (value.equals(pooled)) {
+			return pooled;
+		}
+		slots.set(index, value);
+		return value;
+	}
+
+	/**
+	 * Gets the number of slots.
+	 *
+	 * @return The capacity of the pool
+	 */
+	public int capacity() {
+		return slots.length();
+	}
+}
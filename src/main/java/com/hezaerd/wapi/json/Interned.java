@@ -0,0 +1,108 @@
+package com.hezaerd.wapi.json;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Gson adapters that deduplicate repeated values while decoding, through shared {@link InternPool}s.
+ * The hand-written model readers ({@code ModelAdapters}) delegate to them, or intern through
+ * {@link #STRINGS} directly.
+ */
+public final class Interned {
+	/** Pool of decoded strings such as names, prefixes and servers. */
+	public static final InternPool<String> STRINGS = new InternPool<>(8192);
+
+	/** Pool of decoded UUIDs. */
+	public static final InternPool<UUID> UUIDS = new InternPool<>(8192);
+
+	private Interned() {
+		throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+	}
+
+	/**
+	 * Decodes a list of strings through the shared pool.
+	 */
+	public static final class StringListAdapter extends TypeAdapter<List<String>> {
+		@Override
+		public List<String> read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			List<String> values = new ArrayList<>();
+			in.beginArray();
+			while (in.hasNext()) {
+				values.add(readString(in));
+			}
+			in.endArray();
+			return values;
+		}
+
+		@Override
+		public void write(JsonWriter out, List<String> values) throws IOException {
+			if (values == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginArray();
+			for (String value : values) {
+				out.value(value);
+			}
+			out.endArray();
+		}
+	}
+
+	/**
+	 * Decodes a UUID, with or without dashes, into its two longs through the shared pool.
+	 */
+	public static final class UuidAdapter extends TypeAdapter<UUID> {
+		@Override
+		public UUID read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			String value = in.nextString();
+			try {
+				return UUIDS.intern(parseUuid(value));
+			} catch (IllegalArgumentException e) {
+				throw new JsonSyntaxException("Invalid UUID '" + value + "' at " + in.getPreviousPath(), e);
+			}
+		}
+
+		@Override
+		public void write(JsonWriter out, UUID value) throws IOException {
+			out.value(value != null ? value.toString() : null);
+		}
+	}
+
+	private static String readString(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		return STRINGS.intern(in.nextString());
+	}
+
+	/**
+	 * Parses a UUID in its dashed or compact (Mojang) form.
+	 */
+	private static UUID parseUuid(String value) {
+		if (value.length() == 32) {
+			return new UUID(Long.parseUnsignedLong(value.substring(0, 16), 16),
+				Long.parseUnsignedLong(value.substring(16), 16));
+		}
+		return UUID.fromString(value);
+	}
+}
@@ -0,0 +1,92 @@
+package com.hezaerd.wapi.json;
+
+import java.io.IOException;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Null-tolerant reads for hand-written type adapters, matching Gson's reflective binding:
+ * a JSON null leaves primitives at their default and boxed values at null.
+ */
+public final class JsonReads {
+	private JsonReads() {
+		throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+	}
+
+	public static String string(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		return in.nextString();
+	}
+
+	/**
+	 * Reads a string through the shared {@link Interned#STRINGS} pool.
+	 */
+	public static String internedString(JsonReader in) throws IOException {
+		return Interned.STRINGS.intern(string(in));
+	}
+
+	public static int intValue(JsonReader in, int fallback) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return fallback;
+		}
+		return in.nextInt();
+	}
+
+	public static long longValue(JsonReader in, long fallback) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return fallback;
+		}
+		return in.nextLong();
+	}
+
+	public static boolean booleanValue(JsonReader in, boolean fallback) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return fallback;
+		}
+		return in.nextBoolean();
+	}
+
+	public static Integer integer(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		return in.nextInt();
+	}
+
+	public static Long boxedLong(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		return in.nextLong();
+	}
+
+	public static Boolean boxedBoolean(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		return in.nextBoolean();
+	}
+
+	/**
+	 * Consumes a JSON null.
+	 *
+	 * @return true if the next value was null and was consumed
+	 */
+	public static boolean skipNull(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return true;
+		}
+		return false;
+	}
+}
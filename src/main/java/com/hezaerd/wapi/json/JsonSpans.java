@@ -0,0 +1,61 @@
+package com.hezaerd.wapi.json;
+
+import java.io.IOException;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Streaming helpers over spans of a JSON document.
+ */
+public final class JsonSpans {
+	private JsonSpans() {
+		throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+	}
+
+	/**
+	 * Copies the next value of a reader, with everything nested in it, to a writer
+	 * without building any intermediate tree.
+	 *
+	 * @param in The reader, positioned before a value
+	 * @param out The writer
+	 * @throws IOException If reading or writing fails
+	 */
+	public static void copy(JsonReader in, JsonWriter out) throws IOException {
+		int depth = 0;
+		do {
+			switch (in.peek()) {
+				case BEGIN_OBJECT -> {
+					in.beginObject();
+					out.beginObject();
+					depth++;
+				}
+				case END_OBJECT -> {
+					in.endObject();
+					out.endObject();
+					depth--;
+				}
+				case BEGIN_ARRAY -> {
+					in.beginArray();
+					out.beginArray();
+					depth++;
+				}
+				case END_ARRAY -> {
+					in.endArray();
+					out.endArray();
+					depth--;
+				}
+				case NAME -> out.name(in.nextName());
+				case STRING -> out.value(in.nextString());
+				// Numbers are copied verbatim, keeping their precision
+				case NUMBER -> out.jsonValue(in.nextString());
+				case BOOLEAN -> out.value(in.nextBoolean());
+				case NULL -> {
+					in.nextNull();
+					out.nullValue();
+				}
+				case END_DOCUMENT -> throw new IOException("Unexpected end of document");
+			}
+		} while (depth > 0);
+	}
+}
@@ -0,0 +1,157 @@
+package com.hezaerd.wapi.json;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * A JSON value kept as its raw text and decoded on first access.
+ * Heavy sub-objects of a response (e.g. the characters of a player) are only copied
+ * as text while the response is read, so callers that never look at them
+ * never pay for their object graph.
+ *
+ * @param <T> The decoded type
+ */
+@JsonAdapter(LazyJson.Factory.class)
+public final class LazyJson<T> {
+	private final TypeAdapter<T> adapter;
+	private volatile String json;
+	private volatile T value;
+
+	private LazyJson(TypeAdapter<T> adapter, String json) {
+		this.adapter = adapter;
+		this.json = json;
+	}
+
+	/**
+	 * Gets the value, decoding it on the first call.
+	 *
+	 * @return The decoded value
+	 * @throws JsonParseException If the raw JSON does not match the type
+	 */
+	public T get() {
+		if (json == null) {
+			return value;
+		}
+
+		synchronized (this) {
+			String raw = json;
+			if (raw != null) {
+				try {
+					value = adapter.fromJson(raw);
+				} catch (IOException e) {
+					throw new JsonParseException(e);
+				}
+				json = null;
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * Checks if the value was decoded already.
+	 *
+	 * @return true if {@link #get()} was called
+	 */
+	public boolean isMaterialized() {
+		return json == null;
+	}
+
+	/**
+	 * Gets a 64-bit hash of the raw JSON, so that unchanged values can be recognized without decoding them.
+	 *
+	 * @return The hash, never 0, or 0 if the value was decoded already and its raw JSON dropped
+	 */
+	public long getRawHash() {
+		String raw = json;
+		if (raw == null) {
+			return 0;
+		}
+
+		// FNV-1a over the UTF-16 units
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < raw.length(); i++) {
+			hash = (hash ^ raw.charAt(i)) * 0x100000001b3L;
+		}
+		return hash != 0 ? hash : 1;
+	}
+
+	/**
+	 * Gets the value of a possibly absent lazy field.
+	 *
+	 * @param lazy The lazy field, may be null
+	 * @param <T> The decoded type
+	 * @return The decoded value, or null if the field was absent
+	 */
+	public static <T> T get(LazyJson<T> lazy) {
+		return lazy != null ? lazy.get() : null;
+	}
+
+	/**
+	 * Reads fields declared as {@code LazyJson<T>} by copying the raw value, and writes them
+	 * back as-is until they are decoded.
+	 */
+	static final class Factory implements TypeAdapterFactory {
+		@Override
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		public <A> TypeAdapter<A> create(Gson gson, TypeToken<A> type) {
+			if (type.getRawType() != LazyJson.class) {
+				return null;
+			}
+
+			Type valueType = type.getType() instanceof ParameterizedType parameterized
+				? parameterized.getActualTypeArguments()[0]
+				: Object.class;
+			TypeAdapter<?> valueAdapter = gson.getAdapter(TypeToken.get(valueType));
+			return (TypeAdapter<A>) new Adapter(valueAdapter);
+		}
+	}
+
+	private static final class Adapter<T> extends TypeAdapter<LazyJson<T>> {
+		private final TypeAdapter<T> valueAdapter;
+
+		Adapter(TypeAdapter<T> valueAdapter) {
+			this.valueAdapter = valueAdapter;
+		}
+
+		@Override
+		public LazyJson<T> read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			StringWriter raw = new StringWriter();
+			JsonWriter out = new JsonWriter(raw);
+			JsonSpans.copy(in, out);
+			out.flush();
+			return new LazyJson<>(valueAdapter, raw.toString());
+		}
+
+		@Override
+		public void write(JsonWriter out, LazyJson<T> lazy) throws IOException {
+			if (lazy == null) {
+				out.nullValue();
+				return;
+			}
+
+			String raw = lazy.json;
+			if (raw != null) {
+				out.jsonValue(raw);
+			} else {
+				valueAdapter.write(out, lazy.value);
+			}
+		}
+	}
+}
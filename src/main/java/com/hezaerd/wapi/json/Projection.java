@@ -0,0 +1,115 @@
+package com.hezaerd.wapi.json;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Selects the fields of a response to decode; every other subtree is skipped
+ * while streaming, without being parsed into strings or objects.
+ * Paths use the JSON names and may be dotted to select inside a field
+ * (e.g. "members.owner"); a path applies to every element of an array.
+ */
+public final class Projection {
+	// Selected names, mapped to the projection of their value or null to keep the whole value
+	private final Map<String, Projection> fields = new LinkedHashMap<>();
+
+	private Projection() {
+	}
+
+	/**
+	 * Creates a projection of the given paths.
+	 *
+	 * @param paths JSON field names, optionally dotted (e.g. "level", "members.owner")
+	 * @return The projection
+	 */
+	public static Projection of(String... paths) {
+		Projection projection = new Projection();
+		for (String path : paths) {
+			projection.add(path);
+		}
+		return projection;
+	}
+
+	private void add(String path) {
+		int dot = path.indexOf('.');
+		String name = dot < 0 ? path : path.substring(0, dot);
+
+		if (dot < 0) {
+			// The whole value wins over any narrower path
+			fields.put(name, null);
+			return;
+		}
+		if (fields.containsKey(name) && fields.get(name) == null) {
+			return;
+		}
+		fields.computeIfAbsent(name, n -> new Projection()).add(path.substring(dot + 1));
+	}
+
+	/**
+	 * Gets the selected top-level field names.
+	 *
+	 * @return The field names, in the order they were given
+	 */
+	public Set<String> getFields() {
+		return fields.keySet();
+	}
+
+	/**
+	 * Reads the next value of a reader, keeping only the selected fields.
+	 *
+	 * @param in The reader, positioned before a value
+	 * @return The pruned value
+	 * @throws IOException If reading fails
+	 */
+	public JsonElement read(JsonReader in) throws IOException {
+		JsonToken token = in.peek();
+		if (token == JsonToken.BEGIN_ARRAY) {
+			JsonArray array = new JsonArray();
+			in.beginArray();
+			while (in.hasNext()) {
+				array.add(read(in));
+			}
+			in.endArray();
+			return array;
+		}
+		if (token != JsonToken.BEGIN_OBJECT) {
+			// A path reaching into a scalar selects nothing more than the scalar itself
+			return JsonParser.parseReader(in);
+		}
+
+		JsonObject object = new JsonObject();
+		in.beginObject();
+		while (in.hasNext()) {
+			String name = in.nextName();
+			if (!fields.containsKey(name)) {
+				in.skipValue();
+				continue;
+			}
+
+			Projection nested = fields.get(name);
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				object.add(name, JsonNull.INSTANCE);
+			} else {
+				object.add(name, nested == null ? JsonParser.parseReader(in) : nested.read(in));
+			}
+		}
+		in.endObject();
+		return object;
+	}
+
+	@Override
+	public String toString() {
+		return "Projection" + fields;
+	}
+}
@@ -0,0 +1,62 @@
+package com.hezaerd.wapi.leaderboard;
+
+import com.hezaerd.wapi.models.LeaderboardTable;
+
+/**
+ * The changes of a leaderboard since its previous snapshot, as columns aligned
+ * with the rows of the current table.
+ */
+public class LeaderboardDelta {
+	/** Rank change of rows that were not on the previous snapshot. */
+	public static final int NEW_ENTRY = Integer.MIN_VALUE;
+
+	private final LeaderboardTable current;
+	private final long timestamp;
+	private final long previousTimestamp;
+	private final int[] rankChanges;
+	private final double[] scorePerHour;
+
+	LeaderboardDelta(LeaderboardTable current, long timestamp, long previousTimestamp,
+			int[] rankChanges, double[] scorePerHour) {
+		this.current = current;
+		this.timestamp = timestamp;
+		this.previousTimestamp = previousTimestamp;
+		this.rankChanges = rankChanges;
+		this.scorePerHour = scorePerHour;
+	}
+
+	// Getters
+	public LeaderboardTable getTable() { return current; }
+	public long getTimestamp() { return timestamp; }
+	public long getPreviousTimestamp() { return previousTimestamp; }
+
+	/**
+	 * Gets how many places a row climbed since the previous snapshot.
+	 *
+	 * @param row The row in the current table
+	 * @return Positive when climbing, negative when falling, {@link #NEW_ENTRY} if the row is new
+	 */
+	public int getRankChange(int row) {
+		return rankChanges[row];
+	}
+
+	/**
+	 * Checks if a row entered the leaderboard since the previous snapshot.
+	 *
+	 * @param row The row in the current table
+	 * @return true if the row was not on the previous snapshot
+	 */
+	public boolean isNewEntry(int row) {
+		return rankChanges[row] == NEW_ENTRY;
+	}
+
+	/**
+	 * Gets the score velocity of a row since the previous snapshot.
+	 *
+	 * @param row The row in the current table
+	 * @return The score gained per hour, 0 for new rows or the first snapshot
+	 */
+	public double getScorePerHour(int row) {
+		return scorePerHour[row];
+	}
+}
@@ -0,0 +1,193 @@
+package com.hezaerd.wapi.leaderboard;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.hezaerd.wapi.models.ApiResponse;
+import com.hezaerd.wapi.models.LeaderboardTable;
+import com.hezaerd.wapi.modules.LeaderboardModule;
+
+/**
+ * Keeps successive snapshots of leaderboards and the changes between them.
+ * Each new snapshot is diffed once against the previous one when it is recorded,
+ * so the latest rank movements and score velocities are always at hand, and movements
+ * over a longer period (e.g. the climbers of the day) only need a single diff.
+ */
+public class LeaderboardHistory {
+	private final int maxSnapshots;
+	private final Map<String, Deque<Snapshot>> snapshots = new HashMap<>();
+	private final Map<String, LeaderboardDelta> latest = new HashMap<>();
+
+	/**
+	 * Creates a history keeping the last 96 snapshots of each leaderboard.
+	 */
+	public LeaderboardHistory() {
+		this(96);
+	}
+
+	/**
+	 * Creates a history.
+	 *
+	 * @param maxSnapshots The number of snapshots kept per leaderboard type
+	 */
+	public LeaderboardHistory(int maxSnapshots) {
+		this.maxSnapshots = Math.max(2, maxSnapshots);
+	}
+
+	/**
+	 * Fetches a leaderboard and records it as a new snapshot.
+	 * A response served from the cache that was already recorded is not recorded twice.
+	 *
+	 * @param module The leaderboard module to fetch from
+	 * @param type The leaderboard type
+	 * @return CompletableFuture containing the changes since the previous snapshot
+	 */
+	public CompletableFuture<ApiResponse<LeaderboardDelta>> refresh(LeaderboardModule module, String type) {
+		return module.getTable(type).thenApply(response ->
+			response.map(table -> record(type, table, response.getFetchedAt())));
+	}
+
+	/**
+	 * Records every leaderboard fetched by a sweep, all with the sweep's start time.
+	 *
+	 * @param sweep The sweep
+	 * @return The changes since the previous snapshot, by leaderboard type
+	 */
+	public synchronized Map<String, LeaderboardDelta> record(LeaderboardSweep sweep) {
+		Map<String, LeaderboardDelta> deltas = new LinkedHashMap<>();
+		sweep.getTables().forEach((type, table) -> deltas.put(type, record(type, table, sweep.getStartedAt())));
+		return deltas;
+	}
+
+	/**
+	 * Records a snapshot of a leaderboard.
+	 *
+	 * @param type The leaderboard type
+	 * @param table The leaderboard
+	 * @param timestamp When the leaderboard was fetched, in milliseconds since epoch
+	 * @return The changes since the previous snapshot
+	 */
+	public synchronized LeaderboardDelta record(String type, LeaderboardTable table, long timestamp) {
+		Deque<Snapshot> history = snapshots.computeIfAbsent(type, t -> new ArrayDeque<>());
+		Snapshot previous = history.peekLast();
+		if (previous != null && previous.table == table) {
+			return latest.get(type);
+		}
+
+		LeaderboardDelta delta = diff(previous, table, timestamp);
+		history.addLast(new Snapshot(table, timestamp));
+		while (history.size() > maxSnapshots) {
+			history.removeFirst();
+		}
+
+		latest.put(type, delta);
+		return delta;
+	}
+
+	/**
+	 * Gets the changes recorded with the latest snapshot of a leaderboard.
+	 *
+	 * @param type The leaderboard type
+	 * @return The latest changes, or null if the leaderboard was never recorded
+	 */
+	public synchronized LeaderboardDelta getLatest(String type) {
+		return latest.get(type);
+	}
+
+	/**
+	 * Finds the entries that climbed the most over a period, comparing the latest snapshot
+	 * with the oldest one still within the period.
+	 *
+	 * @param type The leaderboard type
+	 * @param period How far back to compare (e.g. one day)
+	 * @param limit The maximum number of entries returned
+	 * @return The climbers, most places climbed first
+	 */
+	public synchronized List<RankChange> climbers(String type, Duration period, int limit) {
+		Deque<Snapshot> history = snapshots.get(type);
+		if (history == null || history.size() < 2) {
+			return List.of();
+		}
+
+		Snapshot current = history.peekLast();
+		Snapshot base = null;
+		for (Iterator<Snapshot> it = history.iterator(); it.hasNext(); ) {
+			Snapshot snapshot = it.next();
+			if (snapshot != current && current.timestamp - snapshot.timestamp <= period.toMillis()) {
+				base = snapshot;
+				break;
+			}
+		}
+		if (base == null) {
+			return List.of();
+		}
+
+		double hours = Math.max(1, current.timestamp - base.timestamp) / 3_600_000.0;
+		List<RankChange> climbers = new ArrayList<>();
+		LeaderboardTable table = current.table;
+		for (int row = 0; row < table.size(); row++) {
+			int before = base.table.indexOf(table.getName(row));
+			if (before < 0 || base.table.getRank(before) <= table.getRank(row)) {
+				continue;
+			}
+			climbers.add(new RankChange(table.getName(row), table.getRank(row), base.table.getRank(before),
+				table.getScore(row), (table.getScore(row) - base.table.getScore(before)) / hours));
+		}
+
+		climbers.sort(Comparator.comparingInt(RankChange::getPlacesClimbed).reversed());
+		return climbers.size() > limit ? List.copyOf(climbers.subList(0, limit)) : climbers;
+	}
+
+	/**
+	 * Gets the number of snapshots kept for a leaderboard.
+	 *
+	 * @param type The leaderboard type
+	 * @return The snapshot count
+	 */
+	public synchronized int getSnapshotCount(String type) {
+		Deque<Snapshot> history = snapshots.get(type);
+		return history != null ? history.size() : 0;
+	}
+
+	/**
+	 * Drops every snapshot of a leaderboard.
+	 *
+	 * @param type The leaderboard type
+	 */
+	public synchronized void clear(String type) {
+		snapshots.remove(type);
+		latest.remove(type);
+	}
+
+	private static LeaderboardDelta diff(Snapshot previous, LeaderboardTable table, long timestamp) {
+		int[] rankChanges = new int[table.size()];
+		double[] scorePerHour = new double[table.size()];
+		if (previous == null) {
+			return new LeaderboardDelta(table, timestamp, timestamp, rankChanges, scorePerHour);
+		}
+
+		double hours = Math.max(1, timestamp - previous.timestamp) / 3_600_000.0;
+		for (int row = 0; row < table.size(); row++) {
+			int before = previous.table.indexOf(table.getName(row));
+			if (before < 0) {
+				rankChanges[row] = LeaderboardDelta.NEW_ENTRY;
+				continue;
+			}
+			rankChanges[row] = previous.table.getRank(before) - table.getRank(row);
+			scorePerHour[row] = (table.getScore(row) - previous.table.getScore(before)) / hours;
+		}
+		return new LeaderboardDelta(table, timestamp, previous.timestamp, rankChanges, scorePerHour);
+	}
+
+	private record Snapshot(LeaderboardTable table, long timestamp) {
+	}
+}
@@ -0,0 +1,113 @@
+package com.hezaerd.wapi.leaderboard;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.hezaerd.wapi.models.LeaderboardTable;
+import com.hezaerd.wapi.modules.LeaderboardModule;
+
+/**
+ * The result of refreshing several leaderboards together: the tables fetched in this sweep,
+ * the types that failed and how long each type took from the start of the sweep.
+ */
+public class LeaderboardSweep {
+	private final long startedAt;
+	private final Duration duration;
+	private final Map<String, LeaderboardTable> tables;
+	private final Map<String, String> errors;
+	private final Map<String, Duration> timings;
+
+	LeaderboardSweep(long startedAt, Duration duration, Map<String, LeaderboardTable> tables,
+			Map<String, String> errors, Map<String, Duration> timings) {
+		this.startedAt = startedAt;
+		this.duration = duration;
+		this.tables = Collections.unmodifiableMap(tables);
+		this.errors = Collections.unmodifiableMap(errors);
+		this.timings = Collections.unmodifiableMap(timings);
+	}
+
+	/**
+	 * Fetches all the given leaderboards at once, sending no more requests than the
+	 * remaining rate limit budget allows; the types beyond it are reported as skipped.
+	 * A full sweep takes about as long as its slowest request.
+	 *
+	 * @param module The leaderboard module to fetch from
+	 * @param types The leaderboard types
+	 * @param budget The number of requests the sweep may send
+	 * @return CompletableFuture containing the sweep, completing once every request settled
+	 */
+	public static CompletableFuture<LeaderboardSweep> run(LeaderboardModule module, Collection<String> types, int budget) {
+		long startedAt = System.currentTimeMillis();
+		long start = System.nanoTime();
+
+		Map<String, LeaderboardTable> tables = new ConcurrentHashMap<>();
+		Map<String, String> errors = new ConcurrentHashMap<>();
+		Map<String, Duration> timings = new ConcurrentHashMap<>();
+		Map<String, CompletableFuture<?>> calls = new LinkedHashMap<>();
+
+		for (String type : new LinkedHashSet<>(types)) {
+			if (calls.size() >= budget) {
+				errors.put(type, "Skipped: rate limit budget exhausted");
+				continue;
+			}
+
+			calls.put(type, module.getTable(type).handle((response, error) -> {
+				timings.put(type, Duration.ofNanos(System.nanoTime() - start));
+				if (error != null) {
+					errors.put(type, "Request failed: " + error.getMessage());
+				} else if (response.isSuccess()) {
+					tables.put(type, response.getDataOrNull());
+				} else {
+					errors.put(type, response.getError());
+				}
+				return null;
+			}));
+		}
+
+		return CompletableFuture.allOf(calls.values().toArray(CompletableFuture[]::new))
+			.thenApply(done -> new LeaderboardSweep(startedAt, Duration.ofNanos(System.nanoTime() - start),
+				ordered(types, tables), ordered(types, errors), ordered(types, timings)));
+	}
+
+	/**
+	 * Orders a result map like the requested types.
+	 */
+	private static <V> Map<String, V> ordered(Collection<String> types, Map<String, V> values) {
+		Map<String, V> ordered = new LinkedHashMap<>();
+		for (String type : types) {
+			V value = values.get(type);
+			if (value != null) {
+				ordered.put(type, value);
+			}
+		}
+		return ordered;
+	}
+
+	// Getters
+	public long getStartedAt() { return startedAt; }
+	public Duration getDuration() { return duration; }
+	public Map<String, LeaderboardTable> getTables() { return tables; }
+	public Map<String, String> getErrors() { return errors; }
+	public Map<String, Duration> getTimings() { return timings; }
+
+	/**
+	 * Checks if every requested leaderboard was fetched.
+	 *
+	 * @return true if no type failed or was skipped
+	 */
+	public boolean isComplete() {
+		return errors.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return "LeaderboardSweep{tables=" + tables.keySet() + ", errors=" + errors.keySet() +
+				", duration=" + duration.toMillis() + "ms}";
+	}
+}
@@ -0,0 +1,21 @@
+package com.hezaerd.wapi.leaderboard;
+
+/**
+ * The movement of one player or guild on a leaderboard over a period.
+ *
+ * @param name The player or guild name
+ * @param rank The current rank
+ * @param previousRank The rank at the start of the period
+ * @param score The current score
+ * @param scorePerHour The score gained per hour over the period
+ */
+public record RankChange(String name, int rank, int previousRank, long score, double scorePerHour) {
+	/**
+	 * Gets how many places were climbed.
+	 *
+	 * @return Positive when climbing, negative when falling
+	 */
+	public int getPlacesClimbed() {
+		return previousRank - rank;
+	}
+}
@@ -0,0 +1,122 @@
+package com.hezaerd.wapi.models;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.hezaerd.wapi.json.JsonReads;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * The static ability tree of a class, the same for every character of that class.
+ * Nodes are stored in parallel arrays and indexed by their id, so character abilities
+ * can be kept as {@link UnlockedAbilities} bitsets over the node indices.
+ */
+public final class AbilityTree {
+	private String version;
+	private String[] ids;
+	private String[] names;
+	private String[] descriptions;
+	private int[] maxLevels;
+	private Map<String, Integer> indexById;
+
+	private AbilityTree() {
+	}
+
+	/**
+	 * Gets the index of a node.
+	 *
+	 * @param id The ability id
+	 * @return The node index, or -1 if the tree has no such node
+	 */
+	public int indexOf(String id) {
+		Integer index = indexById.get(id);
+		return index != null ? index : -1;
+	}
+
+	// Getters
+	public String getVersion() { return version; }
+	public int size() { return ids.length; }
+	public String getId(int index) { return ids[index]; }
+	public String getName(int index) { return names[index]; }
+	public String getDescription(int index) { return descriptions[index]; }
+	public int getMaxLevel(int index) { return maxLevels[index]; }
+
+	@Override
+	public String toString() {
+		return "AbilityTree{version='" + version + "', nodes=" + ids.length + "}";
+	}
+
+	/**
+	 * Reads the abilities either keyed by id at the top level or under "abilities".
+	 */
+	static ModelAdapters.Reader<AbilityTree> reader(Gson gson) {
+		return in -> {
+			List<String[]> nodes = new ArrayList<>();
+			List<Integer> levels = new ArrayList<>();
+			AbilityTree tree = new AbilityTree();
+
+			in.beginObject();
+			while (in.hasNext()) {
+				String name = in.nextName();
+				if (name.equals("version")) {
+					tree.version = JsonReads.string(in);
+				} else if (name.equals("abilities") && in.peek() == JsonToken.BEGIN_OBJECT) {
+					in.beginObject();
+					while (in.hasNext()) {
+						readNode(in, in.nextName(), nodes, levels);
+					}
+					in.endObject();
+				} else {
+					readNode(in, name, nodes, levels);
+				}
+			}
+			in.endObject();
+
+			int size = nodes.size();
+			tree.ids = new String[size];
+			tree.names = new String[size];
+			tree.descriptions = new String[size];
+			tree.maxLevels = new int[size];
+			tree.indexById = new HashMap<>(size * 2);
+			for (int i = 0; i < size; i++) {
+				String[] node = nodes.get(i);
+				tree.ids[i] = node[0];
+				tree.names[i] = node[1];
+				tree.descriptions[i] = node[2];
+				tree.maxLevels[i] = levels.get(i);
+				tree.indexById.put(node[0], i);
+			}
+			return tree;
+		};
+	}
+
+	private static void readNode(JsonReader in, String id, List<String[]> nodes, List<Integer> levels) throws IOException {
+		if (in.peek() != JsonToken.BEGIN_OBJECT) {
+			in.skipValue();
+			return;
+		}
+
+		String name = null;
+		String description = null;
+		int maxLevel = 1;
+		in.beginObject();
+		while (in.hasNext()) {
+			switch (in.nextName()) {
+				case "name" -> name = JsonReads.string(in);
+				case "description" -> description = JsonReads.string(in);
+				case "maxLevel" -> maxLevel = JsonReads.intValue(in, 1);
+				default -> in.skipValue();
+			}
+		}
+		in.endObject();
+
+		nodes.add(new String[] { id, name != null ? name : id, description });
+		levels.add(maxLevel);
+	}
+}
@@ -3,6 +3,8 @@ package com.hezaerd.wapi.models;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import com.hezaerd.wapi.exceptions.WynnApiException;
+
 import com.google.gson.annotations.SerializedName;
 
 /**
@@ -25,6 +27,18 @@ public class ApiResponse<T> {
 	@SerializedName("timestamp")
 	private final long timestamp;
 
+	@SerializedName("source")
+	private final ResponseSource source;
+
+	@SerializedName("fetchedAt")
+	private final long fetchedAt;
+
+	@SerializedName("stale")
+	private final boolean stale;
+
+	// Structured failure, its message becomes the error when first asked for
+	private final transient WynnApiException exception;
+
 	/**
 	 * Create a successful ApiResponse.
 	 *
@@ -36,6 +50,20 @@ public class ApiResponse<T> {
 		return new ApiResponse<>(true, data, null, System.currentTimeMillis());
 	}
 
+	/**
+	 * Create a successful ApiResponse served from a cache.
+	 *
+	 * @param data The cached data.
+	 * @param source Where the data was served from.
+	 * @param fetchedAt When the data was originally fetched, in milliseconds since epoch.
+	 * @param stale Whether the data is past its time to live.
+	 * @param <T> The type of the data.
+	 * @return A successful ApiResponse carrying the cache metadata.
+	 */
+	public static <T> ApiResponse<T> cached(T data, ResponseSource source, long fetchedAt, boolean stale) {
+		return new ApiResponse<>(true, data, null, System.currentTimeMillis(), source, fetchedAt, stale);
+	}
+
 	/**
 	 * Create a failed ApiResponse.
 	 *
@@ -47,6 +75,19 @@ public class ApiResponse<T> {
 		return new ApiResponse<>(false, null, errorMessage, System.currentTimeMillis());
 	}
 
+	/**
+	 * Create a failed ApiResponse from a structured failure, so callers can branch on its type,
+	 * status code or retry delay instead of parsing the error message.
+	 *
+	 * @param exception The failure, not thrown.
+	 * @param <T> The type of the data.
+	 * @return An error ApiResponse.
+	 */
+	public static <T> ApiResponse<T> failure(WynnApiException exception) {
+		long now = System.currentTimeMillis();
+		return new ApiResponse<>(false, null, null, now, ResponseSource.NETWORK, now, false, exception);
+	}
+
 	/**
 	 * Create a failed ApiResponse with a specific timestamp.
 	 *
@@ -63,10 +104,24 @@ public class ApiResponse<T> {
 	 * Private constructor to enforce the use of the builder pattern.
 	 */
 	protected ApiResponse(boolean success, T data, String error, long timestamp) {
+		this(success, data, error, timestamp, ResponseSource.NETWORK, timestamp, false);
+	}
+
+	protected ApiResponse(boolean success, T data, String error, long timestamp,
+			ResponseSource source, long fetchedAt, boolean stale) {
+		this(success, data, error, timestamp, source, fetchedAt, stale, null);
+	}
+
+	private ApiResponse(boolean success, T data, String error, long timestamp,
+			ResponseSource source, long fetchedAt, boolean stale, WynnApiException exception) {
 		this.success = success;
 		this.data = data;
 		this.error = error;
 		this.timestamp = timestamp;
+		this.source = source;
+		this.fetchedAt = fetchedAt;
+		this.stale = stale;
+		this.exception = exception;
 	}
 
 
@@ -88,7 +143,20 @@ public class ApiResponse<T> {
 	 */
 	public T getData() {
 		if (!success) {
-			throw new IllegalStateException("Cannot get data from failed response: " + error);
+			throw new IllegalStateException("Cannot get data from failed response: " + getError());
+		}
+		return data;
+	}
+
+	/**
+	 * Gets the response data, throwing the failure of an unsuccessful response.
+	 *
+	 * @return The response data
+	 * @throws WynnApiException if the response was not successful
+	 */
+	public T getDataOrThrow() {
+		if (!success) {
+			throw getException();
 		}
 		return data;
 	}
@@ -108,9 +176,26 @@ public class ApiResponse<T> {
 	 * @return The error message, or null if successful
 	 */
 	public String getError() {
+		if (error == null && exception != null) {
+			return exception.getMessage();
+		}
 		return error;
 	}
 
+	/**
+	 * Gets the failure as an exception, e.g. a {@link com.hezaerd.wapi.exceptions.ResourceNotFoundException}
+	 * for a 404 or a {@link com.hezaerd.wapi.exceptions.RateLimitException} carrying the retry delay.
+	 * Failures created from a message only are wrapped in a plain {@link WynnApiException}.
+	 *
+	 * @return The failure, or null if successful
+	 */
+	public WynnApiException getException() {
+		if (success) {
+			return null;
+		}
+		return exception != null ? exception : new WynnApiException(error);
+	}
+
 	/**
 	 * Gets the timestamp when the response was created.
 	 *
@@ -120,6 +205,44 @@ public class ApiResponse<T> {
 		return timestamp;
 	}
 
+	/**
+	 * Gets where the response data came from.
+	 *
+	 * @return The response source
+	 */
+	public ResponseSource getSource() {
+		return source;
+	}
+
+	/**
+	 * Gets when the response data was fetched from the API.
+	 * Equal to the timestamp for network responses, older for cached ones.
+	 *
+	 * @return The fetch time in milliseconds since epoch
+	 */
+	public long getFetchedAt() {
+		return fetchedAt;
+	}
+
+	/**
+	 * Gets the age of the response data.
+	 *
+	 * @return The time since the data was fetched, in milliseconds
+	 */
+	public long getAgeMillis() {
+		return Math.max(0, System.currentTimeMillis() - fetchedAt);
+	}
+
+	/**
+	 * Checks if the data was served past its time to live,
+	 * either while being revalidated or because the API request failed.
+	 *
+	 * @return true if the data is stale
+	 */
+	public boolean isStale() {
+		return stale;
+	}
+
 	/**
 	 * Maps the response data to a new type using the provided mapper function.
 	 * If the response is not successful, returns a failed response with the same error.
@@ -130,11 +253,11 @@ public class ApiResponse<T> {
 	 */
 	public <R> ApiResponse<R> map(Function<T, R> mapper) {
 		if (!success) {
-			return ApiResponse.failure(error, timestamp);
+			return new ApiResponse<>(false, null, error, timestamp, ResponseSource.NETWORK, timestamp, false, exception);
 		}
 		try {
 			R mappedData = mapper.apply(data);
-			return ApiResponse.success(mappedData);
+			return new ApiResponse<>(true, mappedData, null, timestamp, source, fetchedAt, stale);
 		} catch (Exception e) {
 			return ApiResponse.failure("Mapping failed: " + e.getMessage(), timestamp);
 		}
@@ -160,8 +283,8 @@ public class ApiResponse<T> {
 	 * @return This ApiResponse for chaining
 	 */
 	public ApiResponse<T> ifError(Consumer<String> consumer) {
-		if (!success && error != null) {
-			consumer.accept(error);
+		if (!success && (error != null || exception != null)) {
+			consumer.accept(getError());
 		}
 		return this;
 	}
@@ -171,8 +294,10 @@ public class ApiResponse<T> {
 		return "ApiResponse{" +
 				"success=" + success +
 				", data=" + data +
-				", error='" + error + '\'' +
+				", error='" + getError() + '\'' +
 				", timestamp=" + timestamp +
+				", source=" + source +
+				", stale=" + stale +
 				'}';
 	}
 }
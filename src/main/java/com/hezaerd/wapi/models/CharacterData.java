@@ -2,10 +2,18 @@ package com.hezaerd.wapi.models;
 
 import java.util.Map;
 
+import com.hezaerd.wapi.json.JsonReads;
+import com.hezaerd.wapi.json.LazyJson;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
 
 /**
  * Represents character data from the Wynncraft API.
+ * The per-content maps are decoded on first access.
  */
 public class CharacterData {
 	@SerializedName("name")
@@ -21,40 +29,131 @@ public class CharacterData {
 	private long xp;
 
 	@SerializedName("professions")
-	private Map<String, ProfessionData> professions;
+	private LazyJson<Map<String, ProfessionData>> professions;
 
 	@SerializedName("dungeons")
-	private Map<String, DungeonData> dungeons;
+	private LazyJson<Map<String, DungeonData>> dungeons;
 
 	@SerializedName("raids")
-	private Map<String, RaidData> raids;
+	private LazyJson<Map<String, RaidData>> raids;
 
 	@SerializedName("quests")
-	private Map<String, QuestData> quests;
+	private LazyJson<Map<String, QuestData>> quests;
 
 	@SerializedName("items")
-	private Map<String, ItemData> items;
+	private LazyJson<Map<String, ItemData>> items;
 
 	@SerializedName("skills")
-	private Map<String, SkillData> skills;
+	private LazyJson<Map<String, SkillData>> skills;
 
 	// Getters
 	public String getName() { return name; }
 	public String getType() { return type; }
 	public int getLevel() { return level; }
 	public long getXp() { return xp; }
-	public Map<String, ProfessionData> getProfessions() { return professions; }
-	public Map<String, DungeonData> getDungeons() { return dungeons; }
-	public Map<String, RaidData> getRaids() { return raids; }
-	public Map<String, QuestData> getQuests() { return quests; }
-	public Map<String, ItemData> getItems() { return items; }
-	public Map<String, SkillData> getSkills() { return skills; }
+
+	/**
+	 * Gets the professions by name, decoded on first access.
+	 *
+	 * @return The professions, or null if the response had none
+	 * @throws JsonParseException If the professions do not have the expected structure
+	 */
+	public Map<String, ProfessionData> getProfessions() { return LazyJson.get(professions); }
+
+	/**
+	 * Gets the dungeons by name, decoded on first access.
+	 *
+	 * @return The dungeons, or null if the response had none
+	 * @throws JsonParseException If the dungeons do not have the expected structure
+	 */
+	public Map<String, DungeonData> getDungeons() { return LazyJson.get(dungeons); }
+
+	/**
+	 * Gets the raids by name, decoded on first access.
+	 *
+	 * @return The raids, or null if the response had none
+	 * @throws JsonParseException If the raids do not have the expected structure
+	 */
+	public Map<String, RaidData> getRaids() { return LazyJson.get(raids); }
+
+	/**
+	 * Gets the quests by name, decoded on first access.
+	 *
+	 * @return The quests, or null if the response had none
+	 * @throws JsonParseException If the quests do not have the expected structure
+	 */
+	public Map<String, QuestData> getQuests() { return LazyJson.get(quests); }
+
+	/**
+	 * Gets the items by name, decoded on first access.
+	 *
+	 * @return The items, or null if the response had none
+	 * @throws JsonParseException If the items do not have the expected structure
+	 */
+	public Map<String, ItemData> getItems() { return LazyJson.get(items); }
+
+	/**
+	 * Gets the skills by name, decoded on first access.
+	 *
+	 * @return The skills, or null if the response had none
+	 * @throws JsonParseException If the skills do not have the expected structure
+	 */
+	public Map<String, SkillData> getSkills() { return LazyJson.get(skills); }
+
+	/**
+	 * Gets a hash of the raw professions, dungeons, raids, quests and skills, so that a tracker can
+	 * tell they did not change without decoding them. Items are left out.
+	 *
+	 * @return The hash, or 0 if one of these maps was decoded already
+	 */
+	public long getContentHash() {
+		long hash = 17;
+		for (LazyJson<?> content : new LazyJson<?>[] { professions, dungeons, raids, quests, skills }) {
+			long part = content != null ? content.getRawHash() : 1;
+			if (part == 0) {
+				return 0;
+			}
+			hash = hash * 31 + part;
+		}
+		return hash != 0 ? hash : 1;
+	}
 
 	@Override
 	public String toString() {
 		return "CharacterData{name='" + name + "', type='" + type + "', level=" + level + "}";
 	}
 
+	static ModelAdapters.Reader<CharacterData> reader(Gson gson) {
+		TypeAdapter<LazyJson<Map<String, ProfessionData>>> professionsAdapter = gson.getAdapter(new TypeToken<LazyJson<Map<String, ProfessionData>>>() {});
+		TypeAdapter<LazyJson<Map<String, DungeonData>>> dungeonsAdapter = gson.getAdapter(new TypeToken<LazyJson<Map<String, DungeonData>>>() {});
+		TypeAdapter<LazyJson<Map<String, RaidData>>> raidsAdapter = gson.getAdapter(new TypeToken<LazyJson<Map<String, RaidData>>>() {});
+		TypeAdapter<LazyJson<Map<String, QuestData>>> questsAdapter = gson.getAdapter(new TypeToken<LazyJson<Map<String, QuestData>>>() {});
+		TypeAdapter<LazyJson<Map<String, ItemData>>> itemsAdapter = gson.getAdapter(new TypeToken<LazyJson<Map<String, ItemData>>>() {});
+		TypeAdapter<LazyJson<Map<String, SkillData>>> skillsAdapter = gson.getAdapter(new TypeToken<LazyJson<Map<String, SkillData>>>() {});
+
+		return in -> {
+			CharacterData data = new CharacterData();
+			in.beginObject();
+			while (in.hasNext()) {
+				switch (in.nextName()) {
+					case "name" -> data.name = JsonReads.string(in);
+					case "type" -> data.type = JsonReads.internedString(in);
+					case "level" -> data.level = JsonReads.intValue(in, 0);
+					case "xp" -> data.xp = JsonReads.longValue(in, 0);
+					case "professions" -> data.professions = professionsAdapter.read(in);
+					case "dungeons" -> data.dungeons = dungeonsAdapter.read(in);
+					case "raids" -> data.raids = raidsAdapter.read(in);
+					case "quests" -> data.quests = questsAdapter.read(in);
+					case "items" -> data.items = itemsAdapter.read(in);
+					case "skills" -> data.skills = skillsAdapter.read(in);
+					default -> in.skipValue();
+				}
+			}
+			in.endObject();
+			return data;
+		};
+	}
+
 	/**
 	 * Profession data for a character.
 	 */
@@ -1,9 +1,18 @@
 package com.hezaerd.wapi.models;
 
+import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.hezaerd.wapi.json.Interned;
+import com.hezaerd.wapi.json.JsonReads;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
 
 /**
  * Represents guild data from the Wynncraft API.
@@ -65,6 +74,36 @@ public class GuildData {
 		return "GuildData{name='" + name + "', prefix='" + prefix + "', level=" + level + "}";
 	}
 
+	static ModelAdapters.Reader<GuildData> reader(Gson gson) {
+		TypeAdapter<GuildMembers> membersAdapter = gson.getAdapter(GuildMembers.class);
+		TypeAdapter<GuildBanner> bannerAdapter = gson.getAdapter(GuildBanner.class);
+		TypeAdapter<Map<String, SeasonRank>> seasonRanksAdapter = gson.getAdapter(new TypeToken<Map<String, SeasonRank>>() {});
+
+		return in -> {
+			GuildData data = new GuildData();
+			in.beginObject();
+			while (in.hasNext()) {
+				switch (in.nextName()) {
+					case "uuid" -> data.uuid = JsonReads.internedString(in);
+					case "name" -> data.name = JsonReads.internedString(in);
+					case "prefix" -> data.prefix = JsonReads.internedString(in);
+					case "level" -> data.level = JsonReads.intValue(in, 0);
+					case "xpPercent" -> data.xpPercent = JsonReads.intValue(in, 0);
+					case "territories" -> data.territories = JsonReads.intValue(in, 0);
+					case "wars" -> data.wars = JsonReads.intValue(in, 0);
+					case "created" -> data.created = JsonReads.string(in);
+					case "members" -> data.members = membersAdapter.read(in);
+					case "online" -> data.online = JsonReads.intValue(in, 0);
+					case "banner" -> data.banner = bannerAdapter.read(in);
+					case "seasonRanks" -> data.seasonRanks = seasonRanksAdapter.read(in);
+					default -> in.skipValue();
+				}
+			}
+			in.endObject();
+			return data;
+		};
+	}
+
 	/**
 	 * Guild members structure with different ranks.
 	 */
@@ -97,6 +136,46 @@ public class GuildData {
 		public Map<String, GuildMember> getCaptain() { return captain; }
 		public Map<String, GuildMember> getRecruiter() { return recruiter; }
 		public Map<String, GuildMember> getRecruit() { return recruit; }
+
+		static ModelAdapters.Reader<GuildMembers> reader(Gson gson) {
+			TypeAdapter<GuildMember> memberAdapter = gson.getAdapter(GuildMember.class);
+
+			return in -> {
+				GuildMembers members = new GuildMembers();
+				in.beginObject();
+				while (in.hasNext()) {
+					switch (in.nextName()) {
+						case "total" -> members.total = JsonReads.intValue(in, 0);
+						case "owner" -> members.owner = readRank(in, memberAdapter);
+						case "chief" -> members.chief = readRank(in, memberAdapter);
+						case "strategist" -> members.strategist = readRank(in, memberAdapter);
+						case "captain" -> members.captain = readRank(in, memberAdapter);
+						case "recruiter" -> members.recruiter = readRank(in, memberAdapter);
+						case "recruit" -> members.recruit = readRank(in, memberAdapter);
+						default -> in.skipValue();
+					}
+				}
+				in.endObject();
+				return members;
+			};
+		}
+
+		/**
+		 * Reads the members of one rank, interning their names (or UUIDs).
+		 */
+		private static Map<String, GuildMember> readRank(JsonReader in, TypeAdapter<GuildMember> memberAdapter) throws IOException {
+			if (JsonReads.skipNull(in)) {
+				return null;
+			}
+
+			Map<String, GuildMember> rank = new LinkedHashMap<>();
+			in.beginObject();
+			while (in.hasNext()) {
+				rank.put(Interned.STRINGS.intern(in.nextName()), memberAdapter.read(in));
+			}
+			in.endObject();
+			return rank;
+		}
 	}
 
 	/**
@@ -127,6 +206,26 @@ public class GuildData {
 		public int getGuildRank() { return guildRank; }
 		public Integer getContributionRank() { return contributionRank; }
 		public String getJoined() { return joined; }
+
+		static ModelAdapters.Reader<GuildMember> reader(Gson gson) {
+			return in -> {
+				GuildMember member = new GuildMember();
+				in.beginObject();
+				while (in.hasNext()) {
+					switch (in.nextName()) {
+						case "online" -> member.online = JsonReads.booleanValue(in, false);
+						case "server" -> member.server = JsonReads.internedString(in);
+						case "contributed" -> member.contributed = JsonReads.intValue(in, 0);
+						case "guildRank" -> member.guildRank = JsonReads.intValue(in, 0);
+						case "contributionRank" -> member.contributionRank = JsonReads.integer(in);
+						case "joined" -> member.joined = JsonReads.string(in);
+						default -> in.skipValue();
+					}
+				}
+				in.endObject();
+				return member;
+			};
+		}
 	}
 
 	/**
@@ -177,5 +276,21 @@ public class GuildData {
 
 		public int getRating() { return rating; }
 		public int getFinalTerritories() { return finalTerritories; }
+
+		static ModelAdapters.Reader<SeasonRank> reader(Gson gson) {
+			return in -> {
+				SeasonRank rank = new SeasonRank();
+				in.beginObject();
+				while (in.hasNext()) {
+					switch (in.nextName()) {
+						case "rating" -> rank.rating = JsonReads.intValue(in, 0);
+						case "finalTerritories" -> rank.finalTerritories = JsonReads.intValue(in, 0);
+						default -> in.skipValue();
+					}
+				}
+				in.endObject();
+				return rank;
+			};
+		}
 	}
 }
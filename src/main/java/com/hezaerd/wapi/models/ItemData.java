@@ -3,7 +3,13 @@ package com.hezaerd.wapi.models;
 import java.util.List;
 import java.util.Map;
 
+import com.hezaerd.wapi.json.Interned;
+import com.hezaerd.wapi.json.JsonReads;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
 
 /**
  * Represents item data from the Wynncraft API.
@@ -122,6 +128,57 @@ public class ItemData {
 		return "ItemData{internalName='" + internalName + "', type='" + type + "', rarity='" + rarity + "'}";
 	}
 
+	static ModelAdapters.Reader<ItemData> reader(Gson gson) {
+		TypeAdapter<ItemIcon> iconAdapter = gson.getAdapter(ItemIcon.class);
+		TypeAdapter<ConsumableOnlyIDs> consumableAdapter = gson.getAdapter(ConsumableOnlyIDs.class);
+		TypeAdapter<IngredientPositionModifiers> positionAdapter = gson.getAdapter(IngredientPositionModifiers.class);
+		TypeAdapter<ItemOnlyIDs> itemOnlyAdapter = gson.getAdapter(ItemOnlyIDs.class);
+		TypeAdapter<Map<String, String>> majorIdsAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {});
+		TypeAdapter<List<String>> craftableAdapter = new Interned.StringListAdapter();
+		TypeAdapter<DropMeta> dropMetaAdapter = gson.getAdapter(DropMeta.class);
+		TypeAdapter<ItemBase> baseAdapter = gson.getAdapter(ItemBase.class);
+		TypeAdapter<ItemRequirements> requirementsAdapter = gson.getAdapter(ItemRequirements.class);
+		TypeAdapter<Map<String, Object>> identificationsAdapter = gson.getAdapter(new TypeToken<Map<String, Object>>() {});
+
+		return in -> {
+			ItemData item = new ItemData();
+			in.beginObject();
+			while (in.hasNext()) {
+				switch (in.nextName()) {
+					case "internalName" -> item.internalName = JsonReads.string(in);
+					case "type" -> item.type = JsonReads.internedString(in);
+					case "subType" -> item.subType = JsonReads.internedString(in);
+					case "icon" -> item.icon = iconAdapter.read(in);
+					case "identifier" -> item.identifier = JsonReads.boxedBoolean(in);
+					case "allow_craftsman" -> item.allowCraftsman = JsonReads.boxedBoolean(in);
+					case "armourMaterial" -> item.armourMaterial = JsonReads.internedString(in);
+					case "attackSpeed" -> item.attackSpeed = JsonReads.internedString(in);
+					case "averageDPS" -> item.averageDPS = JsonReads.integer(in);
+					case "gatheringSpeed" -> item.gatheringSpeed = JsonReads.integer(in);
+					case "tier" -> item.tier = JsonReads.internedString(in);
+					case "rarity" -> item.rarity = JsonReads.internedString(in);
+					case "consumableOnlyIDs" -> item.consumableOnlyIDs = consumableAdapter.read(in);
+					case "ingredientPositionModifiers" -> item.ingredientPositionModifiers = positionAdapter.read(in);
+					case "itemOnlyIDs" -> item.itemOnlyIDs = itemOnlyAdapter.read(in);
+					case "majorIds" -> item.majorIds = majorIdsAdapter.read(in);
+					case "craftable" -> item.craftable = craftableAdapter.read(in);
+					case "powderSlots" -> item.powderSlots = JsonReads.integer(in);
+					case "lore" -> item.lore = JsonReads.string(in);
+					case "dropRestriction" -> item.dropRestriction = JsonReads.internedString(in);
+					case "restriction" -> item.restriction = JsonReads.internedString(in);
+					case "raidReward" -> item.raidReward = JsonReads.boxedBoolean(in);
+					case "dropMeta" -> item.dropMeta = dropMetaAdapter.read(in);
+					case "base" -> item.base = baseAdapter.read(in);
+					case "requirements" -> item.requirements = requirementsAdapter.read(in);
+					case "identifications" -> item.identifications = identificationsAdapter.read(in);
+					default -> in.skipValue();
+				}
+			}
+			in.endObject();
+			return item;
+		};
+	}
+
 	/**
 	 * Item icon data.
 	 */
@@ -2,6 +2,10 @@ package com.hezaerd.wapi.models;
 
 import java.util.List;
 
+import com.hezaerd.wapi.json.JsonReads;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
 
 /**
@@ -63,5 +67,28 @@ public class LeaderboardData {
 		public String toString() {
 			return "LeaderboardEntry{rank=" + rank + ", name='" + name + "', value=" + value + "}";
 		}
+
+		static ModelAdapters.Reader<LeaderboardEntry> reader(Gson gson) {
+			TypeAdapter<Object> valueAdapter = gson.getAdapter(Object.class);
+
+			return in -> {
+				LeaderboardEntry entry = new LeaderboardEntry();
+				in.beginObject();
+				while (in.hasNext()) {
+					switch (in.nextName()) {
+						case "rank" -> entry.rank = JsonReads.intValue(in, 0);
+						case "name" -> entry.name = JsonReads.string(in);
+						case "value" -> entry.value = valueAdapter.read(in);
+						case "level" -> entry.level = JsonReads.integer(in);
+						case "class" -> entry.characterClass = JsonReads.internedString(in);
+						case "guild" -> entry.guild = JsonReads.internedString(in);
+						case "score" -> entry.score = JsonReads.boxedLong(in);
+						default -> in.skipValue();
+					}
+				}
+				in.endObject();
+				return entry;
+			};
+		}
 	}
 }
@@ -0,0 +1,171 @@
+package com.hezaerd.wapi.models;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.hezaerd.wapi.json.JsonReads;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * A leaderboard decoded into columns: ranks, scores and levels are primitive arrays
+ * indexed by row, in the order of the response.
+ * Accepts both an {@code entries} array and an object keyed by rank.
+ * Missing scores are 0 and missing levels are -1.
+ */
+public class LeaderboardTable {
+	private String type;
+	private String timeframe;
+	private int size;
+	private int[] ranks = new int[0];
+	private long[] scores = new long[0];
+	private int[] levels = new int[0];
+	private String[] names = new String[0];
+	private String[] guilds = new String[0];
+
+	// Row index by name, built on first lookup
+	private transient volatile Map<String, Integer> index;
+
+	// Getters
+	public String getType() { return type; }
+	public String getTimeframe() { return timeframe; }
+	public int size() { return size; }
+	public int getRank(int row) { return ranks[row]; }
+	public long getScore(int row) { return scores[row]; }
+	public int getLevel(int row) { return levels[row]; }
+	public String getName(int row) { return names[row]; }
+	public String getGuild(int row) { return guilds[row]; }
+
+	/**
+	 * Finds the row of a player or guild.
+	 *
+	 * @param name The player or guild name
+	 * @return The row, or -1 if the name is not on the leaderboard
+	 */
+	public int indexOf(String name) {
+		Map<String, Integer> rows = index;
+		if (rows == null) {
+			rows = new HashMap<>(size * 2);
+			for (int row = 0; row < size; row++) {
+				if (names[row] != null) {
+					rows.putIfAbsent(names[row], row);
+				}
+			}
+			index = rows;
+		}
+		return rows.getOrDefault(name, -1);
+	}
+
+	@Override
+	public String toString() {
+		return "LeaderboardTable{type='" + type + "', size=" + size + "}";
+	}
+
+	static ModelAdapters.Reader<LeaderboardTable> reader(Gson gson) {
+		return in -> {
+			LeaderboardTable table = new LeaderboardTable();
+			in.beginObject();
+			while (in.hasNext()) {
+				String name = in.nextName();
+				switch (name) {
+					case "type" -> table.type = JsonReads.internedString(in);
+					case "timeframe" -> table.timeframe = JsonReads.internedString(in);
+					case "entries" -> {
+						if (!JsonReads.skipNull(in)) {
+							in.beginArray();
+							while (in.hasNext()) {
+								table.readRow(in, table.size + 1);
+							}
+							in.endArray();
+						}
+					}
+					default -> {
+						// Leaderboards keyed by rank: {"1": {...}, "2": {...}}
+						if (in.peek() == JsonToken.BEGIN_OBJECT && isRank(name)) {
+							table.readRow(in, Integer.parseInt(name));
+						} else {
+							in.skipValue();
+						}
+					}
+				}
+			}
+			in.endObject();
+			table.trim();
+			return table;
+		};
+	}
+
+	private void readRow(JsonReader in, int defaultRank) throws IOException {
+		int row = size++;
+		if (row == ranks.length) {
+			int capacity = Math.max(64, row * 2);
+			ranks = Arrays.copyOf(ranks, capacity);
+			scores = Arrays.copyOf(scores, capacity);
+			levels = Arrays.copyOf(levels, capacity);
+			names = Arrays.copyOf(names, capacity);
+			guilds = Arrays.copyOf(guilds, capacity);
+		}
+
+		ranks[row] = defaultRank;
+		levels[row] = -1;
+		boolean hasScore = false;
+
+		in.beginObject();
+		while (in.hasNext()) {
+			switch (in.nextName()) {
+				case "rank" -> ranks[row] = JsonReads.intValue(in, defaultRank);
+				case "name" -> names[row] = JsonReads.string(in);
+				case "level" -> levels[row] = JsonReads.intValue(in, -1);
+				case "score" -> {
+					if (in.peek() == JsonToken.NUMBER) {
+						scores[row] = Math.round(in.nextDouble());
+						hasScore = true;
+					} else {
+						in.skipValue();
+					}
+				}
+				case "value" -> {
+					// Only used when there is no explicit score
+					if (in.peek() == JsonToken.NUMBER && !hasScore) {
+						scores[row] = Math.round(in.nextDouble());
+					} else {
+						in.skipValue();
+					}
+				}
+				case "guild" -> {
+					if (in.peek() == JsonToken.STRING) {
+						guilds[row] = JsonReads.internedString(in);
+					} else {
+						in.skipValue();
+					}
+				}
+				default -> in.skipValue();
+			}
+		}
+		in.endObject();
+	}
+
+	private void trim() {
+		ranks = Arrays.copyOf(ranks, size);
+		scores = Arrays.copyOf(scores, size);
+		levels = Arrays.copyOf(levels, size);
+		names = Arrays.copyOf(names, size);
+		guilds = Arrays.copyOf(guilds, size);
+	}
+
+	private static boolean isRank(String name) {
+		if (name.isEmpty() || name.length() > 9) {
+			return false;
+		}
+		for (int i = 0; i < name.length(); i++) {
+			if (!Character.isDigit(name.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,109 @@
+package com.hezaerd.wapi.models;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Hand-written, reflection-free readers for the models decoded in bulk
+ * (players, characters, guilds and their members, territories, items, leaderboards, ability trees),
+ * and for the models whose JSON shape varies (search results).
+ * Writing still goes through Gson's reflective binding, as models are rarely serialized.
+ * Other models keep the reflective binding for both directions.
+ */
+public final class ModelAdapters implements TypeAdapterFactory {
+	private static final Map<Class<?>, Function<Gson, Reader<?>>> READERS = new HashMap<>();
+
+	static {
+		READERS.put(PlayerData.class, PlayerData::reader);
+		READERS.put(PlayerData.GuildInfo.class, PlayerData.GuildInfo::reader);
+		READERS.put(PlayerData.PlayerMeta.class, PlayerData.PlayerMeta::reader);
+		READERS.put(CharacterData.class, CharacterData::reader);
+		READERS.put(GuildData.class, GuildData::reader);
+		READERS.put(GuildData.GuildMembers.class, GuildData.GuildMembers::reader);
+		READERS.put(GuildData.GuildMember.class, GuildData.GuildMember::reader);
+		READERS.put(GuildData.SeasonRank.class, GuildData.SeasonRank::reader);
+		READERS.put(TerritoryData.Territory.class, TerritoryData.Territory::reader);
+		READERS.put(TerritoryData.TerritoryGuild.class, TerritoryData.TerritoryGuild::reader);
+		READERS.put(ItemData.class, ItemData::reader);
+		READERS.put(LeaderboardData.LeaderboardEntry.class, LeaderboardData.LeaderboardEntry::reader);
+		READERS.put(LeaderboardTable.class, LeaderboardTable::reader);
+		READERS.put(OnlinePlayersResponse.class, OnlinePlayersResponse::reader);
+		READERS.put(SearchResults.class, SearchResults::reader);
+		READERS.put(AbilityTree.class, AbilityTree::reader);
+	}
+
+	/**
+	 * Creates the Gson instance used to decode API responses, with the model readers registered.
+	 *
+	 * @return A new Gson instance
+	 */
+	public static Gson createGson() {
+		return new GsonBuilder()
+			.registerTypeAdapterFactory(new ModelAdapters())
+			.disableHtmlEscaping()
+			.create();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+		Function<Gson, Reader<?>> factory = READERS.get(type.getRawType());
+		if (factory == null) {
+			return null;
+		}
+
+		TypeAdapter<T> writer = gson.getDelegateAdapter(this, type);
+		return new Bound<>((Reader<T>) factory.apply(gson), writer);
+	}
+
+	/**
+	 * Reads a model from a reader positioned before a non-null object.
+	 */
+	@FunctionalInterface
+	interface Reader<T> {
+		T read(JsonReader in) throws IOException;
+	}
+
+	private static final class Bound<T> extends TypeAdapter<T> {
+		private final Reader<T> reader;
+		private final TypeAdapter<T> writer;
+
+		Bound(Reader<T> reader, TypeAdapter<T> writer) {
+			this.reader = reader;
+			this.writer = writer;
+		}
+
+		/**
+		 * Reports values of the wrong type as {@link JsonSyntaxException}, as Gson's own adapters do.
+		 */
+		@Override
+		public T read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+			try {
+				return reader.read(in);
+			} catch (NumberFormatException | IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+		}
+
+		@Override
+		public void write(JsonWriter out, T value) throws IOException {
+			writer.write(out, value);
+		}
+	}
+}
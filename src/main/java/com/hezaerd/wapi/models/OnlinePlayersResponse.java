@@ -2,6 +2,11 @@ package com.hezaerd.wapi.models;
 
 import java.util.List;
 
+import com.hezaerd.wapi.json.Interned;
+import com.hezaerd.wapi.json.JsonReads;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
 
 /**
@@ -21,4 +26,22 @@ public class OnlinePlayersResponse {
 	public int getCount() {
 		return count;
 	}
+
+	static ModelAdapters.Reader<OnlinePlayersResponse> reader(Gson gson) {
+		TypeAdapter<List<String>> playersAdapter = new Interned.StringListAdapter();
+
+		return in -> {
+			OnlinePlayersResponse response = new OnlinePlayersResponse();
+			in.beginObject();
+			while (in.hasNext()) {
+				switch (in.nextName()) {
+					case "players" -> response.players = playersAdapter.read(in);
+					case "count" -> response.count = JsonReads.intValue(in, 0);
+					default -> in.skipValue();
+				}
+			}
+			in.endObject();
+			return response;
+		};
+	}
 }
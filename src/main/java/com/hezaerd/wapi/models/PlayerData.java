@@ -2,10 +2,18 @@ package com.hezaerd.wapi.models;
 
 import java.util.List;
 
+import com.hezaerd.wapi.json.JsonReads;
+import com.hezaerd.wapi.json.LazyJson;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
 
 /**
  * Represents player data from the Wynncraft API.
+ * Characters are decoded on first access, so reading only the profile stays cheap.
  */
 public class PlayerData {
 	@SerializedName("username")
@@ -36,7 +44,7 @@ public class PlayerData {
 	private GuildInfo guild;
 
 	@SerializedName("characters")
-	private List<CharacterData> characters;
+	private LazyJson<List<CharacterData>> characters;
 
 	@SerializedName("meta")
 	private PlayerMeta meta;
@@ -51,14 +59,50 @@ public class PlayerData {
 	public String getLastSeen() { return lastSeen; }
 	public long getPlaytime() { return playtime; }
 	public GuildInfo getGuild() { return guild; }
-	public List<CharacterData> getCharacters() { return characters; }
 	public PlayerMeta getMeta() { return meta; }
 
+	/**
+	 * Gets the characters, decoded on first access.
+	 *
+	 * @return The characters, or null if the response had none
+	 * @throws JsonParseException If the characters do not have the expected structure
+	 */
+	public List<CharacterData> getCharacters() { return LazyJson.get(characters); }
+
 	@Override
 	public String toString() {
 		return "PlayerData{username='" + username + "', rank='" + rank + "', playtime=" + playtime + "}";
 	}
 
+	static ModelAdapters.Reader<PlayerData> reader(Gson gson) {
+		TypeAdapter<GuildInfo> guildAdapter = gson.getAdapter(GuildInfo.class);
+		TypeAdapter<LazyJson<List<CharacterData>>> charactersAdapter = gson.getAdapter(new TypeToken<LazyJson<List<CharacterData>>>() {});
+		TypeAdapter<PlayerMeta> metaAdapter = gson.getAdapter(PlayerMeta.class);
+
+		return in -> {
+			PlayerData data = new PlayerData();
+			in.beginObject();
+			while (in.hasNext()) {
+				switch (in.nextName()) {
+					case "username" -> data.username = JsonReads.string(in);
+					case "uuid" -> data.uuid = JsonReads.string(in);
+					case "rank" -> data.rank = JsonReads.internedString(in);
+					case "contribution" -> data.contribution = JsonReads.string(in);
+					case "firstJoin" -> data.firstJoin = JsonReads.string(in);
+					case "lastJoin" -> data.lastJoin = JsonReads.string(in);
+					case "lastSeen" -> data.lastSeen = JsonReads.string(in);
+					case "playtime" -> data.playtime = JsonReads.longValue(in, 0);
+					case "guild" -> data.guild = guildAdapter.read(in);
+					case "characters" -> data.characters = charactersAdapter.read(in);
+					case "meta" -> data.meta = metaAdapter.read(in);
+					default -> in.skipValue();
+				}
+			}
+			in.endObject();
+			return data;
+		};
+	}
+
 	/**
 	 * Guild information for a player.
 	 */
@@ -71,6 +115,22 @@ public class PlayerData {
 
 		public String getName() { return name; }
 		public String getRank() { return rank; }
+
+		static ModelAdapters.Reader<GuildInfo> reader(Gson gson) {
+			return in -> {
+				GuildInfo info = new GuildInfo();
+				in.beginObject();
+				while (in.hasNext()) {
+					switch (in.nextName()) {
+						case "name" -> info.name = JsonReads.internedString(in);
+						case "rank" -> info.rank = JsonReads.internedString(in);
+						default -> in.skipValue();
+					}
+				}
+				in.endObject();
+				return info;
+			};
+		}
 	}
 
 	/**
@@ -93,5 +153,23 @@ public class PlayerData {
 		public String getServer() { return server; }
 		public long getFirstJoin() { return firstJoin; }
 		public long getLastJoin() { return lastJoin; }
+
+		static ModelAdapters.Reader<PlayerMeta> reader(Gson gson) {
+			return in -> {
+				PlayerMeta meta = new PlayerMeta();
+				in.beginObject();
+				while (in.hasNext()) {
+					switch (in.nextName()) {
+						case "location" -> meta.location = JsonReads.internedString(in);
+						case "server" -> meta.server = JsonReads.internedString(in);
+						case "firstJoin" -> meta.firstJoin = JsonReads.longValue(in, 0);
+						case "lastJoin" -> meta.lastJoin = JsonReads.longValue(in, 0);
+						default -> in.skipValue();
+					}
+				}
+				in.endObject();
+				return meta;
+			};
+		}
 	}
 }
@@ -0,0 +1,21 @@
+package com.hezaerd.wapi.models;
+
+/**
+ * Where the data of an {@link ApiResponse} came from.
+ */
+public enum ResponseSource {
+	/**
+	 * Fetched from the Wynncraft API for this request.
+	 */
+	NETWORK,
+
+	/**
+	 * Served from the in-memory response cache.
+	 */
+	MEMORY,
+
+	/**
+	 * Served from the persistent on-disk cache.
+	 */
+	DISK
+}
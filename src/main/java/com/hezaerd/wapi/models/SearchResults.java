@@ -1,13 +1,28 @@
 package com.hezaerd.wapi.models;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
+import com.hezaerd.wapi.json.JsonReads;
+
+import com.google.gson.Gson;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 /**
  * Represents search results from the Wynncraft API.
+ * Each group is decoded to its names, whether the API sends it as a list of names,
+ * an object mapping UUIDs to names, or an object mapping UUIDs to guild objects.
  */
 public class SearchResults {
+	@SerializedName("query")
+	private String query;
+
 	@SerializedName("players")
 	private List<String> players;
 
@@ -17,10 +32,154 @@ public class SearchResults {
 	@SerializedName("items")
 	private List<String> items;
 
+	// Guild prefixes by guild name, for the guilds matched by their prefix
+	private transient Map<String, String> guildPrefixes;
+
+	public String getQuery() { return query; }
 	public List<String> getPlayers() { return players; }
 	public List<String> getGuilds() { return guilds; }
 	public List<String> getItems() { return items; }
 
+	/**
+	 * Gets the prefix of a guild of these results, when the API sent it.
+	 *
+	 * @param guild The guild name
+	 * @return The guild prefix, or null if unknown
+	 */
+	public String getGuildPrefix(String guild) {
+		return guildPrefixes != null ? guildPrefixes.get(guild) : null;
+	}
+
+	/**
+	 * Narrows these results to the names containing a longer query, ignoring case.
+	 * Guilds are also kept when their prefix contains it.
+	 *
+	 * @param narrowerQuery The query to filter by
+	 * @return New results for the narrower query
+	 */
+	public SearchResults filter(String narrowerQuery) {
+		String needle = narrowerQuery.toLowerCase(Locale.ROOT);
+		SearchResults filtered = new SearchResults();
+		filtered.query = narrowerQuery;
+		filtered.players = filter(players, needle, null);
+		filtered.guilds = filter(guilds, needle, guildPrefixes);
+		filtered.items = filter(items, needle, null);
+		filtered.guildPrefixes = guildPrefixes;
+		return filtered;
+	}
+
+	private static List<String> filter(List<String> names, String needle, Map<String, String> aliases) {
+		if (names == null) {
+			return null;
+		}
+
+		List<String> kept = new ArrayList<>();
+		for (String name : names) {
+			String alias = aliases != null ? aliases.get(name) : null;
+			if (name.toLowerCase(Locale.ROOT).contains(needle)
+					|| (alias != null && alias.toLowerCase(Locale.ROOT).contains(needle))) {
+				kept.add(name);
+			}
+		}
+		return kept;
+	}
+
+	/**
+	 * Gets the number of names in the largest group.
+	 *
+	 * @return The size of the largest group
+	 */
+	public int getLargestGroupSize() {
+		return Math.max(size(players), Math.max(size(guilds), size(items)));
+	}
+
+	private static int size(List<String> names) {
+		return names != null ? names.size() : 0;
+	}
+
+	static ModelAdapters.Reader<SearchResults> reader(Gson gson) {
+		return in -> {
+			SearchResults results = new SearchResults();
+			in.beginObject();
+			while (in.hasNext()) {
+				switch (in.nextName()) {
+					case "query" -> results.query = JsonReads.string(in);
+					case "players" -> results.players = readGroup(in, results.players, null);
+					case "guilds", "guildsPrefix" -> {
+						if (results.guildPrefixes == null) {
+							results.guildPrefixes = new HashMap<>();
+						}
+						results.guilds = readGroup(in, results.guilds, results.guildPrefixes);
+					}
+					case "items" -> results.items = readGroup(in, results.items, null);
+					default -> in.skipValue();
+				}
+			}
+			in.endObject();
+			return results;
+		};
+	}
+
+	/**
+	 * Reads a group of results into its names, appending to the names read so far
+	 * as guilds may come in two groups.
+	 */
+	private static List<String> readGroup(JsonReader in, List<String> names, Map<String, String> prefixes)
+			throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return names;
+		}
+
+		List<String> group = names != null ? names : new ArrayList<>();
+		if (in.peek() == JsonToken.BEGIN_ARRAY) {
+			in.beginArray();
+			while (in.hasNext()) {
+				addName(group, JsonReads.internedString(in));
+			}
+			in.endArray();
+			return group;
+		}
+
+		in.beginObject();
+		while (in.hasNext()) {
+			String key = in.nextName();
+			switch (in.peek()) {
+				case STRING -> addName(group, JsonReads.internedString(in));
+				case BEGIN_OBJECT -> {
+					String name = null;
+					String prefix = null;
+					in.beginObject();
+					while (in.hasNext()) {
+						switch (in.nextName()) {
+							case "name" -> name = JsonReads.internedString(in);
+							case "prefix" -> prefix = JsonReads.internedString(in);
+							default -> in.skipValue();
+						}
+					}
+					in.endObject();
+					addName(group, name != null ? name : key);
+					if (name != null && prefix != null && prefixes != null) {
+						prefixes.put(name, prefix);
+					}
+				}
+				// Items are keyed by name
+				default -> {
+					in.skipValue();
+					addName(group, key);
+				}
+			}
+		}
+		in.endObject();
+		return group;
+	}
+
+	private static void addName(List<String> group, String name) {
+		if (name != null && !group.contains(name)) {
+			group.add(name);
+		}
+	}
+
 	@Override
 	public String toString() {
 		return "SearchResults{players=" + (players != null ? players.size() : 0) +
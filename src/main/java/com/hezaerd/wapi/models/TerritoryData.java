@@ -2,7 +2,13 @@ package com.hezaerd.wapi.models;
 
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
+import com.hezaerd.wapi.json.Interned;
+import com.hezaerd.wapi.json.JsonReads;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
 
 /**
@@ -44,6 +50,26 @@ public class TerritoryData {
 		public String toString() {
 			return "Territory{guild=" + guild + ", acquired='" + acquired + "'}";
 		}
+
+		static ModelAdapters.Reader<Territory> reader(Gson gson) {
+			TypeAdapter<TerritoryGuild> guildAdapter = gson.getAdapter(TerritoryGuild.class);
+			TypeAdapter<TerritoryLocation> locationAdapter = gson.getAdapter(TerritoryLocation.class);
+
+			return in -> {
+				Territory territory = new Territory();
+				in.beginObject();
+				while (in.hasNext()) {
+					switch (in.nextName()) {
+						case "guild" -> territory.guild = guildAdapter.read(in);
+						case "acquired" -> territory.acquired = JsonReads.string(in);
+						case "location" -> territory.location = locationAdapter.read(in);
+						default -> in.skipValue();
+					}
+				}
+				in.endObject();
+				return territory;
+			};
+		}
 	}
 
 	/**
@@ -51,7 +77,7 @@ public class TerritoryData {
 	 */
 	public static class TerritoryGuild {
 		@SerializedName("uuid")
-		private String uuid;
+		private UUID uuid;
 
 		@SerializedName("name")
 		private String name;
@@ -59,7 +85,8 @@ public class TerritoryData {
 		@SerializedName("prefix")
 		private String prefix;
 
-		public String getUuid() { return uuid; }
+		public String getUuid() { return uuid != null ? uuid.toString() : null; }
+		public UUID getUuidValue() { return uuid; }
 		public String getName() { return name; }
 		public String getPrefix() { return prefix; }
 
@@ -67,6 +94,25 @@ public class TerritoryData {
 		public String toString() {
 			return "TerritoryGuild{name='" + name + "', prefix='" + prefix + "'}";
 		}
+
+		static ModelAdapters.Reader<TerritoryGuild> reader(Gson gson) {
+			TypeAdapter<UUID> uuidAdapter = new Interned.UuidAdapter();
+
+			return in -> {
+				TerritoryGuild guild = new TerritoryGuild();
+				in.beginObject();
+				while (in.hasNext()) {
+					switch (in.nextName()) {
+						case "uuid" -> guild.uuid = uuidAdapter.read(in);
+						case "name" -> guild.name = JsonReads.internedString(in);
+						case "prefix" -> guild.prefix = JsonReads.internedString(in);
+						default -> in.skipValue();
+					}
+				}
+				in.endObject();
+				return guild;
+			};
+		}
 	}
 
 	/**
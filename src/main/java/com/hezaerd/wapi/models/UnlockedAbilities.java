@@ -0,0 +1,174 @@
+package com.hezaerd.wapi.models;
+
+import java.io.IOException;
+import java.util.function.IntConsumer;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * The abilities unlocked by a character, as a bitset over the nodes of its class {@link AbilityTree}.
+ * Names and descriptions stay in the shared tree; only the unlocked bits and, for nodes
+ * with several levels, the levels are kept per character.
+ */
+public final class UnlockedAbilities {
+	private final AbilityTree tree;
+	private final long[] bits;
+	private byte[] levels;
+	private int unknownCount;
+
+	private UnlockedAbilities(AbilityTree tree) {
+		this.tree = tree;
+		this.bits = new long[(tree.size() + 63) >>> 6];
+	}
+
+	/**
+	 * Reads a character ability response straight into a bitset, without decoding an {@link AbilityMap}.
+	 * Abilities are read keyed by id, at the top level or under "abilities", with a level,
+	 * an object holding a level, or a boolean as value.
+	 *
+	 * @param tree The ability tree of the character's class
+	 * @param in The reader, positioned before the response object
+	 * @return The unlocked abilities
+	 * @throws IOException If the response cannot be read
+	 */
+	public static UnlockedAbilities read(AbilityTree tree, JsonReader in) throws IOException {
+		UnlockedAbilities unlocked = new UnlockedAbilities(tree);
+		in.beginObject();
+		while (in.hasNext()) {
+			String name = in.nextName();
+			if (name.equals("abilities") && in.peek() == JsonToken.BEGIN_OBJECT) {
+				in.beginObject();
+				while (in.hasNext()) {
+					unlocked.readAbility(in, in.nextName());
+				}
+				in.endObject();
+			} else {
+				unlocked.readAbility(in, name);
+			}
+		}
+		in.endObject();
+		return unlocked;
+	}
+
+	private void readAbility(JsonReader in, String id) throws IOException {
+		int level = switch (in.peek()) {
+			case NUMBER -> in.nextInt();
+			case BOOLEAN -> in.nextBoolean() ? 1 : 0;
+			case BEGIN_OBJECT -> {
+				int value = 1;
+				in.beginObject();
+				while (in.hasNext()) {
+					if (in.nextName().equals("level") && in.peek() == JsonToken.NUMBER) {
+						value = in.nextInt();
+					} else {
+						in.skipValue();
+					}
+				}
+				in.endObject();
+				yield value;
+			}
+			default -> {
+				in.skipValue();
+				yield -1;
+			}
+		};
+		if (level <= 0) {
+			return;
+		}
+
+		int index = tree.indexOf(id);
+		if (index < 0) {
+			unknownCount++;
+			return;
+		}
+
+		bits[index >>> 6] |= 1L << index;
+		if (level > 1) {
+			if (levels == null) {
+				levels = new byte[tree.size()];
+			}
+			levels[index] = (byte) Math.min(level, Byte.MAX_VALUE);
+		}
+	}
+
+	/**
+	 * Checks if a node is unlocked.
+	 *
+	 * @param index The node index in the tree
+	 * @return true if unlocked
+	 */
+	public boolean isUnlocked(int index) {
+		return (bits[index >>> 6] & (1L << index)) != 0;
+	}
+
+	/**
+	 * Checks if an ability is unlocked.
+	 *
+	 * @param id The ability id
+	 * @return true if unlocked
+	 */
+	public boolean isUnlocked(String id) {
+		int index = tree.indexOf(id);
+		return index >= 0 && isUnlocked(index);
+	}
+
+	/**
+	 * Gets the level of a node.
+	 *
+	 * @param index The node index in the tree
+	 * @return The level, 0 when locked
+	 */
+	public int getLevel(int index) {
+		if (!isUnlocked(index)) {
+			return 0;
+		}
+		return levels != null && levels[index] > 0 ? levels[index] : 1;
+	}
+
+	/**
+	 * Gets the number of unlocked nodes.
+	 *
+	 * @return The count
+	 */
+	public int count() {
+		int count = 0;
+		for (long word : bits) {
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+
+	/**
+	 * Visits the unlocked node indices in ascending order, without allocating.
+	 *
+	 * @param action Receives each unlocked node index
+	 */
+	public void forEachUnlocked(IntConsumer action) {
+		for (int word = 0; word < bits.length; word++) {
+			long remaining = bits[word];
+			while (remaining != 0) {
+				action.accept((word << 6) + Long.numberOfTrailingZeros(remaining));
+				remaining &= remaining - 1;
+			}
+		}
+	}
+
+	/**
+	 * Gets the number of unlocked abilities missing from the tree, which means the tree is outdated.
+	 *
+	 * @return The count of unknown abilities
+	 */
+	public int getUnknownCount() {
+		return unknownCount;
+	}
+
+	public AbilityTree getTree() {
+		return tree;
+	}
+
+	@Override
+	public String toString() {
+		return "UnlockedAbilities{unlocked=" + count() + "/" + tree.size() + "}";
+	}
+}
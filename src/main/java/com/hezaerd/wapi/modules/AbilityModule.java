@@ -1,9 +1,22 @@
 package com.hezaerd.wapi.modules;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.hezaerd.wapi.client.WapiHttpClient;
+import com.hezaerd.wapi.models.AbilityTree;
 import com.hezaerd.wapi.models.ApiResponse;
+import com.hezaerd.wapi.models.UnlockedAbilities;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.MalformedJsonException;
 
 /**
  * Module for interacting with <a href="https://docs.wynncraft.com/docs/modules/ability.html">Wynncraft Ability & Aspects API endpoints</a>
@@ -11,6 +24,9 @@ import com.hezaerd.wapi.models.ApiResponse;
 public class AbilityModule {
 	private final WapiHttpClient httpClient;
 
+	// Ability trees by lowercase class name, fetched once and shared by every character of the class
+	private final Map<String, CompletableFuture<ApiResponse<AbilityTree>>> trees = new ConcurrentHashMap<>();
+
 	public AbilityModule(WapiHttpClient httpClient) {
 		this.httpClient = httpClient;
 	}
@@ -62,4 +78,101 @@ public class AbilityModule {
 	public CompletableFuture<ApiResponse<Object>> getAbilitiesByClass(String className) {
 		return httpClient.get("/v3/abilities", Object.class, "class", className);
 	}
+
+	/**
+	 * Get the ability tree of a class, indexed by ability id.
+	 * The tree is fetched once per class and cached until a character response shows it is outdated,
+	 * after a game update. Concurrent calls share one request, so cancelling the returned future
+	 * only detaches this caller.
+	 *
+	 * @param className The class name
+	 * @return CompletableFuture containing the ability tree
+	 */
+	public CompletableFuture<ApiResponse<AbilityTree>> getTree(String className) {
+		String key = className.toLowerCase(Locale.ROOT);
+		CompletableFuture<ApiResponse<AbilityTree>> cached = trees.get(key);
+		if (cached != null) {
+			return cached.copy();
+		}
+
+		CompletableFuture<ApiResponse<AbilityTree>> created = new CompletableFuture<>();
+		CompletableFuture<ApiResponse<AbilityTree>> pending = trees.putIfAbsent(key, created);
+		if (pending != null) {
+			return pending.copy();
+		}
+
+		httpClient.get("/v3/abilities", AbilityTree.class, "class", className).whenComplete((response, error) -> {
+			if (error != null) {
+				trees.remove(key, created);
+				created.completeExceptionally(error);
+			} else if (!response.isSuccess()) {
+				trees.remove(key, created);
+				created.complete(response);
+			} else {
+				created.complete(response);
+			}
+		});
+		return created.copy();
+	}
+
+	/**
+	 * Get the abilities unlocked by a character, read straight from the response into a bitset
+	 * over the cached ability tree of its class. The response is read on the request executor;
+	 * a malformed body completes the future with a failed response. When the character has abilities the tree does
+	 * not know, the tree is dropped from the cache so that the next call fetches it again.
+	 * Cancelling the returned future aborts the character request, not the shared tree request.
+	 *
+	 * @param username The player's username
+	 * @param character The character name
+	 * @param className The class of the character, see {@link com.hezaerd.wapi.models.CharacterData#getType()}
+	 * @return CompletableFuture containing the unlocked abilities
+	 */
+	public CompletableFuture<ApiResponse<UnlockedAbilities>> getUnlocked(String username, String character, String className) {
+		AtomicReference<CompletableFuture<ApiResponse<UnlockedAbilities>>> request = new AtomicReference<>();
+		CompletableFuture<ApiResponse<UnlockedAbilities>> result = getTree(className).thenCompose(treeResponse -> {
+			if (!treeResponse.isSuccess()) {
+				return CompletableFuture.completedFuture(ApiResponse.<UnlockedAbilities>failure(treeResponse.getException()));
+			}
+
+			AbilityTree tree = treeResponse.getData();
+			request.set(httpClient.get("/v3/player/" + username + "/character/" + character + "/ability", body -> {
+				UnlockedAbilities unlocked = read(tree, new JsonReader(new InputStreamReader(body, StandardCharsets.UTF_8)));
+				if (unlocked.getUnknownCount() > 0) {
+					dropTree(className, tree);
+				}
+				return unlocked;
+			}));
+			return request.get();
+		});
+
+		result.whenComplete((response, error) -> {
+			CompletableFuture<ApiResponse<UnlockedAbilities>> pending = request.get();
+			if (result.isCancelled() && pending != null) {
+				pending.cancel(true);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Reads unlocked abilities, reporting a malformed body as a syntax error rather than a read failure.
+	 */
+	private static UnlockedAbilities read(AbilityTree tree, JsonReader reader) throws IOException {
+		try {
+			return UnlockedAbilities.read(tree, reader);
+		} catch (MalformedJsonException | IllegalStateException | NumberFormatException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+
+	/**
+	 * Drops an outdated tree from the cache, unless it was already replaced.
+	 */
+	private void dropTree(String className, AbilityTree outdated) {
+		String key = className.toLowerCase(Locale.ROOT);
+		CompletableFuture<ApiResponse<AbilityTree>> cached = trees.get(key);
+		if (cached != null && cached.isDone() && cached.join().getDataOrNull() == outdated) {
+			trees.remove(key, cached);
+		}
+	}
 }
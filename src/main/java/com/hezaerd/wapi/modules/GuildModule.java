@@ -2,7 +2,9 @@ package com.hezaerd.wapi.modules;
 
 import java.util.concurrent.CompletableFuture;
 
+import com.hezaerd.wapi.buffer.SharedPayload;
 import com.hezaerd.wapi.client.WapiHttpClient;
+import com.hezaerd.wapi.json.Projection;
 import com.hezaerd.wapi.models.ApiResponse;
 import com.hezaerd.wapi.models.GuildData;
 
@@ -37,6 +39,29 @@ public class GuildModule {
 		return httpClient.get("/v3/guild/" + guildName, GuildData.class, "identifier", identifier);
 	}
 
+	/**
+	 * Get only some fields of a guild, skipping the rest of the response while it is read.
+	 * Fields outside the projection are left at their defaults.
+	 *
+	 * @param guildName The guild's name (case-insensitive)
+	 * @param projection The JSON fields to decode (e.g. {@code Projection.of("level", "territories", "online")})
+	 * @return CompletableFuture containing the partial guild data
+	 */
+	public CompletableFuture<ApiResponse<GuildData>> getByName(String guildName, Projection projection) {
+		return httpClient.get("/v3/guild/" + guildName, GuildData.class, projection);
+	}
+
+	/**
+	 * Get the raw JSON of a guild, e.g. to forward it as-is while also decoding it
+	 * with {@link SharedPayload#decode(Class)}. The payload must be released when done.
+	 *
+	 * @param guildName The guild's name (case-insensitive)
+	 * @return CompletableFuture containing the raw guild payload
+	 */
+	public CompletableFuture<ApiResponse<SharedPayload>> getRawByName(String guildName) {
+		return httpClient.getRaw("/v3/guild/" + guildName);
+	}
+
 	/**
 	 * Get guild information by prefix.
 	 *
@@ -54,7 +54,7 @@ public class ItemModule {
 	 * @return CompletableFuture containing item search results
 	 */
 	public CompletableFuture<ApiResponse<Object>> quickSearch(String query) {
-		return httpClient.get("/v3/item/search/" + query, Object.class);
+		return httpClient.get("/v3/item/search/" + WapiHttpClient.encodePathSegment(query), Object.class);
 	}
 
 	/**
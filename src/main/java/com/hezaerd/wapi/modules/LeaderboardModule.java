@@ -1,15 +1,21 @@
 package com.hezaerd.wapi.modules;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.hezaerd.wapi.client.WapiHttpClient;
+import com.hezaerd.wapi.leaderboard.LeaderboardSweep;
 import com.hezaerd.wapi.models.ApiResponse;
+import com.hezaerd.wapi.models.LeaderboardTable;
 
 /**
  * Module for interacting with <a href="https://docs.wynncraft.com/docs/modules/leaderboard.html">Wynncraft Leaderboard API endpoints</a>
  */
 public class LeaderboardModule {
 	private final WapiHttpClient httpClient;
+	private final Map<String, CompletableFuture<ApiResponse<LeaderboardTable>>> tablesInFlight = new ConcurrentHashMap<>();
 
 	public LeaderboardModule(WapiHttpClient httpClient) {
 		this.httpClient = httpClient;
@@ -51,4 +57,44 @@ public class LeaderboardModule {
 	public CompletableFuture<ApiResponse<Object>> getLeaderboard(String type) {
 		return httpClient.get("/v3/leaderboard/" + type, Object.class);
 	}
+
+	/**
+	 * Get a leaderboard decoded into columns, e.g. to record it in a
+	 * {@link com.hezaerd.wapi.leaderboard.LeaderboardHistory}.
+	 * Concurrent calls share one request, so cancelling the returned future only detaches this caller.
+	 *
+	 * @param type The leaderboard type
+	 * @return CompletableFuture containing the leaderboard table
+	 */
+	public CompletableFuture<ApiResponse<LeaderboardTable>> getTable(String type) {
+		// Concurrent requests for the same leaderboard share a single call
+		CompletableFuture<ApiResponse<LeaderboardTable>> created = new CompletableFuture<>();
+		CompletableFuture<ApiResponse<LeaderboardTable>> pending = tablesInFlight.putIfAbsent(type, created);
+		if (pending != null) {
+			return pending.copy();
+		}
+
+		httpClient.get("/v3/leaderboard/" + type, LeaderboardTable.class).whenComplete((response, error) -> {
+			tablesInFlight.remove(type, created);
+			if (error != null) {
+				created.completeExceptionally(error);
+			} else {
+				created.complete(response);
+			}
+		});
+		return created.copy();
+	}
+
+	/**
+	 * Refreshes several leaderboards in one sweep, fanning the requests out within
+	 * the spare rate limit budget ({@link WapiHttpClient#getSpareBudget()}), the same
+	 * budget refresh-ahead uses, so a sweep never eats into the foreground reserve. With a cache policy on "/v3/leaderboard/",
+	 * unchanged leaderboards are revalidated conditionally instead of downloaded again.
+	 *
+	 * @param types The leaderboard types
+	 * @return CompletableFuture containing the tables, errors and per-type timings of the sweep
+	 */
+	public CompletableFuture<LeaderboardSweep> refreshAll(Collection<String> types) {
+		return LeaderboardSweep.run(this, types, httpClient.getSpareBudget());
+	}
 }
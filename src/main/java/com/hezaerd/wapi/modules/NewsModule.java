@@ -2,8 +2,10 @@ package com.hezaerd.wapi.modules;
 
 import java.util.concurrent.CompletableFuture;
 
+import com.hezaerd.wapi.cache.CacheEntry;
 import com.hezaerd.wapi.client.WapiHttpClient;
 import com.hezaerd.wapi.models.ApiResponse;
+import com.hezaerd.wapi.models.NewsData;
 
 /**
  * Module for interacting with <a href="https://docs.wynncraft.com/docs/modules/news.html">Wynncraft News API endpoints</a>
@@ -70,4 +72,18 @@ public class NewsModule {
 	public CompletableFuture<ApiResponse<Object>> getAnnouncements() {
 		return getNewsByCategory("announcements");
 	}
+
+	/**
+	 * Get the latest posts of a category, decoded, only if they changed since a previous response.
+	 * See {@link WapiHttpClient#getIfModified(String, Class, CacheEntry, String...)}.
+	 *
+	 * @param category The news category
+	 * @param limit Maximum number of news items to return
+	 * @param previous The entry of the previous response, or null
+	 * @return CompletableFuture containing the previous entry if unchanged, or a new entry holding a {@code NewsData[]}
+	 */
+	public CompletableFuture<ApiResponse<CacheEntry>> getNewsIfModified(String category, int limit, CacheEntry previous) {
+		return httpClient.getIfModified("/v3/news", NewsData[].class, previous,
+			"category", category, "limit", String.valueOf(limit));
+	}
 }
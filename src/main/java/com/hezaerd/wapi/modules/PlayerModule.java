@@ -3,7 +3,9 @@ package com.hezaerd.wapi.modules;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import com.hezaerd.wapi.cache.CacheEntry;
 import com.hezaerd.wapi.client.WapiHttpClient;
+import com.hezaerd.wapi.dispatch.Dispatchers;
 import com.hezaerd.wapi.models.AbilityMap;
 import com.hezaerd.wapi.models.ApiResponse;
 import com.hezaerd.wapi.models.CharacterData;
@@ -48,8 +50,21 @@ public class PlayerModule {
 	 * @return CompletableFuture containing character list
 	 */
 	public CompletableFuture<ApiResponse<List<CharacterData>>> getCharacters(String username) {
-		return httpClient.get("/v3/player/" + username + "/character", CharacterListResponse.class)
-			.thenApply(response -> response.map(CharacterListResponse::getCharacters));
+		CompletableFuture<ApiResponse<CharacterListResponse>> request =
+			httpClient.get("/v3/player/" + username + "/character", CharacterListResponse.class);
+		return Dispatchers.propagateCancel(request.thenApply(response -> response.map(CharacterListResponse::getCharacters)), request);
+	}
+
+	/**
+	 * Get a list of player's characters, decoded, only if it changed since a previous response.
+	 * See {@link WapiHttpClient#getIfModified(String, Class, CacheEntry, String...)}.
+	 *
+	 * @param username The player's username
+	 * @param previous The entry of the previous response, or null
+	 * @return CompletableFuture containing the previous entry if unchanged, or a new entry holding a {@link CharacterListResponse}
+	 */
+	public CompletableFuture<ApiResponse<CacheEntry>> getCharactersIfModified(String username, CacheEntry previous) {
+		return httpClient.getIfModified("/v3/player/" + username + "/character", CharacterListResponse.class, previous);
 	}
 
 	/**
@@ -89,8 +104,8 @@ public class PlayerModule {
 	 * @return CompletableFuture containing online players count
 	 */
 	public CompletableFuture<ApiResponse<Integer>> getOnlinePlayersCount() {
-		return getOnlinePlayers().thenApply(response ->
-			response.map(OnlinePlayersResponse::getCount));
+		CompletableFuture<ApiResponse<OnlinePlayersResponse>> request = getOnlinePlayers();
+		return Dispatchers.propagateCancel(request.thenApply(response -> response.map(OnlinePlayersResponse::getCount)), request);
 	}
 
 	/**
@@ -99,7 +114,7 @@ public class PlayerModule {
 	 * @return CompletableFuture containing list of online usernames
 	 */
 	public CompletableFuture<ApiResponse<List<String>>> getOnlinePlayerNames() {
-		return getOnlinePlayers().thenApply(response ->
-			response.map(OnlinePlayersResponse::getPlayers));
+		CompletableFuture<ApiResponse<OnlinePlayersResponse>> request = getOnlinePlayers();
+		return Dispatchers.propagateCancel(request.thenApply(response -> response.map(OnlinePlayersResponse::getPlayers)), request);
 	}
 }
@@ -4,9 +4,11 @@ import java.util.concurrent.CompletableFuture;
 
 import com.hezaerd.wapi.client.WapiHttpClient;
 import com.hezaerd.wapi.models.ApiResponse;
+import com.hezaerd.wapi.models.SearchResults;
 
 /**
  * Module for interacting with <a href="https://docs.wynncraft.com/docs/modules/search.html">Wynncraft Search API endpoints</a>
+ * Queries are free text and are percent-encoded into the path.
  */
 public class SearchModule {
 	private final WapiHttpClient httpClient;
@@ -22,7 +24,18 @@ public class SearchModule {
 	 * @return CompletableFuture containing search results
 	 */
 	public CompletableFuture<ApiResponse<Object>> search(String query) {
-		return httpClient.get("/v3/search/" + query, Object.class);
+		return httpClient.get("/v3/search/" + WapiHttpClient.encodePathSegment(query), Object.class);
+	}
+
+	/**
+	 * Search for players, guilds, and items, decoded to their names.
+	 * Cancelling the returned future aborts the request.
+	 *
+	 * @param query The search query
+	 * @return CompletableFuture containing typed search results
+	 */
+	public CompletableFuture<ApiResponse<SearchResults>> find(String query) {
+		return httpClient.get("/v3/search/" + WapiHttpClient.encodePathSegment(query), SearchResults.class);
 	}
 
 	/**
@@ -32,7 +45,7 @@ public class SearchModule {
 	 * @return CompletableFuture containing player search results
 	 */
 	public CompletableFuture<ApiResponse<Object>> searchPlayers(String query) {
-		return httpClient.get("/v3/search/player/" + query, Object.class);
+		return httpClient.get("/v3/search/player/" + WapiHttpClient.encodePathSegment(query), Object.class);
 	}
 
 	/**
@@ -42,7 +55,7 @@ public class SearchModule {
 	 * @return CompletableFuture containing guild search results
 	 */
 	public CompletableFuture<ApiResponse<Object>> searchGuilds(String query) {
-		return httpClient.get("/v3/search/guild/" + query, Object.class);
+		return httpClient.get("/v3/search/guild/" + WapiHttpClient.encodePathSegment(query), Object.class);
 	}
 
 	/**
@@ -52,6 +65,6 @@ public class SearchModule {
 	 * @return CompletableFuture containing item search results
 	 */
 	public CompletableFuture<ApiResponse<Object>> searchItems(String query) {
-		return httpClient.get("/v3/search/item/" + query, Object.class);
+		return httpClient.get("/v3/search/item/" + WapiHttpClient.encodePathSegment(query), Object.class);
 	}
 }
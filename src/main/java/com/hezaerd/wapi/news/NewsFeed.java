@@ -0,0 +1,162 @@
+package com.hezaerd.wapi.news;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.hezaerd.wapi.cache.CacheEntry;
+import com.hezaerd.wapi.models.ApiResponse;
+import com.hezaerd.wapi.models.NewsData;
+import com.hezaerd.wapi.modules.NewsModule;
+
+/**
+ * Incremental news feed over several categories.
+ * Each poll revalidates the latest page of every category with a conditional request,
+ * so unchanged categories cost a 304 response, and returns only the posts newer than
+ * the newest post seen so far in their category.
+ *
+ * <pre>{@code
+ * NewsFeed feed = new NewsFeed(wapi.news());
+ * feed.poll().thenAccept(posts -> posts.forEach(relay::announce));
+ * }</pre>
+ *
+ * The first poll of a category only sets its cursor and returns no posts, unless the cursor
+ * was restored with {@link #restoreCursor(String, String)}.
+ */
+public class NewsFeed {
+	public static final List<String> DEFAULT_CATEGORIES = List.of("updates", "patches", "announcements");
+	public static final int DEFAULT_PAGE_SIZE = 10;
+
+	private final NewsModule module;
+	private final Set<String> categories;
+	private final int pageSize;
+
+	private final Map<String, CacheEntry> pages = new ConcurrentHashMap<>();
+	private final Map<String, String> cursors = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a feed over the updates, patches and announcements categories.
+	 *
+	 * @param module The news module to poll
+	 */
+	public NewsFeed(NewsModule module) {
+		this(module, DEFAULT_CATEGORIES, DEFAULT_PAGE_SIZE);
+	}
+
+	/**
+	 * Creates a feed.
+	 *
+	 * @param module The news module to poll
+	 * @param categories The categories to follow
+	 * @param pageSize The number of latest posts fetched per category and poll
+	 */
+	public NewsFeed(NewsModule module, Collection<String> categories, int pageSize) {
+		this.module = module;
+		this.categories = Collections.unmodifiableSet(new LinkedHashSet<>(categories));
+		this.pageSize = pageSize;
+	}
+
+	/**
+	 * Polls every category.
+	 *
+	 * @return CompletableFuture containing the new posts, newest first within each category;
+	 *         categories that failed to load contribute none
+	 */
+	public CompletableFuture<List<NewsData>> poll() {
+		List<CompletableFuture<List<NewsData>>> polls = new ArrayList<>();
+		for (String category : categories) {
+			polls.add(poll(category).handle((response, error) ->
+				response != null && response.isSuccess() ? response.getData() : List.<NewsData>of()));
+		}
+
+		return CompletableFuture.allOf(polls.toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+			List<NewsData> posts = new ArrayList<>();
+			for (CompletableFuture<List<NewsData>> poll : polls) {
+				posts.addAll(poll.join());
+			}
+			return posts;
+		});
+	}
+
+	/**
+	 * Polls a single category.
+	 *
+	 * @param category The news category
+	 * @return CompletableFuture containing the new posts of the category, newest first
+	 */
+	public CompletableFuture<ApiResponse<List<NewsData>>> poll(String category) {
+		CacheEntry previous = pages.get(category);
+		return module.getNewsIfModified(category, pageSize, previous)
+			.thenApply(response -> response.map(page -> {
+				if (page == previous) {
+					return List.of();
+				}
+				pages.put(category, page);
+				return advance(category, (NewsData[]) page.getValue());
+			}));
+	}
+
+	/**
+	 * Collects the posts above the cursor of a category and moves the cursor to the newest post,
+	 * the API listing posts newest first.
+	 * When the cursor is not on the page, more than a page was published since the last poll
+	 * and the whole page is new.
+	 */
+	private synchronized List<NewsData> advance(String category, NewsData[] page) {
+		if (page == null || page.length == 0) {
+			return List.of();
+		}
+
+		String cursor = cursors.put(category, keyOf(page[0]));
+		if (cursor == null) {
+			return List.of();
+		}
+
+		List<NewsData> posts = new ArrayList<>();
+		for (NewsData post : page) {
+			if (cursor.equals(keyOf(post))) {
+				break;
+			}
+			posts.add(post);
+		}
+		return posts;
+	}
+
+	/**
+	 * Identifies a post by its URL, or by its title and date when it has none.
+	 */
+	static String keyOf(NewsData post) {
+		return post.getUrl() != null ? post.getUrl() : post.getTitle() + '\n' + post.getDate();
+	}
+
+	/**
+	 * Gets the cursor of a category, identifying the newest post seen, for persisting it.
+	 *
+	 * @param category The news category
+	 * @return The cursor, or null before the first successful poll
+	 */
+	public String getCursor(String category) {
+		return cursors.get(category);
+	}
+
+	/**
+	 * Restores a persisted cursor, so the next poll returns the posts published since.
+	 *
+	 * @param category The news category
+	 * @param cursor A cursor returned by {@link #getCursor(String)}
+	 */
+	public void restoreCursor(String category, String cursor) {
+		cursors.put(category, cursor);
+		pages.remove(category);
+	}
+
+	// Getters
+	public Set<String> getCategories() { return categories; }
+	public int getPageSize() { return pageSize; }
+}
@@ -0,0 +1,427 @@
+package com.hezaerd.wapi.polling;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+import java.util.logging.Logger;
+
+import com.hezaerd.wapi.models.ApiResponse;
+
+/**
+ * Polls a set of keys within a global request budget, learning how often each key changes.
+ * The budget is split between keys in proportion to the square root of their estimated change rate,
+ * which maximizes the average freshness for a fixed number of requests; keys whose last polls found
+ * no change are backed off exponentially on top of that, and their share goes to the others.
+ *
+ * <pre>{@code
+ * AdaptivePoller<String, CacheEntry> guilds = AdaptivePoller.<String, CacheEntry>builder()
+ *     .fetcher((name, previous) -> httpClient.getIfModified("/v3/guild/" + name, GuildData.class, previous))
+ *     .listener((name, previous, current) -> onGuildChanged((GuildData) current.getValue()))
+ *     .requestsPerMinute(60)
+ *     .build();
+ * guilds.addAll(names);
+ * guilds.start(Duration.ofSeconds(1));
+ * }</pre>
+ *
+ * Changes are detected with {@link Objects#equals}, unless a custom test is set: fetchers revalidating
+ * with {@code getIfModified} return the previous entry itself when nothing changed.
+ *
+ * @param <K> The type of the keys
+ * @param <T> The type of the polled data
+ */
+public class AdaptivePoller<K, T> implements AutoCloseable {
+	private static final Logger LOGGER = Logger.getLogger(AdaptivePoller.class.getName());
+
+	// Weight of the previous observations at each poll, about the last 10 polls count
+	private static final double DECAY = 0.9;
+	// Prior of half a change per minimum interval, so new keys start being polled often
+	private static final double PRIOR_CHANGES = 0.5;
+	private static final int MAX_BACKOFF_EXPONENT = 16;
+
+	private final Fetcher<K, T> fetcher;
+	private final BiPredicate<T, T> changed;
+	private final ChangeListener<K, T> listener;
+	private final double requestsPerMilli;
+	private final long minIntervalMillis;
+	private final long maxIntervalMillis;
+
+	private final Map<K, PolledKey<T>> keys = new ConcurrentHashMap<>();
+	private double tokens;
+	private long lastRefill = System.currentTimeMillis();
+	private ScheduledExecutorService scheduler;
+
+	private AdaptivePoller(Builder<K, T> builder) {
+		this.fetcher = Objects.requireNonNull(builder.fetcher, "fetcher");
+		this.changed = builder.changed;
+		this.listener = builder.listener;
+		this.requestsPerMilli = builder.requestsPerMinute / 60_000.0;
+		this.minIntervalMillis = builder.minInterval.toMillis();
+		this.maxIntervalMillis = Math.max(minIntervalMillis, builder.maxInterval.toMillis());
+		this.tokens = maxTokens();
+	}
+
+	/**
+	 * Fetches the current value of a key.
+	 */
+	@FunctionalInterface
+	public interface Fetcher<K, T> {
+		/**
+		 * @param key The key to poll
+		 * @param previous The value of the previous successful poll, or null
+		 * @return CompletableFuture containing the current value
+		 */
+		CompletableFuture<ApiResponse<T>> fetch(K key, T previous);
+	}
+
+	/**
+	 * Receives the values that changed.
+	 */
+	@FunctionalInterface
+	public interface ChangeListener<K, T> {
+		/**
+		 * @param key The polled key
+		 * @param previous The previous value, or null on the first poll
+		 * @param current The new value
+		 */
+		void onChange(K key, T previous, T current);
+	}
+
+	/**
+	 * Starts polling a key, due immediately.
+	 *
+	 * @param key The key
+	 */
+	public void add(K key) {
+		keys.putIfAbsent(key, new PolledKey<>(minIntervalMillis));
+	}
+
+	/**
+	 * Starts polling several keys.
+	 *
+	 * @param keys The keys
+	 */
+	public void addAll(Iterable<? extends K> keys) {
+		for (K key : keys) {
+			add(key);
+		}
+	}
+
+	/**
+	 * Stops polling a key and forgets its value.
+	 *
+	 * @param key The key
+	 */
+	public void remove(K key) {
+		keys.remove(key);
+	}
+
+	/**
+	 * Polls a key now, regardless of its schedule and of the budget.
+	 *
+	 * @param key The key
+	 * @return CompletableFuture containing the polled value
+	 */
+	public CompletableFuture<ApiResponse<T>> refresh(K key) {
+		PolledKey<T> polled = keys.get(key);
+		if (polled == null) {
+			return CompletableFuture.completedFuture(ApiResponse.failure("Key is not polled: " + key));
+		}
+
+		T previous;
+		synchronized (polled) {
+			polled.polling = true;
+			previous = polled.value;
+		}
+
+		CompletableFuture<ApiResponse<T>> future;
+		try {
+			future = fetcher.fetch(key, previous);
+		} catch (RuntimeException e) {
+			future = CompletableFuture.failedFuture(e);
+		}
+
+		return future.handle((response, error) -> {
+			if (error != null) {
+				response = ApiResponse.failure("Poll failed: " + error.getMessage());
+			}
+			record(key, polled, previous, response);
+			return response;
+		});
+	}
+
+	/**
+	 * Updates the change rate estimate of a key and notifies the listener of a change.
+	 * Failed polls only push the key back by its current interval.
+	 */
+	private void record(K key, PolledKey<T> polled, T previous, ApiResponse<T> response) {
+		long now = System.currentTimeMillis();
+		boolean success = response.isSuccess();
+		boolean change = false;
+
+		synchronized (polled) {
+			polled.polling = false;
+			if (success) {
+				T current = response.getDataOrNull();
+				change = polled.lastPolledAt != 0 && changed.test(previous, current);
+				if (polled.lastPolledAt != 0) {
+					polled.changes = polled.changes * DECAY + (change ? 1 : 0);
+					polled.observedMillis = polled.observedMillis * DECAY + (now - polled.lastPolledAt);
+					polled.unchangedStreak = change ? 0 : polled.unchangedStreak + 1;
+				}
+				polled.value = current;
+				polled.lastPolledAt = now;
+			}
+			polled.retryAt = success ? 0 : now + Math.max(minIntervalMillis, polled.intervalMillis);
+		}
+
+		if (success && (change || previous == null) && listener != null && keys.get(key) == polled) {
+			try {
+				listener.onChange(key, previous, response.getDataOrNull());
+			} catch (RuntimeException e) {
+				LOGGER.warning("Change listener failed for " + key + ": " + e);
+			}
+		}
+	}
+
+	/**
+	 * Reallocates the budget between keys and polls the keys that are due, most overdue first,
+	 * as long as the budget allows.
+	 *
+	 * @return The number of polls started
+	 */
+	public int pollDue() {
+		long now = System.currentTimeMillis();
+		List<Map.Entry<K, PolledKey<T>>> entries = new ArrayList<>(keys.entrySet());
+		allocate(entries);
+
+		List<Map.Entry<K, PolledKey<T>>> due = new ArrayList<>();
+		for (Map.Entry<K, PolledKey<T>> entry : entries) {
+			PolledKey<T> polled = entry.getValue();
+			synchronized (polled) {
+				if (!polled.polling && polled.nextPollAt() <= now) {
+					polled.overdue = (double) (now - polled.nextPollAt()) / Math.max(1, polled.intervalMillis);
+					due.add(entry);
+				}
+			}
+		}
+		due.sort(Comparator.comparingDouble((Map.Entry<K, PolledKey<T>> entry) -> entry.getValue().overdue).reversed());
+
+		int started = 0;
+		for (Map.Entry<K, PolledKey<T>> entry : due) {
+			if (!tryAcquire()) {
+				break;
+			}
+			refresh(entry.getKey());
+			started++;
+		}
+		return started;
+	}
+
+	/**
+	 * Splits the request rate between keys in proportion to the square root of their change rate,
+	 * halved for each consecutive poll that found no change, then clamps the resulting intervals.
+	 */
+	private void allocate(List<Map.Entry<K, PolledKey<T>>> entries) {
+		double[] weights = new double[entries.size()];
+		double total = 0;
+		for (int i = 0; i < weights.length; i++) {
+			PolledKey<T> polled = entries.get(i).getValue();
+			synchronized (polled) {
+				weights[i] = Math.sqrt(changeRate(polled)) / (1L << Math.min(polled.unchangedStreak, MAX_BACKOFF_EXPONENT));
+			}
+			total += weights[i];
+		}
+
+		for (int i = 0; i < weights.length; i++) {
+			PolledKey<T> polled = entries.get(i).getValue();
+			double frequency = total > 0 ? requestsPerMilli * weights[i] / total : 0;
+			long interval = frequency > 0 ? (long) Math.min(1 / frequency, Long.MAX_VALUE) : maxIntervalMillis;
+			synchronized (polled) {
+				polled.intervalMillis = Math.max(minIntervalMillis, Math.min(maxIntervalMillis, interval));
+			}
+		}
+	}
+
+	/**
+	 * Estimates the changes per millisecond of a key from its decayed observations.
+	 */
+	private double changeRate(PolledKey<T> polled) {
+		return (polled.changes + PRIOR_CHANGES) / (polled.observedMillis + PRIOR_CHANGES * minIntervalMillis);
+	}
+
+	private synchronized boolean tryAcquire() {
+		long now = System.currentTimeMillis();
+		tokens = Math.min(maxTokens(), tokens + (now - lastRefill) * requestsPerMilli);
+		lastRefill = now;
+		if (tokens < 1) {
+			return false;
+		}
+		tokens -= 1;
+		return true;
+	}
+
+	/**
+	 * Allows bursts of up to 10 seconds worth of requests.
+	 */
+	private double maxTokens() {
+		return Math.max(1, requestsPerMilli * 10_000);
+	}
+
+	/**
+	 * Starts polling in the background.
+	 *
+	 * @param tick How often due keys are looked for
+	 */
+	public synchronized void start(Duration tick) {
+		if (scheduler != null) {
+			return;
+		}
+		scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+			Thread thread = new Thread(task, "wapi-adaptive-poller");
+			thread.setDaemon(true);
+			return thread;
+		});
+		scheduler.scheduleWithFixedDelay(() -> {
+			try {
+				pollDue();
+			} catch (RuntimeException e) {
+				LOGGER.warning("Adaptive poll failed: " + e);
+			}
+		}, 0, tick.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Stops polling in the background.
+	 */
+	public synchronized void stop() {
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+			scheduler = null;
+		}
+	}
+
+	@Override
+	public void close() {
+		stop();
+	}
+
+	/**
+	 * Gets the value of the last successful poll of a key.
+	 *
+	 * @param key The key
+	 * @return The value, or null if the key was not polled yet
+	 */
+	public T getLast(K key) {
+		PolledKey<T> polled = keys.get(key);
+		return polled != null ? polled.value : null;
+	}
+
+	/**
+	 * Gets the current polling interval of a key, as last allocated.
+	 *
+	 * @param key The key
+	 * @return The interval, or null if the key is not polled
+	 */
+	public Duration getInterval(K key) {
+		PolledKey<T> polled = keys.get(key);
+		return polled != null ? Duration.ofMillis(polled.intervalMillis) : null;
+	}
+
+	/**
+	 * Gets the estimated change rate of a key.
+	 *
+	 * @param key The key
+	 * @return The estimated changes per hour, or 0 if the key is not polled
+	 */
+	public double getChangesPerHour(K key) {
+		PolledKey<T> polled = keys.get(key);
+		if (polled == null) {
+			return 0;
+		}
+		synchronized (polled) {
+			return changeRate(polled) * 3_600_000;
+		}
+	}
+
+	public Set<K> getKeys() {
+		return Collections.unmodifiableSet(keys.keySet());
+	}
+
+	private static final class PolledKey<T> {
+		volatile T value;
+		volatile long intervalMillis;
+		long lastPolledAt;
+		long retryAt;
+		double changes;
+		double observedMillis;
+		int unchangedStreak;
+		boolean polling;
+		double overdue;
+
+		PolledKey(long intervalMillis) {
+			this.intervalMillis = intervalMillis;
+		}
+
+		long nextPollAt() {
+			return lastPolledAt == 0 ? retryAt : Math.max(lastPolledAt + intervalMillis, retryAt);
+		}
+	}
+
+	public static class Builder<K, T> {
+		private Fetcher<K, T> fetcher;
+		private BiPredicate<T, T> changed = (previous, current) -> !Objects.equals(previous, current);
+		private ChangeListener<K, T> listener;
+		private double requestsPerMinute = 60;
+		private Duration minInterval = Duration.ofSeconds(30);
+		private Duration maxInterval = Duration.ofHours(1);
+
+		public Builder<K, T> fetcher(Fetcher<K, T> fetcher) {
+			this.fetcher = fetcher;
+			return this;
+		}
+
+		public Builder<K, T> changed(BiPredicate<T, T> changed) {
+			this.changed = changed;
+			return this;
+		}
+
+		public Builder<K, T> listener(ChangeListener<K, T> listener) {
+			this.listener = listener;
+			return this;
+		}
+
+		public Builder<K, T> requestsPerMinute(double requestsPerMinute) {
+			this.requestsPerMinute = Math.max(0, requestsPerMinute);
+			return this;
+		}
+
+		public Builder<K, T> minInterval(Duration minInterval) {
+			this.minInterval = minInterval;
+			return this;
+		}
+
+		public Builder<K, T> maxInterval(Duration maxInterval) {
+			this.maxInterval = maxInterval;
+			return this;
+		}
+
+		public AdaptivePoller<K, T> build() {
+			return new AdaptivePoller<>(this);
+		}
+	}
+
+	public static <K, T> Builder<K, T> builder() {
+		return new Builder<>();
+	}
+}
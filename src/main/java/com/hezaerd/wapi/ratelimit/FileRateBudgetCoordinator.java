@@ -0,0 +1,115 @@
+package com.hezaerd.wapi.ratelimit;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Supplier;
+
+/**
+ * Shares a rate limit budget between processes on the same host through a
+ * memory-mapped file. Every process opens a coordinator on the same path, and
+ * updates are serialized with an exclusive file lock.
+ * Participants that stop sending heartbeats (e.g. crashed processes) are dropped
+ * after 30 seconds and their share is handed back to the others.
+ * <p>
+ * Within one process, open a single coordinator per file and share it between clients.
+ */
+public class FileRateBudgetCoordinator implements RateBudgetCoordinator, AutoCloseable {
+	private final FileChannel channel;
+	private final MappedByteBuffer buffer;
+	private final SharedBudgetState state;
+
+	/**
+	 * Opens (or creates) a shared budget file, assuming the default Wynncraft rate limit.
+	 *
+	 * @param file The budget file, shared by all participating processes
+	 * @throws UncheckedIOException if the file cannot be opened or mapped
+	 */
+	public FileRateBudgetCoordinator(Path file) {
+		this(file, 120);
+	}
+
+	/**
+	 * Opens (or creates) a shared budget file.
+	 *
+	 * @param file The budget file, shared by all participating processes
+	 * @param limit The requests per minute assumed until the API reports its limit
+	 * @throws UncheckedIOException if the file cannot be opened or mapped
+	 */
+	public FileRateBudgetCoordinator(Path file, int limit) {
+		try {
+			if (file.getParent() != null) {
+				Files.createDirectories(file.getParent());
+			}
+			this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, SharedBudgetState.SIZE);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to open rate budget file " + file, e);
+		}
+		this.state = locked(() -> new SharedBudgetState(buffer, limit));
+	}
+
+	@Override
+	public RateBudget join() {
+		SharedBudgetState.Participant participant = new SharedBudgetState.Participant(InProcessRateBudgetCoordinator.newOwnerId());
+		locked(() -> {
+			state.claim(participant, System.currentTimeMillis());
+			return null;
+		});
+
+		return new RateBudget() {
+			@Override
+			public boolean tryAcquire() {
+				return locked(() -> state.tryAcquire(participant, System.currentTimeMillis()));
+			}
+
+			@Override
+			public void update(int remaining, int limit, long resetSeconds) {
+				locked(() -> {
+					state.update(remaining, limit, resetSeconds, System.currentTimeMillis());
+					return null;
+				});
+			}
+
+			@Override
+			public int getAvailable() {
+				return locked(() -> state.getAvailable(participant, System.currentTimeMillis()));
+			}
+
+			@Override
+			public long getResetSeconds() {
+				return locked(() -> state.getResetSeconds(System.currentTimeMillis()));
+			}
+
+			@Override
+			public void close() {
+				locked(() -> {
+					state.release(participant);
+					return null;
+				});
+			}
+		};
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	/**
+	 * Runs an action holding both the in-process monitor (file locks are held per JVM)
+	 * and the exclusive lock on the file.
+	 */
+	private synchronized <R> R locked(Supplier<R> action) {
+		try (FileLock ignored = channel.lock()) {
+			return action.get();
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to lock rate budget file", e);
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package com.hezaerd.wapi.ratelimit;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Shares a rate limit budget between the clients of a single JVM.
+ * Give every client the same coordinator instance.
+ */
+public class InProcessRateBudgetCoordinator implements RateBudgetCoordinator {
+	private final SharedBudgetState state;
+
+	/**
+	 * Creates a coordinator assuming the default Wynncraft rate limit until headers say otherwise.
+	 */
+	public InProcessRateBudgetCoordinator() {
+		this(120);
+	}
+
+	/**
+	 * Creates a coordinator.
+	 *
+	 * @param limit The requests per minute assumed until the API reports its limit
+	 */
+	public InProcessRateBudgetCoordinator(int limit) {
+		this.state = new SharedBudgetState(ByteBuffer.allocate(SharedBudgetState.SIZE), limit);
+	}
+
+	@Override
+	public RateBudget join() {
+		SharedBudgetState.Participant participant = new SharedBudgetState.Participant(newOwnerId());
+		synchronized (state) {
+			state.claim(participant, System.currentTimeMillis());
+		}
+
+		return new RateBudget() {
+			@Override
+			public boolean tryAcquire() {
+				synchronized (state) {
+					return state.tryAcquire(participant, System.currentTimeMillis());
+				}
+			}
+
+			@Override
+			public void update(int remaining, int limit, long resetSeconds) {
+				synchronized (state) {
+					state.update(remaining, limit, resetSeconds, System.currentTimeMillis());
+				}
+			}
+
+			@Override
+			public int getAvailable() {
+				synchronized (state) {
+					return state.getAvailable(participant, System.currentTimeMillis());
+				}
+			}
+
+			@Override
+			public long getResetSeconds() {
+				synchronized (state) {
+					return state.getResetSeconds(System.currentTimeMillis());
+				}
+			}
+
+			@Override
+			public void close() {
+				synchronized (state) {
+					state.release(participant);
+				}
+			}
+		};
+	}
+
+	static long newOwnerId() {
+		long id;
+		do {
+			id = ThreadLocalRandom.current().nextLong();
+		} while (id == 0);
+		return id;
+	}
+}
@@ -0,0 +1,43 @@
+package com.hezaerd.wapi.ratelimit;
+
+/**
+ * A participant's handle on a rate limit budget shared with other clients.
+ */
+public interface RateBudget extends AutoCloseable {
+	/**
+	 * Takes one request from the budget.
+	 *
+	 * @return true if the request may be sent, false if it would overrun the budget
+	 */
+	boolean tryAcquire();
+
+	/**
+	 * Synchronizes the budget with the rate limit headers of an API response.
+	 *
+	 * @param remaining The RateLimit-Remaining header
+	 * @param limit The RateLimit-Limit header
+	 * @param resetSeconds The RateLimit-Reset header, in seconds from now
+	 */
+	void update(int remaining, int limit, long resetSeconds);
+
+	/**
+	 * Gets how many requests this participant could still send in the current window
+	 * without eating into the fair share of the others.
+	 *
+	 * @return The available requests
+	 */
+	int getAvailable();
+
+	/**
+	 * Gets the time until the current budget window resets and the shares start over.
+	 *
+	 * @return The time until reset, in seconds rounded up
+	 */
+	long getResetSeconds();
+
+	/**
+	 * Leaves the budget, handing this participant's share back to the others.
+	 */
+	@Override
+	void close();
+}
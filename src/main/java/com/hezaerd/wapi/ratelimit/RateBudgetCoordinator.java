@@ -0,0 +1,17 @@
+package com.hezaerd.wapi.ratelimit;
+
+/**
+ * Coordinates a rate limit budget between several clients sharing one IP,
+ * e.g. the shards of a bot, so that together they never exceed the API rate limit.
+ *
+ * @see InProcessRateBudgetCoordinator
+ * @see FileRateBudgetCoordinator
+ */
+public interface RateBudgetCoordinator {
+	/**
+	 * Registers a new participant.
+	 *
+	 * @return The participant's budget handle
+	 */
+	RateBudget join();
+}
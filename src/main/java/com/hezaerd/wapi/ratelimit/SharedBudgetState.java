@@ -0,0 +1,207 @@
+package com.hezaerd.wapi.ratelimit;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Budget state shared by the participants, laid out in a {@link ByteBuffer}
+ * so that it can live on the heap or in a memory-mapped file.
+ * All methods must be called while holding the coordinator's lock.
+ * <p>
+ * Fairness: each active participant is entitled to {@code limit / participants}
+ * requests per window. A participant may go over its share only while enough
+ * budget remains for every other participant to still use the rest of theirs,
+ * so idle shares are lent out without ever starving anyone.
+ */
+final class SharedBudgetState {
+	static final int MAX_PARTICIPANTS = 64;
+	static final int SIZE = 32 + MAX_PARTICIPANTS * 24;
+
+	private static final int MAGIC = 0x57415049; // "WAPI"
+	private static final long WINDOW_MILLIS = 60_000;
+	private static final long HEARTBEAT_TIMEOUT_MILLIS = 30_000;
+
+	// Header layout
+	private static final int MAGIC_OFFSET = 0;
+	private static final int LIMIT_OFFSET = 4;
+	private static final int WINDOW_START_OFFSET = 8;
+	private static final int SERVER_USED_OFFSET = 16;
+	private static final int SLOTS_OFFSET = 32;
+
+	// Slot layout
+	private static final int SLOT_SIZE = 24;
+	private static final int OWNER = 0;
+	private static final int HEARTBEAT = 8;
+	private static final int USED = 16;
+
+	private final ByteBuffer buffer;
+
+	SharedBudgetState(ByteBuffer buffer, int defaultLimit) {
+		this.buffer = buffer;
+		if (buffer.getInt(MAGIC_OFFSET) != MAGIC) {
+			for (int i = 0; i < SIZE; i++) {
+				buffer.put(i, (byte) 0);
+			}
+			buffer.putInt(MAGIC_OFFSET, MAGIC);
+			buffer.putInt(LIMIT_OFFSET, defaultLimit);
+		}
+	}
+
+	/**
+	 * Claims a free slot for a participant.
+	 *
+	 * @throws IllegalStateException if every slot is taken
+	 */
+	void claim(Participant participant, long now) {
+		expireStaleSlots(now);
+		for (int slot = 0; slot < MAX_PARTICIPANTS; slot++) {
+			if (owner(slot) == 0) {
+				put(slot, OWNER, participant.owner);
+				put(slot, HEARTBEAT, now);
+				buffer.putInt(offset(slot) + USED, 0);
+				participant.slot = slot;
+				return;
+			}
+		}
+		throw new IllegalStateException("Too many rate budget participants (max " + MAX_PARTICIPANTS + ")");
+	}
+
+	void release(Participant participant) {
+		if (owner(participant.slot) == participant.owner) {
+			put(participant.slot, OWNER, 0);
+		}
+	}
+
+	boolean tryAcquire(Participant participant, long now) {
+		int slot = refresh(participant, now);
+
+		int limit = buffer.getInt(LIMIT_OFFSET);
+		if (totalUsed() >= limit || available(slot, limit) <= 0) {
+			return false;
+		}
+
+		int base = offset(slot) + USED;
+		buffer.putInt(base, buffer.getInt(base) + 1);
+		return true;
+	}
+
+	int getAvailable(Participant participant, long now) {
+		int slot = refresh(participant, now);
+		return available(slot, buffer.getInt(LIMIT_OFFSET));
+	}
+
+	long getResetSeconds(long now) {
+		rollWindow(now);
+		long untilReset = buffer.getLong(WINDOW_START_OFFSET) + WINDOW_MILLIS - now;
+		return Math.max(0, (untilReset + 999) / 1000);
+	}
+
+	void update(int remaining, int limit, long resetSeconds, long now) {
+		rollWindow(now);
+
+		// Align the window with the server's once it reports a newer one
+		long serverWindowStart = now + resetSeconds * 1000 - WINDOW_MILLIS;
+		if (resetSeconds > 0 && serverWindowStart > buffer.getLong(WINDOW_START_OFFSET) + 1000) {
+			startWindow(serverWindowStart);
+		}
+
+		buffer.putInt(LIMIT_OFFSET, limit);
+		buffer.putInt(SERVER_USED_OFFSET, Math.max(buffer.getInt(SERVER_USED_OFFSET), limit - remaining));
+	}
+
+	private int refresh(Participant participant, long now) {
+		rollWindow(now);
+		expireStaleSlots(now);
+
+		// A participant whose slot expired (e.g. after a long pause) rejoins
+		if (owner(participant.slot) != participant.owner) {
+			claim(participant, now);
+		}
+		put(participant.slot, HEARTBEAT, now);
+		return participant.slot;
+	}
+
+	private int available(int slot, int limit) {
+		int participants = 0;
+		for (int i = 0; i < MAX_PARTICIPANTS; i++) {
+			if (owner(i) != 0) {
+				participants++;
+			}
+		}
+
+		int fairShare = limit / Math.max(1, participants);
+		int reservedForOthers = 0;
+		for (int i = 0; i < MAX_PARTICIPANTS; i++) {
+			if (i != slot && owner(i) != 0) {
+				reservedForOthers += Math.max(0, fairShare - used(i));
+			}
+		}
+
+		int remaining = limit - totalUsed();
+		int ownShareLeft = fairShare - used(slot);
+		return Math.max(0, Math.min(remaining, Math.max(ownShareLeft, remaining - reservedForOthers)));
+	}
+
+	private int totalUsed() {
+		int used = 0;
+		for (int i = 0; i < MAX_PARTICIPANTS; i++) {
+			if (owner(i) != 0) {
+				used += used(i);
+			}
+		}
+		return Math.max(used, buffer.getInt(SERVER_USED_OFFSET));
+	}
+
+	private void rollWindow(long now) {
+		if (now - buffer.getLong(WINDOW_START_OFFSET) >= WINDOW_MILLIS) {
+			startWindow(now);
+		}
+	}
+
+	private void startWindow(long start) {
+		buffer.putLong(WINDOW_START_OFFSET, start);
+		buffer.putInt(SERVER_USED_OFFSET, 0);
+		for (int i = 0; i < MAX_PARTICIPANTS; i++) {
+			buffer.putInt(offset(i) + USED, 0);
+		}
+	}
+
+	private void expireStaleSlots(long now) {
+		for (int i = 0; i < MAX_PARTICIPANTS; i++) {
+			if (owner(i) != 0 && now - get(i, HEARTBEAT) > HEARTBEAT_TIMEOUT_MILLIS) {
+				put(i, OWNER, 0);
+			}
+		}
+	}
+
+	private long owner(int slot) {
+		return get(slot, OWNER);
+	}
+
+	private int used(int slot) {
+		return buffer.getInt(offset(slot) + USED);
+	}
+
+	private long get(int slot, int field) {
+		return buffer.getLong(offset(slot) + field);
+	}
+
+	private void put(int slot, int field, long value) {
+		buffer.putLong(offset(slot) + field, value);
+	}
+
+	private static int offset(int slot) {
+		return SLOTS_OFFSET + slot * SLOT_SIZE;
+	}
+
+	/**
+	 * A participant's identity and current slot.
+	 */
+	static final class Participant {
+		final long owner;
+		int slot;
+
+		Participant(long owner) {
+			this.owner = owner;
+		}
+	}
+}
@@ -0,0 +1,191 @@
+package com.hezaerd.wapi.reactive;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.hezaerd.wapi.models.ApiResponse;
+
+/**
+ * A cold {@link Flow.Publisher} of API responses driven entirely by subscriber demand.
+ * A request is only sent when the subscriber has outstanding demand and no other request
+ * of the same subscription is in flight, so slow subscribers slow down the API calls
+ * instead of buffering responses.
+ *
+ * @param <T> The type of the response data
+ */
+public final class ApiPublisher<T> implements Flow.Publisher<ApiResponse<T>> {
+	private final Source<T> source;
+
+	/**
+	 * Creates a publisher pulling its elements from the given source.
+	 *
+	 * @param source The source of requests
+	 */
+	public ApiPublisher(Source<T> source) {
+		this.source = Objects.requireNonNull(source, "source");
+	}
+
+	/**
+	 * Creates a publisher that repeats the same request, waiting {@code interval}
+	 * between the delivery of a response and the next request.
+	 *
+	 * @param request Supplies the request to send
+	 * @param interval The delay between two requests
+	 * @param <T> The type of the response data
+	 * @return A never-ending polling publisher
+	 */
+	public static <T> ApiPublisher<T> polling(Supplier<CompletableFuture<ApiResponse<T>>> request, Duration interval) {
+		long delay = interval.toMillis();
+		return new ApiPublisher<>((index, previous) -> index == 0
+			? request.get()
+			: CompletableFuture.runAsync(() -> {}, CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS))
+				.thenCompose(ignored -> request.get()));
+	}
+
+	/**
+	 * Creates a publisher sending one request per key, in order, then completing.
+	 *
+	 * @param keys The keys to look up
+	 * @param request Maps a key to its request
+	 * @param <K> The type of the keys
+	 * @param <T> The type of the response data
+	 * @return A finite publisher with one response per key
+	 */
+	public static <K, T> ApiPublisher<T> forEach(Iterable<K> keys, Function<K, CompletableFuture<ApiResponse<T>>> request) {
+		List<K> snapshot = new ArrayList<>();
+		keys.forEach(snapshot::add);
+		return new ApiPublisher<>((index, previous) -> index < snapshot.size()
+			? request.apply(snapshot.get((int) index))
+			: null);
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super ApiResponse<T>> subscriber) {
+		Objects.requireNonNull(subscriber, "subscriber");
+		subscriber.onSubscribe(new ApiSubscription<>(subscriber, source));
+	}
+
+	/**
+	 * Produces the requests of a publisher, one at a time.
+	 *
+	 * @param <T> The type of the response data
+	 */
+	@FunctionalInterface
+	public interface Source<T> {
+		/**
+		 * Sends the request for the element at the given index.
+		 *
+		 * @param index The zero-based index of the element
+		 * @param previous The previously emitted response, or null for the first element
+		 * @return The pending response, or null when the source is exhausted
+		 */
+		CompletableFuture<ApiResponse<T>> fetch(long index, ApiResponse<T> previous);
+	}
+
+	/**
+	 * Subscription issuing at most one request at a time, and only while there is demand.
+	 * Signals are serialized through a work-in-progress counter, so a subscriber calling
+	 * {@link #request(long)} from {@code onNext} never recurses into the source.
+	 */
+	private static final class ApiSubscription<T> implements Flow.Subscription {
+		private final Flow.Subscriber<? super ApiResponse<T>> subscriber;
+		private final Source<T> source;
+
+		private final AtomicLong demand = new AtomicLong();
+		private final AtomicInteger wip = new AtomicInteger();
+
+		private volatile boolean done;
+		private volatile boolean fetching;
+		private volatile CompletableFuture<ApiResponse<T>> inFlight;
+		private volatile ApiResponse<T> previous;
+
+		// Only accessed from within the drain loop
+		private long index;
+
+		ApiSubscription(Flow.Subscriber<? super ApiResponse<T>> subscriber, Source<T> source) {
+			this.subscriber = subscriber;
+			this.source = source;
+		}
+
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				cancel();
+				subscriber.onError(new IllegalArgumentException("Requested a non-positive number of elements: " + n));
+				return;
+			}
+
+			demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			done = true;
+			CompletableFuture<ApiResponse<T>> pending = inFlight;
+			if (pending != null) {
+				pending.cancel(true);
+			}
+		}
+
+		private void drain() {
+			if (wip.getAndIncrement() != 0) {
+				return;
+			}
+
+			do {
+				if (!done && !fetching && demand.get() > 0) {
+					CompletableFuture<ApiResponse<T>> next;
+					try {
+						next = source.fetch(index, previous);
+					} catch (RuntimeException e) {
+						done = true;
+						subscriber.onError(e);
+						continue;
+					}
+
+					if (next == null) {
+						done = true;
+						subscriber.onComplete();
+					} else {
+						index++;
+						fetching = true;
+						inFlight = next;
+						next.whenComplete(this::onFetched);
+					}
+				}
+			} while (wip.decrementAndGet() != 0);
+		}
+
+		private void onFetched(ApiResponse<T> response, Throwable error) {
+			inFlight = null;
+			if (done) {
+				return;
+			}
+
+			if (error != null) {
+				done = true;
+				subscriber.onError(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+				return;
+			}
+
+			previous = response;
+			demand.decrementAndGet();
+			subscriber.onNext(response);
+
+			// Only allow the next request once onNext has returned, keeping signals serial
+			fetching = false;
+			drain();
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package com.hezaerd.wapi.reactive;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.hezaerd.wapi.WapiClient;
+import com.hezaerd.wapi.models.ApiResponse;
+import com.hezaerd.wapi.models.GuildData;
+import com.hezaerd.wapi.models.ItemDatabaseResponse;
+import com.hezaerd.wapi.models.OnlinePlayersResponse;
+import com.hezaerd.wapi.models.PlayerData;
+
+/**
+ * Backpressured {@link java.util.concurrent.Flow.Publisher} variants of the API modules.
+ * Every publisher is cold and sends requests only as the subscriber signals demand.
+ * Any module method can be turned into a publisher through {@link #poll(Supplier, Duration)}
+ * and {@link #forEach(Iterable, Function)}.
+ */
+public final class ReactiveWapiClient {
+	private final WapiClient client;
+
+	/**
+	 * Creates reactive variants of the given client's modules.
+	 *
+	 * @param client The client to send requests through
+	 */
+	public ReactiveWapiClient(WapiClient client) {
+		this.client = client;
+	}
+
+	/**
+	 * Repeatedly sends a request, waiting {@code interval} after each delivered response.
+	 *
+	 * @param request Supplies the request, e.g. {@code () -> client.guild().getByName("Foo")}
+	 * @param interval The delay between two requests
+	 * @param <T> The type of the response data
+	 * @return A never-ending polling publisher
+	 */
+	public <T> ApiPublisher<T> poll(Supplier<CompletableFuture<ApiResponse<T>>> request, Duration interval) {
+		return ApiPublisher.polling(request, interval);
+	}
+
+	/**
+	 * Sends one request per key, in order.
+	 *
+	 * @param keys The keys to look up
+	 * @param request Maps a key to its request, e.g. {@code client.player()::get}
+	 * @param <K> The type of the keys
+	 * @param <T> The type of the response data
+	 * @return A finite publisher with one response per key
+	 */
+	public <K, T> ApiPublisher<T> forEach(Iterable<K> keys, Function<K, CompletableFuture<ApiResponse<T>>> request) {
+		return ApiPublisher.forEach(keys, request);
+	}
+
+	/**
+	 * Polls the list of online players.
+	 *
+	 * @param interval The delay between two polls
+	 * @return Publisher of online player lists
+	 */
+	public ApiPublisher<OnlinePlayersResponse> onlinePlayers(Duration interval) {
+		return poll(client.player()::getOnlinePlayers, interval);
+	}
+
+	/**
+	 * Streams the paginated item database page by page.
+	 * Completes after the last page, or after the first failed page.
+	 *
+	 * @return Publisher of item database pages
+	 */
+	public ApiPublisher<ItemDatabaseResponse> itemPages() {
+		return new ApiPublisher<>((index, previous) -> {
+			if (previous != null && !hasNextPage(previous)) {
+				return null;
+			}
+			return client.item().getDatabase((int) index + 1);
+		});
+	}
+
+	/**
+	 * Looks up players one by one.
+	 *
+	 * @param usernames The players' usernames
+	 * @return Publisher with one response per player
+	 */
+	public ApiPublisher<PlayerData> players(Iterable<String> usernames) {
+		return forEach(usernames, client.player()::get);
+	}
+
+	/**
+	 * Looks up guilds by name one by one.
+	 *
+	 * @param guildNames The guilds' names
+	 * @return Publisher with one response per guild
+	 */
+	public ApiPublisher<GuildData> guilds(Iterable<String> guildNames) {
+		return forEach(guildNames, client.guild()::getByName);
+	}
+
+	private static boolean hasNextPage(ApiResponse<ItemDatabaseResponse> page) {
+		ItemDatabaseResponse data = page.getDataOrNull();
+		return page.isSuccess() && data != null && data.getController() != null && data.getController().getNext() != null;
+	}
+}
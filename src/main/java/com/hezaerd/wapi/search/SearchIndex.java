@@ -0,0 +1,458 @@
+package com.hezaerd.wapi.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import com.hezaerd.wapi.modules.SearchModule;
+
+/**
+ * In-memory autocomplete index over player, guild and item names, answering prefix
+ * and typo-tolerant queries locally. Keys are kept in a sorted array, so a prefix is a
+ * binary search away, with a trigram index to find fuzzy candidates; new names land in
+ * a small overflow buffer that is merged into the index once it fills up.
+ * <p>
+ * Feed it with {@link SearchIndexFeeder} to learn the names of the responses the client
+ * already receives, or add names directly.
+ */
+public class SearchIndex {
+	private static final int OVERFLOW_LIMIT = 512;
+	private static final int DEFAULT_MAX_PLAYERS = 20_000;
+	private static final int MAX_FUZZY_CANDIDATES = 256;
+
+	/**
+	 * What a name refers to.
+	 */
+	public enum Kind {
+		PLAYER,
+		GUILD,
+		ITEM
+	}
+
+	/**
+	 * A search result.
+	 *
+	 * @param kind What the name refers to
+	 * @param name The player, guild or item name
+	 * @param distance The number of typos corrected to match, 0 for a plain prefix match
+	 */
+	public record Match(Kind kind, String name, int distance) {
+	}
+
+	private final int maxPlayers;
+
+	// Every indexed key, in insertion order so the oldest players are dropped first
+	private final Set<Key> keys = new LinkedHashSet<>();
+	private final List<Key> overflow = new ArrayList<>();
+	private volatile Snapshot snapshot = Snapshot.EMPTY;
+	private volatile List<Key> overflowView = List.of();
+	private int players;
+
+	/**
+	 * Creates an index remembering up to 20,000 player names.
+	 */
+	public SearchIndex() {
+		this(DEFAULT_MAX_PLAYERS);
+	}
+
+	/**
+	 * Creates an index.
+	 *
+	 * @param maxPlayers The number of player names remembered, the oldest are forgotten first
+	 */
+	public SearchIndex(int maxPlayers) {
+		this.maxPlayers = maxPlayers;
+	}
+
+	/**
+	 * Adds a name, searchable by itself and by its aliases (e.g. a guild prefix).
+	 *
+	 * @param kind What the name refers to
+	 * @param name The name
+	 * @param aliases Other keys finding the same name
+	 */
+	public void add(Kind kind, String name, String... aliases) {
+		if (name == null || name.isBlank()) {
+			return;
+		}
+
+		synchronized (keys) {
+			addKey(new Key(normalize(name), kind, name));
+			for (String alias : aliases) {
+				if (alias != null && !alias.isBlank()) {
+					addKey(new Key(normalize(alias), kind, name));
+				}
+			}
+			publishOverflow();
+		}
+	}
+
+	/**
+	 * Adds several names of the same kind.
+	 *
+	 * @param kind What the names refer to
+	 * @param names The names
+	 */
+	public void addAll(Kind kind, Iterable<String> names) {
+		synchronized (keys) {
+			for (String name : names) {
+				if (name != null && !name.isBlank()) {
+					addKey(new Key(normalize(name), kind, name));
+				}
+			}
+			publishOverflow();
+		}
+	}
+
+	/**
+	 * Gets the number of indexed keys, names and aliases included.
+	 *
+	 * @return The key count
+	 */
+	public int size() {
+		synchronized (keys) {
+			return keys.size();
+		}
+	}
+
+	/**
+	 * Searches all kinds of names.
+	 *
+	 * @param query The text typed so far
+	 * @param limit The maximum number of results
+	 * @return The matches, best first
+	 */
+	public List<Match> search(String query, int limit) {
+		return search(query, null, limit);
+	}
+
+	/**
+	 * Searches names by prefix, then tolerating typos when there are too few prefix matches.
+	 * Up to one typo is tolerated from 4 characters on, two from 7 on.
+	 *
+	 * @param query The text typed so far
+	 * @param kind The kind of names to search, or null for all
+	 * @param limit The maximum number of results
+	 * @return The matches, best first
+	 */
+	public List<Match> search(String query, Kind kind, int limit) {
+		String q = normalize(query);
+		if (q.isEmpty() || limit <= 0) {
+			return List.of();
+		}
+
+		Snapshot index = snapshot;
+		List<Key> recent = overflowView;
+		Map<Match, Integer> found = new LinkedHashMap<>();
+
+		index.prefixMatches(q, kind, limit, found);
+		for (Key key : recent) {
+			if ((kind == null || key.kind == kind) && key.key.startsWith(q)) {
+				collect(found, key, 0);
+			}
+		}
+
+		int maxEdits = q.length() >= 7 ? 2 : q.length() >= 4 ? 1 : 0;
+		if (found.size() < limit && maxEdits > 0) {
+			index.fuzzyMatches(q, kind, maxEdits, limit, found);
+			for (Key key : recent) {
+				if (kind == null || key.kind == kind) {
+					int distance = prefixDistance(q, key.key, maxEdits);
+					if (distance <= maxEdits) {
+						collect(found, key, distance);
+					}
+				}
+			}
+		}
+
+		List<Map.Entry<Match, Integer>> ranked = new ArrayList<>(found.entrySet());
+		ranked.sort(Comparator.<Map.Entry<Match, Integer>>comparingInt(e -> e.getKey().distance())
+			.thenComparingInt(Map.Entry::getValue)
+			.thenComparing(e -> e.getKey().name()));
+
+		// A name found through several keys keeps its best match only
+		List<Match> matches = new ArrayList<>(Math.min(limit, ranked.size()));
+		Set<Match> seen = new HashSet<>();
+		for (int i = 0; i < ranked.size() && matches.size() < limit; i++) {
+			Match match = ranked.get(i).getKey();
+			if (seen.add(new Match(match.kind(), match.name(), 0))) {
+				matches.add(match);
+			}
+		}
+		return matches;
+	}
+
+	/**
+	 * Searches locally, and only asks the search endpoint when nothing matched.
+	 * Names found remotely are added to the index for the next queries.
+	 *
+	 * @param query The text typed so far
+	 * @param limit The maximum number of results
+	 * @param fallback The search module to ask on a miss
+	 * @return CompletableFuture containing the matches, best first
+	 */
+	public CompletableFuture<List<Match>> search(String query, int limit, SearchModule fallback) {
+		List<Match> local = search(query, limit);
+		if (!local.isEmpty()) {
+			return CompletableFuture.completedFuture(local);
+		}
+
+		return fallback.search(query).thenApply(response -> {
+			if (response.isSuccess()) {
+				SearchIndexFeeder.addSearchResults(this, response.getDataOrNull());
+			}
+			return search(query, limit);
+		});
+	}
+
+	// Keeps the length of the shortest key that matched, as a tie breaker
+	private static void collect(Map<Match, Integer> found, Key key, int distance) {
+		found.merge(new Match(key.kind, key.name, distance), key.key.length(), Math::min);
+	}
+
+	private void addKey(Key key) {
+		if (!keys.add(key)) {
+			return;
+		}
+		if (key.kind == Kind.PLAYER) {
+			players++;
+		}
+
+		overflow.add(key);
+		if (overflow.size() >= OVERFLOW_LIMIT) {
+			rebuild();
+		}
+	}
+
+	private void publishOverflow() {
+		overflowView = List.copyOf(overflow);
+	}
+
+	/**
+	 * Merges the overflow into a new snapshot, forgetting the oldest players over the limit.
+	 */
+	private void rebuild() {
+		if (players > maxPlayers) {
+			Iterator<Key> it = keys.iterator();
+			while (players > maxPlayers && it.hasNext()) {
+				if (it.next().kind == Kind.PLAYER) {
+					it.remove();
+					players--;
+				}
+			}
+		}
+
+		snapshot = Snapshot.build(keys);
+		overflow.clear();
+	}
+
+	/**
+	 * Computes the edit distance between a query and the closest prefix of a key,
+	 * counting insertions, deletions, substitutions and swaps of adjacent characters.
+	 *
+	 * @return The distance, or maxEdits + 1 if it exceeds maxEdits
+	 */
+	static int prefixDistance(String query, String key, int maxEdits) {
+		int n = query.length();
+		int m = Math.min(key.length(), n + maxEdits);
+		int[] previous2 = new int[m + 1];
+		int[] previous = new int[m + 1];
+		int[] current = new int[m + 1];
+		for (int j = 0; j <= m; j++) {
+			previous[j] = j;
+		}
+
+		for (int i = 1; i <= n; i++) {
+			current[0] = i;
+			int rowMin = current[0];
+			for (int j = 1; j <= m; j++) {
+				int cost = query.charAt(i - 1) == key.charAt(j - 1) ? 0 : 1;
+				int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+				if (i > 1 && j > 1 && query.charAt(i - 1) == key.charAt(j - 2) && query.charAt(i - 2) == key.charAt(j - 1)) {
+					value = Math.min(value, previous2[j - 2] + 1);
+				}
+				current[j] = value;
+				rowMin = Math.min(rowMin, value);
+			}
+			if (rowMin > maxEdits) {
+				return maxEdits + 1;
+			}
+
+			int[] recycled = previous2;
+			previous2 = previous;
+			previous = current;
+			current = recycled;
+		}
+
+		int best = maxEdits + 1;
+		for (int j = 0; j <= m; j++) {
+			best = Math.min(best, previous[j]);
+		}
+		return best;
+	}
+
+	static String normalize(String text) {
+		return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+	}
+
+	private record Key(String key, Kind kind, String name) {
+	}
+
+	/**
+	 * An immutable index: keys sorted for prefix lookups, and trigram postings for fuzzy lookups.
+	 */
+	private static final class Snapshot {
+		static final Snapshot EMPTY = new Snapshot(new Key[0], Map.of());
+
+		// Per-thread trigram counters of fuzzy lookups, reused across queries and snapshots
+		private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+		private final Key[] sorted;
+		private final Map<Long, int[]> trigrams;
+
+		private Snapshot(Key[] sorted, Map<Long, int[]> trigrams) {
+			this.sorted = sorted;
+			this.trigrams = trigrams;
+		}
+
+		static Snapshot build(Set<Key> keys) {
+			Key[] sorted = keys.toArray(new Key[0]);
+			Arrays.sort(sorted, Comparator.comparing(Key::key));
+
+			Map<Long, List<Integer>> postings = new HashMap<>();
+			for (int id = 0; id < sorted.length; id++) {
+				for (long trigram : trigramsOf(sorted[id].key)) {
+					List<Integer> ids = postings.computeIfAbsent(trigram, t -> new ArrayList<>());
+					// Keys repeating a trigram are only listed once
+					if (ids.isEmpty() || ids.get(ids.size() - 1) != id) {
+						ids.add(id);
+					}
+				}
+			}
+
+			Map<Long, int[]> trigrams = new HashMap<>(postings.size() * 2);
+			postings.forEach((trigram, ids) -> trigrams.put(trigram, ids.stream().mapToInt(Integer::intValue).toArray()));
+			return new Snapshot(sorted, trigrams);
+		}
+
+		void prefixMatches(String query, Kind kind, int limit, Map<Match, Integer> found) {
+			int low = 0;
+			int high = sorted.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (sorted[mid].key.compareTo(query) < 0) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+
+			// Enough candidates to rank the shortest keys first without walking huge ranges
+			int budget = limit * 8;
+			for (int i = low; i < sorted.length && budget > 0 && sorted[i].key.startsWith(query); i++) {
+				if (kind == null || sorted[i].kind == kind) {
+					collect(found, sorted[i], 0);
+					budget--;
+				}
+			}
+		}
+
+		void fuzzyMatches(String query, Kind kind, int maxEdits, int limit, Map<Match, Integer> found) {
+			long[] grams = trigramsOf(query);
+			// Each typo breaks at most four trigrams of the query (three, or four for a swap)
+			int required = Math.max(1, grams.length - 4 * maxEdits);
+
+			Scratch scratch = SCRATCH.get().reset(sorted.length);
+			int[] hits = scratch.hits;
+			int[] stamps = scratch.stamps;
+			int epoch = scratch.epoch;
+			int[] touched = scratch.touched;
+			int touchedCount = 0;
+			for (long gram : grams) {
+				int[] ids = trigrams.get(gram);
+				if (ids == null) {
+					continue;
+				}
+				for (int id : ids) {
+					if (stamps[id] != epoch) {
+						stamps[id] = epoch;
+						hits[id] = 0;
+						touched[touchedCount++] = id;
+					}
+					hits[id]++;
+				}
+			}
+
+			// Verify the candidates sharing the most trigrams first, within a fixed amount of work
+			int verified = 0;
+			int matched = 0;
+			for (int shared = grams.length; shared >= required && verified < MAX_FUZZY_CANDIDATES; shared--) {
+				for (int i = 0; i < touchedCount && verified < MAX_FUZZY_CANDIDATES; i++) {
+					Key key = sorted[touched[i]];
+					if (hits[touched[i]] != shared || (kind != null && key.kind != kind)) {
+						continue;
+					}
+
+					verified++;
+					int distance = prefixDistance(query, key.key, maxEdits);
+					if (distance <= maxEdits) {
+						collect(found, key, distance);
+						matched++;
+					}
+				}
+				if (matched >= limit) {
+					break;
+				}
+			}
+		}
+
+		/**
+		 * Gets the trigrams of the start of a key, padded so that the first characters count.
+		 */
+		private static long[] trigramsOf(String key) {
+			String padded = "\0\0" + key;
+			long[] grams = new long[key.length()];
+			for (int i = 0; i < grams.length; i++) {
+				grams[i] = ((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2);
+			}
+			return grams;
+		}
+	}
+	/**
+	 * Trigram hit counters by key id. Counters are stamped with the query that last touched
+	 * them, so a query only pays for the keys it touches instead of clearing every counter.
+	 */
+	private static final class Scratch {
+		private int[] hits = new int[0];
+		private int[] stamps = new int[0];
+		private int[] touched = new int[0];
+		private int epoch;
+
+		/**
+		 * Starts a query over a snapshot of the given size.
+		 */
+		Scratch reset(int size) {
+			if (hits.length < size) {
+				hits = new int[size];
+				stamps = new int[size];
+				touched = new int[size];
+				epoch = 0;
+			}
+			if (++epoch == Integer.MAX_VALUE) {
+				Arrays.fill(stamps, 0);
+				epoch = 1;
+			}
+			return this;
+		}
+	}
+}
@@ -0,0 +1,176 @@
+package com.hezaerd.wapi.search;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+
+import com.hezaerd.wapi.client.ResponseListener;
+import com.hezaerd.wapi.client.WapiHttpClient;
+import com.hezaerd.wapi.models.GuildData;
+import com.hezaerd.wapi.models.ItemDatabaseResponse;
+import com.hezaerd.wapi.models.LeaderboardTable;
+import com.hezaerd.wapi.models.OnlinePlayersResponse;
+import com.hezaerd.wapi.models.PlayerData;
+import com.hezaerd.wapi.models.SearchResults;
+import com.hezaerd.wapi.search.SearchIndex.Kind;
+
+/**
+ * Feeds a {@link SearchIndex} with the names found in the responses the client receives:
+ * players looked up or seen online, guilds with their prefixes and members,
+ * item database pages, leaderboards and remote search results.
+ */
+public class SearchIndexFeeder implements ResponseListener {
+	private final SearchIndex index;
+
+	public SearchIndexFeeder(SearchIndex index) {
+		this.index = index;
+	}
+
+	/**
+	 * Creates a feeder and registers it on a client.
+	 *
+	 * @param index The index to feed
+	 * @param httpClient The client whose responses are indexed
+	 * @return The registered feeder
+	 */
+	public static SearchIndexFeeder attach(SearchIndex index, WapiHttpClient httpClient) {
+		SearchIndexFeeder feeder = new SearchIndexFeeder(index);
+		httpClient.addResponseListener(feeder);
+		return feeder;
+	}
+
+	@Override
+	public void onResponse(String endpoint, Object data) {
+		if (data instanceof PlayerData player) {
+			index.add(Kind.PLAYER, player.getUsername());
+			if (player.getGuild() != null) {
+				index.add(Kind.GUILD, player.getGuild().getName());
+			}
+		} else if (data instanceof GuildData guild) {
+			index.add(Kind.GUILD, guild.getName(), guild.getPrefix());
+			addMembers(guild.getMembers());
+		} else if (data instanceof OnlinePlayersResponse online && online.getPlayers() != null) {
+			index.addAll(Kind.PLAYER, online.getPlayers());
+		} else if (data instanceof ItemDatabaseResponse items && items.getResults() != null) {
+			index.addAll(Kind.ITEM, items.getResults().keySet());
+		} else if (data instanceof LeaderboardTable table) {
+			Kind kind = endpoint.toLowerCase(Locale.ROOT).contains("guild") ? Kind.GUILD : Kind.PLAYER;
+			for (int row = 0; row < table.size(); row++) {
+				index.add(kind, table.getName(row));
+			}
+		} else if (data instanceof SearchResults results) {
+			addAll(Kind.PLAYER, results.getPlayers());
+			if (results.getGuilds() != null) {
+				for (String guild : results.getGuilds()) {
+					index.add(Kind.GUILD, guild, results.getGuildPrefix(guild));
+				}
+			}
+			addAll(Kind.ITEM, results.getItems());
+		} else if (data instanceof Map<?, ?> map) {
+			addUntyped(endpoint, map);
+		}
+	}
+
+	private void addAll(Kind kind, Collection<String> names) {
+		if (names != null) {
+			index.addAll(kind, names);
+		}
+	}
+
+	private void addMembers(GuildData.GuildMembers members) {
+		if (members == null) {
+			return;
+		}
+		for (Map<String, GuildData.GuildMember> rank : Arrays.asList(members.getOwner(), members.getChief(),
+				members.getStrategist(), members.getCaptain(), members.getRecruiter(), members.getRecruit())) {
+			if (rank != null) {
+				for (String member : rank.keySet()) {
+					// Members may be keyed by UUID, depending on the identifier requested
+					if (!isUuid(member)) {
+						index.add(Kind.PLAYER, member);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Indexes the endpoints still decoded as plain maps: the guild list and item listings.
+	 */
+	private void addUntyped(String endpoint, Map<?, ?> map) {
+		if (endpoint.startsWith("/v3/search")) {
+			addSearchResults(index, map);
+		} else if (endpoint.startsWith("/v3/guild/list")) {
+			map.forEach((key, value) -> addGuild(index, key, value));
+		} else if (endpoint.startsWith("/v3/item")) {
+			for (Object key : map.keySet()) {
+				if (key instanceof String name && !name.equals("controller") && !name.equals("results")) {
+					index.add(Kind.ITEM, name);
+				}
+			}
+			if (map.get("results") instanceof Map<?, ?> results) {
+				for (Object key : results.keySet()) {
+					index.add(Kind.ITEM, String.valueOf(key));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Indexes the result of the search endpoint, grouped by "players", "guilds" and "items".
+	 *
+	 * @param index The index to feed
+	 * @param data The decoded search response
+	 */
+	static void addSearchResults(SearchIndex index, Object data) {
+		if (!(data instanceof Map<?, ?> groups)) {
+			return;
+		}
+
+		groups.forEach((group, results) -> {
+			Kind kind = switch (String.valueOf(group).toLowerCase(Locale.ROOT)) {
+				case "players" -> Kind.PLAYER;
+				case "guilds", "guildsprefix" -> Kind.GUILD;
+				case "items" -> Kind.ITEM;
+				default -> null;
+			};
+			if (kind == null) {
+				return;
+			}
+
+			if (results instanceof Map<?, ?> map) {
+				// Players map UUIDs to names, guilds map UUIDs to objects, items are keyed by name
+				map.forEach((key, value) -> {
+					if (kind == Kind.GUILD) {
+						addGuild(index, key, value);
+					} else if (value instanceof String name) {
+						index.add(kind, name);
+					} else {
+						index.add(kind, String.valueOf(key));
+					}
+				});
+			} else if (results instanceof Collection<?> names) {
+				for (Object name : names) {
+					if (name instanceof String text) {
+						index.add(kind, text);
+					}
+				}
+			}
+		});
+	}
+
+	private static void addGuild(SearchIndex index, Object key, Object value) {
+		if (value instanceof Map<?, ?> guild && guild.get("name") instanceof String name) {
+			index.add(Kind.GUILD, name, guild.get("prefix") instanceof String prefix ? prefix : null);
+		} else if (value instanceof String name) {
+			index.add(Kind.GUILD, name);
+		} else if (key instanceof String name && !isUuid(name)) {
+			index.add(Kind.GUILD, name);
+		}
+	}
+
+	private static boolean isUuid(String text) {
+		return (text.length() == 36 && text.charAt(8) == '-') || (text.length() == 32 && text.chars().allMatch(c -> Character.digit(c, 16) >= 0));
+	}
+}
@@ -0,0 +1,171 @@
+package com.hezaerd.wapi.search;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import com.hezaerd.wapi.models.ApiResponse;
+import com.hezaerd.wapi.models.SearchResults;
+import com.hezaerd.wapi.modules.SearchModule;
+
+/**
+ * Search-as-you-type over the search endpoint, for one input field.
+ * Keystrokes are debounced so only the query typed last is sent; a new query cancels the
+ * future of the previous one, aborting its HTTP exchange if it is still in flight.
+ * When the query extends the previous one and the previous results were not truncated,
+ * the new results are filtered from them locally instead of being fetched.
+ *
+ * <pre>{@code
+ * SearchSession session = new SearchSession(wapi.search());
+ * // On each keystroke
+ * session.update(field.getText())
+ *     .thenAccept(response -> response.ifSuccess(this::showResults));
+ * }</pre>
+ *
+ * Superseded futures complete with a {@link java.util.concurrent.CancellationException},
+ * so their dependent stages never run.
+ */
+public class SearchSession {
+	public static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(250);
+
+	/**
+	 * Results with a group this large may have been cut short by the API and are never narrowed locally.
+	 */
+	public static final int DEFAULT_RESULT_LIMIT = 5;
+
+	private final SearchModule module;
+	private final Executor debouncer;
+	private final int resultLimit;
+
+	private long generation;
+	private CompletableFuture<ApiResponse<SearchResults>> current;
+	private CompletableFuture<ApiResponse<SearchResults>> inFlight;
+	private String lastQuery;
+	private SearchResults lastResults;
+
+	/**
+	 * Creates a session with the default debounce delay and result limit.
+	 *
+	 * @param module The search module to query
+	 */
+	public SearchSession(SearchModule module) {
+		this(module, DEFAULT_DEBOUNCE, DEFAULT_RESULT_LIMIT);
+	}
+
+	/**
+	 * Creates a session.
+	 *
+	 * @param module The search module to query
+	 * @param debounce How long the input must stay unchanged before it is sent
+	 * @param resultLimit The smallest group size the API may truncate results to
+	 */
+	public SearchSession(SearchModule module, Duration debounce, int resultLimit) {
+		this.module = module;
+		this.debouncer = CompletableFuture.delayedExecutor(debounce.toNanos(), TimeUnit.NANOSECONDS);
+		this.resultLimit = resultLimit;
+	}
+
+	/**
+	 * Updates the query, superseding the previous one.
+	 *
+	 * @param text The current input
+	 * @return A future completing with the results for this input, or cancelled once superseded.
+	 *     Cancelling it cancels the query and aborts its request.
+	 */
+	public synchronized CompletableFuture<ApiResponse<SearchResults>> update(String text) {
+		cancel();
+
+		String query = text.trim();
+		CompletableFuture<ApiResponse<SearchResults>> result = new CompletableFuture<>();
+		current = result;
+
+		if (query.isEmpty()) {
+			result.complete(ApiResponse.failure("Empty search query"));
+			return result;
+		}
+
+		if (canNarrow(query)) {
+			result.complete(ApiResponse.success(lastResults.filter(query)));
+			return result;
+		}
+
+		result.whenComplete((response, error) -> {
+			if (result.isCancelled()) {
+				cancel(result);
+			}
+		});
+
+		long scheduled = generation;
+		debouncer.execute(() -> send(scheduled, query, result));
+		return result;
+	}
+
+	/**
+	 * Cancels the pending query, if any, and its request.
+	 */
+	public synchronized void cancel() {
+		generation++;
+		// Cleared first, as cancelling the query future calls back into cancel(result)
+		CompletableFuture<ApiResponse<SearchResults>> query = current;
+		CompletableFuture<ApiResponse<SearchResults>> request = inFlight;
+		current = null;
+		inFlight = null;
+		if (query != null) {
+			query.cancel(false);
+		}
+		if (request != null) {
+			request.cancel(true);
+		}
+	}
+
+	/**
+	 * Cancels a query cancelled by its caller, unless it was superseded already.
+	 */
+	private synchronized void cancel(CompletableFuture<ApiResponse<SearchResults>> result) {
+		if (current == result) {
+			cancel();
+		}
+	}
+
+	/**
+	 * Checks if the results of the previous query are complete for a query extending it.
+	 */
+	private boolean canNarrow(String query) {
+		return lastResults != null
+			&& query.length() > lastQuery.length()
+			&& query.toLowerCase(Locale.ROOT).startsWith(lastQuery.toLowerCase(Locale.ROOT))
+			&& lastResults.getLargestGroupSize() < resultLimit;
+	}
+
+	private synchronized void send(long scheduled, String query, CompletableFuture<ApiResponse<SearchResults>> result) {
+		if (scheduled != generation) {
+			return;
+		}
+
+		CompletableFuture<ApiResponse<SearchResults>> request = module.find(query);
+		inFlight = request;
+		request.whenComplete((response, error) -> complete(scheduled, query, result, response, error));
+	}
+
+	private void complete(long scheduled, String query, CompletableFuture<ApiResponse<SearchResults>> result,
+			ApiResponse<SearchResults> response, Throwable error) {
+		synchronized (this) {
+			if (scheduled != generation) {
+				return;
+			}
+			inFlight = null;
+			if (response != null && response.isSuccess() && response.getDataOrNull() != null) {
+				lastQuery = query;
+				lastResults = response.getDataOrNull();
+			}
+		}
+
+		if (error != null) {
+			result.completeExceptionally(error);
+		} else {
+			result.complete(response);
+		}
+	}
+}
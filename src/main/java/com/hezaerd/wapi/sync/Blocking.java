@@ -0,0 +1,61 @@
+package com.hezaerd.wapi.sync;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import com.hezaerd.wapi.dispatch.TickExecutor;
+import com.hezaerd.wapi.exceptions.NetworkException;
+import com.hezaerd.wapi.models.ApiResponse;
+
+/**
+ * Waits for asynchronous API responses on the calling thread.
+ */
+final class Blocking {
+	// Failures carrying nothing specific to a request are shared
+	private static final NetworkException INTERRUPTED = new NetworkException("Request interrupted", null, -1, null, null);
+	private static final NetworkException CANCELLED = new NetworkException("Request cancelled", null, -1, null, null);
+
+	private Blocking() {
+		throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+	}
+
+	/**
+	 * Blocks until the response is available.
+	 * Interruption, cancellation and unexpected failures are reported as failed responses
+	 * carrying a {@link NetworkException}. Interruption also cancels the future: a request of its own
+	 * is aborted, while a request shared with other callers (coalesced calls, cache revalidations)
+	 * keeps running for them and only this wait ends.
+	 *
+	 * @param future The pending response
+	 * @param completionExecutor The executor the response is delivered on, or null
+	 * @param <T> The type of the data
+	 * @return The completed response
+	 * @throws IllegalStateException if called from the game thread the response is delivered on,
+	 *                               which would wait forever for its own next tick
+	 */
+	static <T> ApiResponse<T> await(CompletableFuture<ApiResponse<T>> future, Executor completionExecutor) {
+		if (completionExecutor instanceof TickExecutor tick && tick.isOwnerThread() && !future.isDone()) {
+			future.cancel(true);
+			throw new IllegalStateException("Blocking call on the " + tick.getName() +
+				", which its response is delivered on: use the asynchronous client there");
+		}
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			return ApiResponse.failure(INTERRUPTED);
+		} catch (CancellationException e) {
+			return ApiResponse.failure(CANCELLED);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause() != null ? e.getCause() : e;
+			if (cause instanceof RuntimeException runtime) {
+				throw runtime;
+			}
+			return ApiResponse.failure(new NetworkException("Request failed: " + cause.getMessage(), cause, -1, null, null));
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package com.hezaerd.wapi.sync;
+
+import java.util.concurrent.Executor;
+
+import com.hezaerd.wapi.models.AbilityTree;
+import com.hezaerd.wapi.models.ApiResponse;
+import com.hezaerd.wapi.models.UnlockedAbilities;
+import com.hezaerd.wapi.modules.AbilityModule;
+
+/**
+ * Blocking counterpart of {@link AbilityModule} for <a href="https://docs.wynncraft.com/docs/modules/ability.html">Wynncraft Ability & Aspects API endpoints</a>.
+ * Each call blocks the calling thread until the response is available.
+ */
+public class SyncAbilityModule {
+	private final AbilityModule module;
+	private final Executor completionExecutor;
+
+	public SyncAbilityModule(AbilityModule module) {
+		this(module, null);
+	}
+
+	/**
+	 * Creates a blocking module that fails fast when called from the thread its responses are delivered on.
+	 *
+	 * @param module The asynchronous module to delegate to
+	 * @param completionExecutor The completion executor of the client, or null
+	 */
+	public SyncAbilityModule(AbilityModule module, Executor completionExecutor) {
+		this.module = module;
+		this.completionExecutor = completionExecutor;
+	}
+
+	/**
+	 * Get all abilities.
+	 *
+	 * @return Ability data
+	 */
+	public ApiResponse<Object> getAbilities() {
+		return Blocking.await(module.getAbilities(), completionExecutor);
+	}
+
+	/**
+	 * Get specific ability.
+	 *
+	 * @param abilityName The name of the ability
+	 * @return Ability data
+	 */
+	public ApiResponse<Object> getAbility(String abilityName) {
+		return Blocking.await(module.getAbility(abilityName), completionExecutor);
+	}
+
+	/**
+	 * Get all aspects.
+	 *
+	 * @return Aspect data
+	 */
+	public ApiResponse<Object> getAspects() {
+		return Blocking.await(module.getAspects(), completionExecutor);
+	}
+
+	/**
+	 * Get specific aspect.
+	 *
+	 * @param aspectName The name of the aspect
+	 * @return Aspect data
+	 */
+	public ApiResponse<Object> getAspect(String aspectName) {
+		return Blocking.await(module.getAspect(aspectName), completionExecutor);
+	}
+
+	/**
+	 * Get abilities by class.
+	 *
+	 * @param className The class name
+	 * @return Class abilities
+	 */
+	public ApiResponse<Object> getAbilitiesByClass(String className) {
+		return Blocking.await(module.getAbilitiesByClass(className), completionExecutor);
+	}
+
+	/**
+	 * Get the ability tree of a class, indexed by ability id.
+	 *
+	 * @param className The class name
+	 * @return The ability tree
+	 */
+	public ApiResponse<AbilityTree> getTree(String className) {
+		return Blocking.await(module.getTree(className), completionExecutor);
+	}
+
+	/**
+	 * Get the abilities unlocked by a character, as a bitset over the ability tree of its class.
+	 *
+	 * @param username The player's username
+	 * @param character The character name
+	 * @param className The class of the character
+	 * @return The unlocked abilities
+	 */
+	public ApiResponse<UnlockedAbilities> getUnlocked(String username, String character, String className) {
+		return Blocking.await(module.getUnlocked(username, character, className), completionExecutor);
+	}
+}
@@ -0,0 +1,72 @@
+package com.hezaerd.wapi.sync;
+
+import java.util.concurrent.Executor;
+
+import com.hezaerd.wapi.models.ApiResponse;
+import com.hezaerd.wapi.modules.ClassesModule;
+
+/**
+ * Blocking counterpart of {@link ClassesModule} for <a href="https://docs.wynncraft.com/docs/modules/classes.html">Wynncraft Classes API endpoints</a>.
+ * Each call blocks the calling thread until the response is available.
+ */
+public class SyncClassesModule {
+	private final ClassesModule module;
+	private final Executor completionExecutor;
+
+	public SyncClassesModule(ClassesModule module) {
+		this(module, null);
+	}
+
+	/**
+	 * Creates a blocking module that fails fast when called from the thread its responses are delivered on.
+	 *
+	 * @param module The asynchronous module to delegate to
+	 * @param completionExecutor The completion executor of the client, or null
+	 */
+	public SyncClassesModule(ClassesModule module, Executor completionExecutor) {
+		this.module = module;
+		this.completionExecutor = completionExecutor;
+	}
+
+	/**
+	 * Get all available classes.
+	 *
+	 * @return All class data
+	 */
+	public ApiResponse<Object> getAllClasses() {
+		return Blocking.await(module.getAllClasses(), completionExecutor);
+	}
+
+	/**
+	 * Get specific class information.
+	 *
+	 * @param className The name of the class
+	 * @return Class data
+	 */
+	public ApiResponse<Object> getClass(String className) {
+		return Blocking.await(module.getClass(className), completionExecutor);
+	}
+
+	/**
+	 * Convenience methods for getting specific classes.
+	 */
+	public ApiResponse<Object> getWarrior() {
+		return Blocking.await(module.getWarrior(), completionExecutor);
+	}
+
+	public ApiResponse<Object> getArcher() {
+		return Blocking.await(module.getArcher(), completionExecutor);
+	}
+
+	public ApiResponse<Object> getMage() {
+		return Blocking.await(module.getMage(), completionExecutor);
+	}
+
+	public ApiResponse<Object> getAssassin() {
+		return Blocking.await(module.getAssassin(), completionExecutor);
+	}
+
+	public ApiResponse<Object> getShaman() {
+		return Blocking.await(module.getShaman(), completionExecutor);
+	}
+}
@@ -0,0 +1,173 @@
+package com.hezaerd.wapi.sync;
+
+import java.util.concurrent.Executor;
+
+import com.hezaerd.wapi.json.Projection;
+import com.hezaerd.wapi.models.ApiResponse;
+import com.hezaerd.wapi.models.GuildData;
+import com.hezaerd.wapi.modules.GuildModule;
+
+/**
+ * Blocking counterpart of {@link GuildModule} for <a href="https://docs.wynncraft.com/docs/modules/guild.html">Wynncraft Guild API endpoints</a>.
+ * Each call blocks the calling thread until the response is available.
+ */
+public class SyncGuildModule {
+	private final GuildModule module;
+	private final Executor completionExecutor;
+
+	public SyncGuildModule(GuildModule module) {
+		this(module, null);
+	}
+
+	/**
+	 * Creates a blocking module that fails fast when called from the thread its responses are delivered on.
+	 *
+	 * @param module The asynchronous module to delegate to
+	 * @param completionExecutor The completion executor of the client, or null
+	 */
+	public SyncGuildModule(GuildModule module, Executor completionExecutor) {
+		this.module = module;
+		this.completionExecutor = completionExecutor;
+	}
+
+	/**
+	 * Get guild information by name.
+	 *
+	 * @param guildName The guild's name (case-insensitive)
+	 * @return Guild data
+	 */
+	public ApiResponse<GuildData> getByName(String guildName) {
+		return Blocking.await(module.getByName(guildName), completionExecutor);
+	}
+
+	/**
+	 * Get only some fields of a guild, skipping the rest of the response while it is read.
+	 *
+	 * @param guildName The guild's name (case-insensitive)
+	 * @param projection The JSON fields to decode
+	 * @return Partial guild data
+	 */
+	public ApiResponse<GuildData> getByName(String guildName, Projection projection) {
+		return Blocking.await(module.getByName(guildName, projection), completionExecutor);
+	}
+
+	/**
+	 * Get guild information by name with specific member identifier.
+	 *
+	 * @param guildName The guild's name (case-insensitive)
+	 * @param identifier Either "username" or "uuid" to specify how members should be identified
+	 * @return Guild data
+	 */
+	public ApiResponse<GuildData> getByName(String guildName, String identifier) {
+		return Blocking.await(module.getByName(guildName, identifier), completionExecutor);
+	}
+
+	/**
+	 * Get guild information by prefix.
+	 *
+	 * @param guildPrefix The guild's prefix
+	 * @return Guild data
+	 */
+	public ApiResponse<GuildData> getByPrefix(String guildPrefix) {
+		return Blocking.await(module.getByPrefix(guildPrefix), completionExecutor);
+	}
+
+	/**
+	 * Get guild information by prefix with specific member identifier.
+	 *
+	 * @param guildPrefix The guild's prefix
+	 * @param identifier Either "username" or "uuid" to specify how members should be identified
+	 * @return Guild data
+	 */
+	public ApiResponse<GuildData> getByPrefix(String guildPrefix, String identifier) {
+		return Blocking.await(module.getByPrefix(guildPrefix, identifier), completionExecutor);
+	}
+
+	/**
+	 * Get list of all guilds.
+	 * Note: This endpoint returns a raw Map structure, so we need to handle it specially.
+	 *
+	 * @return Guild list response
+	 */
+	public ApiResponse<Object> getGuildList() {
+		return Blocking.await(module.getGuildList(), completionExecutor);
+	}
+
+	/**
+	 * Get list of all guilds with specific identifier.
+	 *
+	 * @param identifier Either "uuid" or "name" to specify the key format
+	 * @return Guild list response
+	 */
+	public ApiResponse<Object> getGuildList(String identifier) {
+		return Blocking.await(module.getGuildList(identifier), completionExecutor);
+	}
+
+	/**
+	 * Get guild territory list.
+	 * Returns information about all territories and their controlling guilds.
+	 *
+	 * @return Territory data
+	 */
+	public ApiResponse<Object> getTerritories() {
+		return Blocking.await(module.getTerritories(), completionExecutor);
+	}
+
+	/**
+	 * Convenience method to get guild by name with username identifiers.
+	 *
+	 * @param guildName The guild's name
+	 * @return Guild data with username identifiers
+	 */
+	public ApiResponse<GuildData> getByNameWithUsernames(String guildName) {
+		return Blocking.await(module.getByNameWithUsernames(guildName), completionExecutor);
+	}
+
+	/**
+	 * Convenience method to get guild by name with UUID identifiers.
+	 *
+	 * @param guildName The guild's name
+	 * @return Guild data with UUID identifiers
+	 */
+	public ApiResponse<GuildData> getByNameWithUuids(String guildName) {
+		return Blocking.await(module.getByNameWithUuids(guildName), completionExecutor);
+	}
+
+	/**
+	 * Convenience method to get guild by prefix with username identifiers.
+	 *
+	 * @param guildPrefix The guild's prefix
+	 * @return Guild data with username identifiers
+	 */
+	public ApiResponse<GuildData> getByPrefixWithUsernames(String guildPrefix) {
+		return Blocking.await(module.getByPrefixWithUsernames(guildPrefix), completionExecutor);
+	}
+
+	/**
+	 * Convenience method to get guild by prefix with UUID identifiers.
+	 *
+	 * @param guildPrefix The guild's prefix
+	 * @return Guild data with UUID identifiers
+	 */
+	public ApiResponse<GuildData> getByPrefixWithUuids(String guildPrefix) {
+		return Blocking.await(module.getByPrefixWithUuids(guildPrefix), completionExecutor);
+	}
+
+	/**
+	 * Convenience method to get guild list indexed by UUIDs.
+	 *
+	 * @return Guild list indexed by UUIDs
+	 */
+	public ApiResponse<Object> getGuildListByUuid() {
+		return Blocking.await(module.getGuildListByUuid(), completionExecutor);
+	}
+
+	/**
+	 * Convenience method to get guild list indexed by names.
+	 *
+	 * @return Guild list indexed by names
+	 */
+	public ApiResponse<Object> getGuildListByName() {
+		return Blocking.await(module.getGuildListByName(), completionExecutor);
+	}
+}
@@ -0,0 +1,207 @@
+package com.hezaerd.wapi.sync;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import com.hezaerd.wapi.models.ApiResponse;
+import com.hezaerd.wapi.models.ItemData;
+import com.hezaerd.wapi.models.ItemDatabaseResponse;
+import com.hezaerd.wapi.models.ItemMetadata;
+import com.hezaerd.wapi.modules.ItemModule;
+
+/**
+ * Blocking counterpart of {@link ItemModule} for <a href="https://docs.wynncraft.com/docs/modules/item.html">Wynncraft Item API endpoints</a>.
+ * Each call blocks the calling thread until the response is available.
+ */
+public class SyncItemModule {
+	private final ItemModule module;
+	private final Executor completionExecutor;
+
+	public SyncItemModule(ItemModule module) {
+		this(module, null);
+	}
+
+	/**
+	 * Creates a blocking module that fails fast when called from the thread its responses are delivered on.
+	 *
+	 * @param module The asynchronous module to delegate to
+	 * @param completionExecutor The completion executor of the client, or null
+	 */
+	public SyncItemModule(ItemModule module, Executor completionExecutor) {
+		this.module = module;
+		this.completionExecutor = completionExecutor;
+	}
+
+	/**
+	 * Get paginated item database.
+	 *
+	 * @return Paginated item database response
+	 */
+	public ApiResponse<ItemDatabaseResponse> getDatabase() {
+		return Blocking.await(module.getDatabase(), completionExecutor);
+	}
+
+	/**
+	 * Get paginated item database with specific page.
+	 *
+	 * @param page The page number to retrieve
+	 * @return Paginated item database response
+	 */
+	public ApiResponse<ItemDatabaseResponse> getDatabase(int page) {
+		return Blocking.await(module.getDatabase(page), completionExecutor);
+	}
+
+	/**
+	 * Get full item database (bypasses pagination).
+	 *
+	 * @return Complete item database
+	 */
+	public ApiResponse<Object> getDatabaseFull() {
+		return Blocking.await(module.getDatabaseFull(), completionExecutor);
+	}
+
+	/**
+	 * Search for items by name (quick search).
+	 *
+	 * @param query The search query
+	 * @return Item search results
+	 */
+	public ApiResponse<Object> quickSearch(String query) {
+		return Blocking.await(module.quickSearch(query), completionExecutor);
+	}
+
+	/**
+	 * Get item metadata including available filters and identifications.
+	 *
+	 * @return Item metadata
+	 */
+	public ApiResponse<ItemMetadata> getMetadata() {
+		return Blocking.await(module.getMetadata(), completionExecutor);
+	}
+
+	/**
+	 * Advanced item search using POST with filters.
+	 * Note: This would require implementing a POST method in the HTTP client.
+	 * For now, this is a placeholder that demonstrates the intended API.
+	 *
+	 * @param searchFilters The search filters as a Map
+	 * @return Search results
+	 */
+	public ApiResponse<Object> search(Map<String, Object> searchFilters) {
+		return Blocking.await(module.search(searchFilters), completionExecutor);
+	}
+
+	/**
+	 * Get specific item by internal name.
+	 * This is a convenience method for quick access to individual items.
+	 *
+	 * @param internalName The internal name of the item
+	 * @return Item data
+	 */
+	public ApiResponse<ItemData> getItem(String internalName) {
+		return Blocking.await(module.getItem(internalName), completionExecutor);
+	}
+
+	/**
+	 * Get items by type filter.
+	 *
+	 * @param type The item type (e.g., "weapons", "armour", "accessories")
+	 * @return Filtered items
+	 */
+	public ApiResponse<Object> getByType(String type) {
+		return Blocking.await(module.getByType(type), completionExecutor);
+	}
+
+	/**
+	 * Get items by rarity.
+	 *
+	 * @param rarity The item rarity (e.g., "legendary", "mythic", "rare")
+	 * @return Filtered items
+	 */
+	public ApiResponse<Object> getByRarity(String rarity) {
+		return Blocking.await(module.getByRarity(rarity), completionExecutor);
+	}
+
+	/**
+	 * Get items by level range.
+	 *
+	 * @param minLevel Minimum level requirement
+	 * @param maxLevel Maximum level requirement
+	 * @return Filtered items
+	 */
+	public ApiResponse<Object> getByLevelRange(int minLevel, int maxLevel) {
+		return Blocking.await(module.getByLevelRange(minLevel, maxLevel), completionExecutor);
+	}
+
+	/**
+	 * Get weapons only.
+	 *
+	 * @return Weapon items
+	 */
+	public ApiResponse<Object> getWeapons() {
+		return Blocking.await(module.getWeapons(), completionExecutor);
+	}
+
+	/**
+	 * Get armour only.
+	 *
+	 * @return Armour items
+	 */
+	public ApiResponse<Object> getArmour() {
+		return Blocking.await(module.getArmour(), completionExecutor);
+	}
+
+	/**
+	 * Get accessories only.
+	 *
+	 * @return Accessory items
+	 */
+	public ApiResponse<Object> getAccessories() {
+		return Blocking.await(module.getAccessories(), completionExecutor);
+	}
+
+	/**
+	 * Get consumables only.
+	 *
+	 * @return Consumable items
+	 */
+	public ApiResponse<Object> getConsumables() {
+		return Blocking.await(module.getConsumables(), completionExecutor);
+	}
+
+	/**
+	 * Get ingredients only.
+	 *
+	 * @return Ingredient items
+	 */
+	public ApiResponse<Object> getIngredients() {
+		return Blocking.await(module.getIngredients(), completionExecutor);
+	}
+
+	/**
+	 * Get materials only.
+	 *
+	 * @return Material items
+	 */
+	public ApiResponse<Object> getMaterials() {
+		return Blocking.await(module.getMaterials(), completionExecutor);
+	}
+
+	/**
+	 * Get legendary items only.
+	 *
+	 * @return Legendary items
+	 */
+	public ApiResponse<Object> getLegendaryItems() {
+		return Blocking.await(module.getLegendaryItems(), completionExecutor);
+	}
+
+	/**
+	 * Get mythic items only.
+	 *
+	 * @return Mythic items
+	 */
+	public ApiResponse<Object> getMythicItems() {
+		return Blocking.await(module.getMythicItems(), completionExecutor);
+	}
+}
@@ -0,0 +1,78 @@
+package com.hezaerd.wapi.sync;
+
+import java.util.concurrent.Executor;
+
+import com.hezaerd.wapi.models.ApiResponse;
+import com.hezaerd.wapi.models.LeaderboardTable;
+import com.hezaerd.wapi.modules.LeaderboardModule;
+
+/**
+ * Blocking counterpart of {@link LeaderboardModule} for <a href="https://docs.wynncraft.com/docs/modules/leaderboard.html">Wynncraft Leaderboard API endpoints</a>.
+ * Each call blocks the calling thread until the response is available.
+ */
+public class SyncLeaderboardModule {
+	private final LeaderboardModule module;
+	private final Executor completionExecutor;
+
+	public SyncLeaderboardModule(LeaderboardModule module) {
+		this(module, null);
+	}
+
+	/**
+	 * Creates a blocking module that fails fast when called from the thread its responses are delivered on.
+	 *
+	 * @param module The asynchronous module to delegate to
+	 * @param completionExecutor The completion executor of the client, or null
+	 */
+	public SyncLeaderboardModule(LeaderboardModule module, Executor completionExecutor) {
+		this.module = module;
+		this.completionExecutor = completionExecutor;
+	}
+
+	/**
+	 * Get player leaderboard.
+	 *
+	 * @return Leaderboard data
+	 */
+	public ApiResponse<Object> getPlayerLeaderboard() {
+		return Blocking.await(module.getPlayerLeaderboard(), completionExecutor);
+	}
+
+	/**
+	 * Get guild leaderboard.
+	 *
+	 * @return Leaderboard data
+	 */
+	public ApiResponse<Object> getGuildLeaderboard() {
+		return Blocking.await(module.getGuildLeaderboard(), completionExecutor);
+	}
+
+	/**
+	 * Get PvP leaderboard.
+	 *
+	 * @return Leaderboard data
+	 */
+	public ApiResponse<Object> getPvpLeaderboard() {
+		return Blocking.await(module.getPvpLeaderboard(), completionExecutor);
+	}
+
+	/**
+	 * Get leaderboard by type.
+	 *
+	 * @param type The leaderboard type
+	 * @return Leaderboard data
+	 */
+	public ApiResponse<Object> getLeaderboard(String type) {
+		return Blocking.await(module.getLeaderboard(type), completionExecutor);
+	}
+
+	/**
+	 * Get a leaderboard decoded into columns.
+	 *
+	 * @param type The leaderboard type
+	 * @return Leaderboard table
+	 */
+	public ApiResponse<LeaderboardTable> getTable(String type) {
+		return Blocking.await(module.getTable(type), completionExecutor);
+	}
+}
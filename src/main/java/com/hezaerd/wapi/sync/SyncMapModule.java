@@ -0,0 +1,67 @@
+package com.hezaerd.wapi.sync;
+
+import java.util.concurrent.Executor;
+
+import com.hezaerd.wapi.models.ApiResponse;
+import com.hezaerd.wapi.modules.MapModule;
+
+/**
+ * Blocking counterpart of {@link MapModule} for <a href="https://docs.wynncraft.com/docs/modules/map.html">Wynncraft Map API endpoints</a>.
+ * Each call blocks the calling thread until the response is available.
+ */
+public class SyncMapModule {
+	private final MapModule module;
+	private final Executor completionExecutor;
+
+	public SyncMapModule(MapModule module) {
+		this(module, null);
+	}
+
+	/**
+	 * Creates a blocking module that fails fast when called from the thread its responses are delivered on.
+	 *
+	 * @param module The asynchronous module to delegate to
+	 * @param completionExecutor The completion executor of the client, or null
+	 */
+	public SyncMapModule(MapModule module, Executor completionExecutor) {
+		this.module = module;
+		this.completionExecutor = completionExecutor;
+	}
+
+	/**
+	 * Get map locations.
+	 *
+	 * @return Map location data
+	 */
+	public ApiResponse<Object> getLocations() {
+		return Blocking.await(module.getLocations(), completionExecutor);
+	}
+
+	/**
+	 * Get map markers.
+	 *
+	 * @return Map marker data
+	 */
+	public ApiResponse<Object> getMarkers() {
+		return Blocking.await(module.getMarkers(), completionExecutor);
+	}
+
+	/**
+	 * Get territories data.
+	 *
+	 * @return Territory data
+	 */
+	public ApiResponse<Object> getTerritories() {
+		return Blocking.await(module.getTerritories(), completionExecutor);
+	}
+
+	/**
+	 * Get location by name.
+	 *
+	 * @param locationName The name of the location
+	 * @return Location data
+	 */
+	public ApiResponse<Object> getLocation(String locationName) {
+		return Blocking.await(module.getLocation(locationName), completionExecutor);
+	}
+}
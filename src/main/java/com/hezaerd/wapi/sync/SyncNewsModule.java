@@ -0,0 +1,99 @@
+package com.hezaerd.wapi.sync;
+
+import java.util.concurrent.Executor;
+
+import com.hezaerd.wapi.cache.CacheEntry;
+import com.hezaerd.wapi.models.ApiResponse;
+import com.hezaerd.wapi.modules.NewsModule;
+
+/**
+ * Blocking counterpart of {@link NewsModule} for <a href="https://docs.wynncraft.com/docs/modules/news.html">Wynncraft News API endpoints</a>.
+ * Each call blocks the calling thread until the response is available.
+ */
+public class SyncNewsModule {
+	private final NewsModule module;
+	private final Executor completionExecutor;
+
+	public SyncNewsModule(NewsModule module) {
+		this(module, null);
+	}
+
+	/**
+	 * Creates a blocking module that fails fast when called from the thread its responses are delivered on.
+	 *
+	 * @param module The asynchronous module to delegate to
+	 * @param completionExecutor The completion executor of the client, or null
+	 */
+	public SyncNewsModule(NewsModule module, Executor completionExecutor) {
+		this.module = module;
+		this.completionExecutor = completionExecutor;
+	}
+
+	/**
+	 * Get latest news.
+	 *
+	 * @return News data
+	 */
+	public ApiResponse<Object> getNews() {
+		return Blocking.await(module.getNews(), completionExecutor);
+	}
+
+	/**
+	 * Get latest news with limit.
+	 *
+	 * @param limit Maximum number of news items to return
+	 * @return News data
+	 */
+	public ApiResponse<Object> getNews(int limit) {
+		return Blocking.await(module.getNews(limit), completionExecutor);
+	}
+
+	/**
+	 * Get news by category.
+	 *
+	 * @param category The news category
+	 * @return News data
+	 */
+	public ApiResponse<Object> getNewsByCategory(String category) {
+		return Blocking.await(module.getNewsByCategory(category), completionExecutor);
+	}
+
+	/**
+	 * Get news updates only.
+	 *
+	 * @return Update news
+	 */
+	public ApiResponse<Object> getUpdates() {
+		return Blocking.await(module.getUpdates(), completionExecutor);
+	}
+
+	/**
+	 * Get patch notes only.
+	 *
+	 * @return Patch notes
+	 */
+	public ApiResponse<Object> getPatchNotes() {
+		return Blocking.await(module.getPatchNotes(), completionExecutor);
+	}
+
+	/**
+	 * Get announcements only.
+	 *
+	 * @return Announcements
+	 */
+	public ApiResponse<Object> getAnnouncements() {
+		return Blocking.await(module.getAnnouncements(), completionExecutor);
+	}
+
+	/**
+	 * Get the latest posts of a category, decoded, only if they changed since a previous response.
+	 *
+	 * @param category The news category
+	 * @param limit Maximum number of news items to return
+	 * @param previous The entry of the previous response, or null
+	 * @return The previous entry if unchanged, or a new entry holding a {@code NewsData[]}
+	 */
+	public ApiResponse<CacheEntry> getNewsIfModified(String category, int limit, CacheEntry previous) {
+		return Blocking.await(module.getNewsIfModified(category, limit, previous), completionExecutor);
+	}
+}
@@ -0,0 +1,114 @@
+package com.hezaerd.wapi.sync;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import com.hezaerd.wapi.models.AbilityMap;
+import com.hezaerd.wapi.models.ApiResponse;
+import com.hezaerd.wapi.models.CharacterData;
+import com.hezaerd.wapi.models.OnlinePlayersResponse;
+import com.hezaerd.wapi.models.PlayerData;
+import com.hezaerd.wapi.modules.PlayerModule;
+
+/**
+ * Blocking counterpart of {@link PlayerModule} for <a href="https://docs.wynncraft.com/docs/modules/player.html">Wynncraft Player API endpoints</a>.
+ * Each call blocks the calling thread until the response is available.
+ */
+public class SyncPlayerModule {
+	private final PlayerModule module;
+	private final Executor completionExecutor;
+
+	public SyncPlayerModule(PlayerModule module) {
+		this(module, null);
+	}
+
+	/**
+	 * Creates a blocking module that fails fast when called from the thread its responses are delivered on.
+	 *
+	 * @param module The asynchronous module to delegate to
+	 * @param completionExecutor The completion executor of the client, or null
+	 */
+	public SyncPlayerModule(PlayerModule module, Executor completionExecutor) {
+		this.module = module;
+		this.completionExecutor = completionExecutor;
+	}
+
+	/**
+	 * Get basic player information.
+	 *
+	 * @param username The player's username
+	 * @return Player data
+	 */
+	public ApiResponse<PlayerData> get(String username) {
+		return Blocking.await(module.get(username), completionExecutor);
+	}
+
+	/**
+	 * Get full player information including detailed stats.
+	 *
+	 * @param username The player's username
+	 * @return Full player data
+	 */
+	public ApiResponse<PlayerData> getFull(String username) {
+		return Blocking.await(module.getFull(username), completionExecutor);
+	}
+
+	/**
+	 * Get a list of player's characters.
+	 *
+	 * @param username The player's username
+	 * @return Character list
+	 */
+	public ApiResponse<List<CharacterData>> getCharacters(String username) {
+		return Blocking.await(module.getCharacters(username), completionExecutor);
+	}
+
+	/**
+	 * Get specific character data.
+	 *
+	 * @param username The player's username
+	 * @param character The character name
+	 * @return Character data
+	 */
+	public ApiResponse<CharacterData> getCharacter(String username, String character) {
+		return Blocking.await(module.getCharacter(username, character), completionExecutor);
+	}
+
+	/**
+	 * Get character ability map.
+	 *
+	 * @param username The player's username
+	 * @param character The character name
+	 * @return Ability data
+	 */
+	public ApiResponse<AbilityMap> getCharacterAbility(String username, String character) {
+		return Blocking.await(module.getCharacterAbility(username, character), completionExecutor);
+	}
+
+	/**
+	 * Get list of online players.
+	 *
+	 * @return Online players list
+	 */
+	public ApiResponse<OnlinePlayersResponse> getOnlinePlayers() {
+		return Blocking.await(module.getOnlinePlayers(), completionExecutor);
+	}
+
+	/**
+	 * Get online players count.
+	 *
+	 * @return Online players count
+	 */
+	public ApiResponse<Integer> getOnlinePlayersCount() {
+		return Blocking.await(module.getOnlinePlayersCount(), completionExecutor);
+	}
+
+	/**
+	 * Get list of online player usernames.
+	 *
+	 * @return List of online usernames
+	 */
+	public ApiResponse<List<String>> getOnlinePlayerNames() {
+		return Blocking.await(module.getOnlinePlayerNames(), completionExecutor);
+	}
+}
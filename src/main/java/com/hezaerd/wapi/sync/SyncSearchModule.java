@@ -0,0 +1,81 @@
+package com.hezaerd.wapi.sync;
+
+import java.util.concurrent.Executor;
+
+import com.hezaerd.wapi.models.ApiResponse;
+import com.hezaerd.wapi.models.SearchResults;
+import com.hezaerd.wapi.modules.SearchModule;
+
+/**
+ * Blocking counterpart of {@link SearchModule} for <a href="https://docs.wynncraft.com/docs/modules/search.html">Wynncraft Search API endpoints</a>.
+ * Each call blocks the calling thread until the response is available.
+ */
+public class SyncSearchModule {
+	private final SearchModule module;
+	private final Executor completionExecutor;
+
+	public SyncSearchModule(SearchModule module) {
+		this(module, null);
+	}
+
+	/**
+	 * Creates a blocking module that fails fast when called from the thread its responses are delivered on.
+	 *
+	 * @param module The asynchronous module to delegate to
+	 * @param completionExecutor The completion executor of the client, or null
+	 */
+	public SyncSearchModule(SearchModule module, Executor completionExecutor) {
+		this.module = module;
+		this.completionExecutor = completionExecutor;
+	}
+
+	/**
+	 * Search for players, guilds, and items.
+	 *
+	 * @param query The search query
+	 * @return Search results
+	 */
+	public ApiResponse<Object> search(String query) {
+		return Blocking.await(module.search(query), completionExecutor);
+	}
+
+	/**
+	 * Search for players, guilds, and items, decoded to their names.
+	 *
+	 * @param query The search query
+	 * @return Typed search results
+	 */
+	public ApiResponse<SearchResults> find(String query) {
+		return Blocking.await(module.find(query), completionExecutor);
+	}
+
+	/**
+	 * Search for players only.
+	 *
+	 * @param query The search query
+	 * @return Player search results
+	 */
+	public ApiResponse<Object> searchPlayers(String query) {
+		return Blocking.await(module.searchPlayers(query), completionExecutor);
+	}
+
+	/**
+	 * Search for guilds only.
+	 *
+	 * @param query The search query
+	 * @return Guild search results
+	 */
+	public ApiResponse<Object> searchGuilds(String query) {
+		return Blocking.await(module.searchGuilds(query), completionExecutor);
+	}
+
+	/**
+	 * Search for items only.
+	 *
+	 * @param query The search query
+	 * @return Item search results
+	 */
+	public ApiResponse<Object> searchItems(String query) {
+		return Blocking.await(module.searchItems(query), completionExecutor);
+	}
+}
@@ -0,0 +1,126 @@
+package com.hezaerd.wapi.sync;
+
+import java.util.concurrent.Executor;
+
+import com.hezaerd.wapi.WapiClient;
+
+/**
+ * Blocking facade over {@link WapiClient}.
+ * Every call blocks the calling thread until the response is available, which makes
+ * straight-line code possible. Pair it with virtual threads
+ * ({@link com.hezaerd.wapi.client.WapiHttpClientConfig.Builder#useVirtualThreads(boolean)})
+ * to run many concurrent lookups without tying up platform threads.
+ * Calls must not be made from the game thread of a {@link com.hezaerd.wapi.dispatch.TickExecutor}
+ * used as completion executor, since the response could only complete on its next tick:
+ * such calls fail fast with an {@link IllegalStateException}.
+ */
+public final class SyncWapiClient {
+	private final SyncPlayerModule playerModule;
+	private final SyncGuildModule guildModule;
+	private final SyncItemModule itemModule;
+	private final SyncLeaderboardModule leaderboardModule;
+	private final SyncAbilityModule abilityModule;
+	private final SyncMapModule mapModule;
+	private final SyncSearchModule searchModule;
+	private final SyncClassesModule classesModule;
+	private final SyncNewsModule newsModule;
+
+	/**
+	 * Creates a blocking facade over the given client.
+	 *
+	 * @param client The asynchronous client to delegate to
+	 */
+	public SyncWapiClient(WapiClient client) {
+		Executor completion = client.getConfig().getCompletionExecutor();
+		this.playerModule = new SyncPlayerModule(client.player(), completion);
+		this.guildModule = new SyncGuildModule(client.guild(), completion);
+		this.itemModule = new SyncItemModule(client.item(), completion);
+		this.leaderboardModule = new SyncLeaderboardModule(client.leaderboard(), completion);
+		this.abilityModule = new SyncAbilityModule(client.ability(), completion);
+		this.mapModule = new SyncMapModule(client.map(), completion);
+		this.searchModule = new SyncSearchModule(client.search(), completion);
+		this.classesModule = new SyncClassesModule(client.classes(), completion);
+		this.newsModule = new SyncNewsModule(client.news(), completion);
+	}
+
+	/**
+	 * Access player-related API endpoints.
+	 *
+	 * @return SyncPlayerModule for player operations
+	 */
+	public SyncPlayerModule player() {
+		return playerModule;
+	}
+
+	/**
+	 * Access guild-related API endpoints.
+	 *
+	 * @return SyncGuildModule for guild operations
+	 */
+	public SyncGuildModule guild() {
+		return guildModule;
+	}
+
+	/**
+	 * Access item-related API endpoints.
+	 *
+	 * @return SyncItemModule for item operations
+	 */
+	public SyncItemModule item() {
+		return itemModule;
+	}
+
+	/**
+	 * Access leaderboard API endpoints.
+	 *
+	 * @return SyncLeaderboardModule for leaderboard operations
+	 */
+	public SyncLeaderboardModule leaderboard() {
+		return leaderboardModule;
+	}
+
+	/**
+	 * Access ability and aspects API endpoints.
+	 *
+	 * @return SyncAbilityModule for ability operations
+	 */
+	public SyncAbilityModule ability() {
+		return abilityModule;
+	}
+
+	/**
+	 * Access map-related API endpoints.
+	 *
+	 * @return SyncMapModule for map operations
+	 */
+	public SyncMapModule map() {
+		return mapModule;
+	}
+
+	/**
+	 * Access search API endpoints.
+	 *
+	 * @return SyncSearchModule for search operations
+	 */
+	public SyncSearchModule search() {
+		return searchModule;
+	}
+
+	/**
+	 * Access class-related API endpoints.
+	 *
+	 * @return SyncClassesModule for class operations
+	 */
+	public SyncClassesModule classes() {
+		return classesModule;
+	}
+
+	/**
+	 * Access news API endpoints.
+	 *
+	 * @return SyncNewsModule for news operations
+	 */
+	public SyncNewsModule news() {
+		return newsModule;
+	}
+}
@@ -0,0 +1,68 @@
+package com.hezaerd.wapi.tracking;
+
+import java.util.Locale;
+
+/**
+ * A change of one field of a tracked character between two refreshes,
+ * e.g. "Fishing 72&rarr;73" or "+1 NOTG".
+ *
+ * @param player The player name
+ * @param character The character key, its name or type
+ * @param field What changed
+ * @param key The profession, dungeon, raid, quest or skill name, or null for the character level
+ * @param before The previous value
+ * @param after The new value
+ */
+public record CharacterChange(String player, String character, Field field, String key, int before, int after) {
+	private static final String ARROW = "\u2192";
+
+	/**
+	 * The tracked fields of a character and the value compared for each.
+	 */
+	public enum Field {
+		/** The combat level */
+		LEVEL,
+		/** A profession level */
+		PROFESSION,
+		/** Completions of a dungeon */
+		DUNGEON,
+		/** Completions of a raid */
+		RAID,
+		/** Completion of a quest, 1 when completed */
+		QUEST,
+		/** A skill level */
+		SKILL
+	}
+
+	/**
+	 * Gets the difference between the new and the previous value.
+	 *
+	 * @return The delta
+	 */
+	public int getDelta() {
+		return after - before;
+	}
+
+	/**
+	 * Describes the change in a short human-readable form.
+	 *
+	 * @return The description
+	 */
+	public String describe() {
+		return switch (field) {
+			case LEVEL -> "Level " + before + ARROW + after;
+			case PROFESSION, SKILL -> capitalize(key) + " " + before + ARROW + after;
+			case DUNGEON, RAID -> (getDelta() > 0 ? "+" : "") + getDelta() + " " + key;
+			case QUEST -> after > 0 ? "Completed " + key : "Uncompleted " + key;
+		};
+	}
+
+	private static String capitalize(String text) {
+		return text.isEmpty() ? text : text.substring(0, 1).toUpperCase(Locale.ROOT) + text.substring(1);
+	}
+
+	@Override
+	public String toString() {
+		return player + "/" + character + ": " + describe();
+	}
+}
@@ -0,0 +1,171 @@
+package com.hezaerd.wapi.tracking;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+import com.hezaerd.wapi.models.CharacterData;
+import com.hezaerd.wapi.tracking.CharacterChange.Field;
+
+/**
+ * The last known state of a tracked character, stored compactly: for each content field,
+ * the content ids in ascending order and their values in parallel primitive arrays.
+ */
+public final class CharacterSnapshot {
+	private static final Field[] CONTENT = { Field.PROFESSION, Field.DUNGEON, Field.RAID, Field.QUEST, Field.SKILL };
+	private static final int[] EMPTY = new int[0];
+
+	private final ContentIds contentIds;
+	private final int level;
+	private final long xp;
+	private final long contentHash;
+	private final int[][] ids = new int[CONTENT.length][];
+	private final int[][] values = new int[CONTENT.length][];
+
+	private CharacterSnapshot(ContentIds contentIds, CharacterData data, long contentHash) {
+		this.contentIds = contentIds;
+		this.level = data.getLevel();
+		this.xp = data.getXp();
+		this.contentHash = contentHash;
+		store(Field.PROFESSION, data.getProfessions(), CharacterData.ProfessionData::getLevel);
+		store(Field.DUNGEON, data.getDungeons(), CharacterData.DungeonData::getCompletions);
+		store(Field.RAID, data.getRaids(), CharacterData.RaidData::getCompletions);
+		store(Field.QUEST, data.getQuests(), quest -> "completed".equalsIgnoreCase(quest.getStatus()) ? 1 : 0);
+		store(Field.SKILL, data.getSkills(), CharacterData.SkillData::getLevel);
+	}
+
+	static CharacterSnapshot of(ContentIds contentIds, CharacterData data) {
+		return of(contentIds, data, null);
+	}
+
+	/**
+	 * Snapshots a character, or returns the previous snapshot when the raw content of the
+	 * character is unchanged, without decoding its content maps.
+	 */
+	static CharacterSnapshot of(ContentIds contentIds, CharacterData data, CharacterSnapshot previous) {
+		// Hashed first, decoding the maps drops their raw JSON
+		long contentHash = data.getContentHash();
+		if (previous != null && contentHash != 0 && previous.contentHash == contentHash
+				&& previous.level == data.getLevel() && previous.xp == data.getXp()) {
+			return previous;
+		}
+		return new CharacterSnapshot(contentIds, data, contentHash);
+	}
+
+	/**
+	 * Packs each (id, value) pair in a long so one primitive sort orders both arrays by id.
+	 */
+	private <V> void store(Field field, Map<String, V> content, ToIntFunction<V> value) {
+		int slot = slotOf(field);
+		if (content == null || content.isEmpty()) {
+			ids[slot] = EMPTY;
+			values[slot] = EMPTY;
+			return;
+		}
+
+		long[] packed = new long[content.size()];
+		int count = 0;
+		for (Map.Entry<String, V> entry : content.entrySet()) {
+			if (entry.getKey() != null && entry.getValue() != null) {
+				packed[count++] = (long) contentIds.idOf(entry.getKey()) << 32
+					| (value.applyAsInt(entry.getValue()) & 0xFFFFFFFFL);
+			}
+		}
+		Arrays.sort(packed, 0, count);
+
+		int[] fieldIds = new int[count];
+		int[] fieldValues = new int[count];
+		for (int i = 0; i < count; i++) {
+			fieldIds[i] = (int) (packed[i] >>> 32);
+			fieldValues[i] = (int) packed[i];
+		}
+		ids[slot] = fieldIds;
+		values[slot] = fieldValues;
+	}
+
+	private static int slotOf(Field field) {
+		return field.ordinal() - 1;
+	}
+
+	/**
+	 * Gets the value of a content field.
+	 *
+	 * @param field The content field, not {@link Field#LEVEL}
+	 * @param key The profession, dungeon, raid, quest or skill name
+	 * @return The value, or 0 if the character has none
+	 */
+	public int get(Field field, String key) {
+		if (field == Field.LEVEL) {
+			return level;
+		}
+
+		int id = contentIds.find(key);
+		if (id < 0) {
+			return 0;
+		}
+
+		int slot = slotOf(field);
+		int index = Arrays.binarySearch(ids[slot], id);
+		return index >= 0 ? values[slot][index] : 0;
+	}
+
+	/**
+	 * Checks if anything changed since a previous snapshot, experience included.
+	 */
+	boolean differsFrom(CharacterSnapshot previous) {
+		if (level != previous.level || xp != previous.xp) {
+			return true;
+		}
+		for (int slot = 0; slot < CONTENT.length; slot++) {
+			if (!Arrays.equals(ids[slot], previous.ids[slot]) || !Arrays.equals(values[slot], previous.values[slot])) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Collects the field-level changes since a previous snapshot by merging the sorted id arrays.
+	 * Content missing on either side counts as 0.
+	 */
+	void diff(CharacterSnapshot previous, String player, String character, List<CharacterChange> changes) {
+		if (level != previous.level) {
+			changes.add(new CharacterChange(player, character, Field.LEVEL, null, previous.level, level));
+		}
+
+		for (int slot = 0; slot < CONTENT.length; slot++) {
+			int[] oldIds = previous.ids[slot];
+			int[] oldValues = previous.values[slot];
+			int[] newIds = ids[slot];
+			int[] newValues = values[slot];
+
+			int i = 0;
+			int j = 0;
+			while (i < oldIds.length || j < newIds.length) {
+				int id;
+				int before = 0;
+				int after = 0;
+				if (j >= newIds.length || (i < oldIds.length && oldIds[i] < newIds[j])) {
+					id = oldIds[i];
+					before = oldValues[i++];
+				} else if (i >= oldIds.length || newIds[j] < oldIds[i]) {
+					id = newIds[j];
+					after = newValues[j++];
+				} else {
+					id = newIds[j];
+					before = oldValues[i++];
+					after = newValues[j++];
+				}
+
+				if (before != after) {
+					changes.add(new CharacterChange(player, character, CONTENT[slot], contentIds.nameOf(id), before, after));
+				}
+			}
+		}
+	}
+
+	// Getters
+	public int getLevel() { return level; }
+	public long getXp() { return xp; }
+}
@@ -0,0 +1,253 @@
+package com.hezaerd.wapi.tracking;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+
+import com.hezaerd.wapi.cache.CacheEntry;
+import com.hezaerd.wapi.models.ApiResponse;
+import com.hezaerd.wapi.models.CharacterData;
+import com.hezaerd.wapi.models.CharacterListResponse;
+import com.hezaerd.wapi.modules.PlayerModule;
+import com.hezaerd.wapi.polling.AdaptivePoller;
+
+/**
+ * Tracks the progression of the characters of a set of players.
+ * Each refresh compares the characters against their last {@link CharacterSnapshot} and
+ * publishes the field-level changes on {@link #events()}.
+ * Players are polled by an {@link AdaptivePoller}: the request budget goes to the players
+ * whose characters change often, and inactive players are backed off.
+ *
+ * <pre>{@code
+ * CharacterTracker tracker = new CharacterTracker(wapi.player());
+ * tracker.events().subscribe(subscriber);
+ * tracker.track("Salted");
+ * tracker.start(Duration.ofSeconds(5));
+ * }</pre>
+ */
+public class CharacterTracker implements AutoCloseable {
+	public static final double DEFAULT_REQUESTS_PER_MINUTE = 30;
+	public static final Duration DEFAULT_MIN_INTERVAL = Duration.ofMinutes(2);
+	public static final Duration DEFAULT_MAX_INTERVAL = Duration.ofHours(1);
+
+	private final PlayerModule module;
+	private final ContentIds contentIds = new ContentIds();
+	private final SubmissionPublisher<CharacterChange> events = new SubmissionPublisher<>();
+	private final AdaptivePoller<String, PlayerState> poller;
+
+	/**
+	 * Creates a tracker spending 30 requests per minute, polling each player every 2 minutes to every hour.
+	 *
+	 * @param module The player module to fetch characters from
+	 */
+	public CharacterTracker(PlayerModule module) {
+		this(module, DEFAULT_REQUESTS_PER_MINUTE, DEFAULT_MIN_INTERVAL, DEFAULT_MAX_INTERVAL);
+	}
+
+	/**
+	 * Creates a tracker.
+	 *
+	 * @param module The player module to fetch characters from
+	 * @param requestsPerMinute The request budget shared by all tracked players
+	 * @param minInterval The interval of the most active players
+	 * @param maxInterval The interval of the least active players
+	 */
+	public CharacterTracker(PlayerModule module, double requestsPerMinute, Duration minInterval, Duration maxInterval) {
+		this.module = module;
+		this.poller = AdaptivePoller.<String, PlayerState>builder()
+			.fetcher(this::fetch)
+			.changed((previous, current) -> current.active)
+			.listener((player, previous, current) -> publish(current.changes))
+			.requestsPerMinute(requestsPerMinute)
+			.minInterval(minInterval)
+			.maxInterval(maxInterval)
+			.build();
+	}
+
+	/**
+	 * Starts tracking a player; the first refresh only records their characters.
+	 *
+	 * @param player The player name
+	 */
+	public void track(String player) {
+		poller.add(player);
+	}
+
+	/**
+	 * Stops tracking a player and forgets their characters.
+	 *
+	 * @param player The player name
+	 */
+	public void untrack(String player) {
+		poller.remove(player);
+	}
+
+	/**
+	 * Gets the changes of all tracked characters. Subscribers that fall more than a buffer
+	 * behind miss the changes published meanwhile, so polling is never blocked by a slow subscriber.
+	 *
+	 * @return The publisher of character changes
+	 */
+	public Flow.Publisher<CharacterChange> events() {
+		return events;
+	}
+
+	/**
+	 * Refreshes a tracked player now, publishing and returning the changes since the last refresh.
+	 *
+	 * @param player The player name
+	 * @return CompletableFuture containing the changes, empty on the first refresh
+	 */
+	public CompletableFuture<ApiResponse<List<CharacterChange>>> refresh(String player) {
+		return poller.refresh(player).thenApply(response -> response.map(state -> state.changes));
+	}
+
+	/**
+	 * Polls the characters conditionally: an unchanged list is neither downloaded nor decoded again.
+	 */
+	private CompletableFuture<ApiResponse<PlayerState>> fetch(String player, PlayerState previous) {
+		CacheEntry previousEntry = previous != null ? previous.entry : null;
+		return module.getCharactersIfModified(player, previousEntry).thenApply(response -> response.map(entry -> {
+			if (previous != null && entry == previousEntry) {
+				return new PlayerState(previous.snapshots, List.of(), false, entry);
+			}
+			List<CharacterData> characters = ((CharacterListResponse) entry.getValue()).getCharacters();
+			return diff(player, previous, characters, entry);
+		}));
+	}
+
+	/**
+	 * Snapshots the new characters and diffs them against the previous snapshots.
+	 * Characters whose raw content is unchanged keep their previous snapshot and are not decoded.
+	 */
+	private PlayerState diff(String player, PlayerState previous, List<CharacterData> characters, CacheEntry entry) {
+		Map<String, CharacterSnapshot> snapshots = new HashMap<>();
+		List<CharacterChange> changes = new ArrayList<>();
+		boolean active = false;
+		if (characters != null) {
+			List<String> keys = keysOf(characters);
+			for (int i = 0; i < characters.size(); i++) {
+				String key = keys.get(i);
+				CharacterSnapshot before = previous != null ? previous.snapshots.get(key) : null;
+				CharacterSnapshot snapshot = CharacterSnapshot.of(contentIds, characters.get(i), before);
+				snapshots.put(key, snapshot);
+
+				if (previous == null || snapshot == before) {
+					continue;
+				}
+				if (before == null) {
+					active = true;
+				} else if (snapshot.differsFrom(before)) {
+					active = true;
+					snapshot.diff(before, player, key, changes);
+				}
+			}
+		}
+		return new PlayerState(snapshots, changes, active, entry);
+	}
+
+	/**
+	 * Keys characters by name. A character without a name is keyed by its class when it is the
+	 * only unnamed one of that class, and by its class and rank among those otherwise, so that
+	 * keys do not shift when other characters are added or removed.
+	 */
+	private static List<String> keysOf(List<CharacterData> characters) {
+		Map<String, Integer> unnamed = new HashMap<>();
+		for (CharacterData character : characters) {
+			if (character.getName() == null) {
+				unnamed.merge(String.valueOf(character.getType()), 1, Integer::sum);
+			}
+		}
+
+		List<String> keys = new ArrayList<>(characters.size());
+		Map<String, Integer> seen = new HashMap<>();
+		for (CharacterData character : characters) {
+			if (character.getName() != null) {
+				keys.add(character.getName());
+				continue;
+			}
+			String type = String.valueOf(character.getType());
+			keys.add(unnamed.get(type) == 1 ? type : type + "#" + seen.merge(type, 1, Integer::sum));
+		}
+		return keys;
+	}
+
+	private void publish(List<CharacterChange> changes) {
+		for (CharacterChange change : changes) {
+			events.offer(change, (subscriber, dropped) -> false);
+		}
+	}
+
+	/**
+	 * Refreshes the players that are due, within the request budget.
+	 *
+	 * @return The number of refreshes started
+	 */
+	public int pollDue() {
+		return poller.pollDue();
+	}
+
+	/**
+	 * Starts polling in the background.
+	 *
+	 * @param tick How often due players are looked for
+	 */
+	public void start(Duration tick) {
+		poller.start(tick);
+	}
+
+	/**
+	 * Stops polling in the background.
+	 */
+	public void stop() {
+		poller.stop();
+	}
+
+	/**
+	 * Stops polling and completes the subscriptions to {@link #events()}.
+	 */
+	@Override
+	public void close() {
+		stop();
+		events.close();
+	}
+
+	/**
+	 * Gets the last known state of the characters of a player.
+	 *
+	 * @param player The player name
+	 * @return The snapshots by character, empty before the first refresh
+	 */
+	public Map<String, CharacterSnapshot> getSnapshots(String player) {
+		PlayerState state = poller.getLast(player);
+		return state != null ? Collections.unmodifiableMap(state.snapshots) : Map.of();
+	}
+
+	/**
+	 * Gets the current polling interval of a player.
+	 *
+	 * @param player The player name
+	 * @return The interval, or null if the player is not tracked
+	 */
+	public Duration getInterval(String player) {
+		return poller.getInterval(player);
+	}
+
+	public Set<String> getTrackedPlayers() {
+		return poller.getKeys();
+	}
+
+	/**
+	 * The characters of a player at one refresh, with the changes since the previous one.
+	 */
+	private record PlayerState(Map<String, CharacterSnapshot> snapshots, List<CharacterChange> changes, boolean active,
+			CacheEntry entry) {
+	}
+}
@@ -0,0 +1,43 @@
+package com.hezaerd.wapi.tracking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dense integer ids for the profession, dungeon, raid, quest and skill names,
+ * so character snapshots store them as primitive arrays.
+ */
+final class ContentIds {
+	private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+	private final List<String> names = new ArrayList<>();
+
+	int idOf(String name) {
+		Integer id = ids.get(name);
+		if (id != null) {
+			return id;
+		}
+
+		synchronized (names) {
+			return ids.computeIfAbsent(name, key -> {
+				names.add(key);
+				return names.size() - 1;
+			});
+		}
+	}
+
+	/**
+	 * Gets the id of a name without registering it.
+	 */
+	int find(String name) {
+		Integer id = ids.get(name);
+		return id != null ? id : -1;
+	}
+
+	String nameOf(int id) {
+		synchronized (names) {
+			return names.get(id);
+		}
+	}
+}
@@ -0,0 +1,157 @@
+package com.hezaerd.wapi.warmup;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.hezaerd.wapi.WapiClient;
+import com.hezaerd.wapi.cache.CachePolicy;
+import com.hezaerd.wapi.client.WapiHttpClientConfig;
+import com.hezaerd.wapi.models.ApiResponse;
+import com.hezaerd.wapi.models.ResponseSource;
+import com.hezaerd.wapi.utils.ModLib;
+
+/**
+ * Preloads the data that almost never changes (classes, item metadata and ability trees)
+ * so that the first screen needing it does not wait for the network.
+ * With a client configured through {@link #configure(WapiHttpClientConfig.Builder, Path)}, the data
+ * is served from the disk cache right away and revalidated in the background.
+ *
+ * <pre>{@code
+ * WapiClient client = new WapiClient(WarmUp.configure(WapiHttpClientConfig.builder(), cacheDir).build());
+ * WarmUp.start(client);
+ * }</pre>
+ */
+public final class WarmUp {
+	/**
+	 * The classes whose ability trees are preloaded.
+	 */
+	public static final List<String> CLASS_NAMES = List.of("warrior", "archer", "mage", "assassin", "shaman");
+
+	/**
+	 * Fresh for an hour, then served from cache while revalidating for up to a month.
+	 */
+	public static final CachePolicy STATIC_DATA_POLICY = CachePolicy.builder()
+		.ttl(Duration.ofHours(1))
+		.staleWhileRevalidate(Duration.ofDays(30))
+		.staleIfError(Duration.ofDays(30))
+		.persistent(true)
+		.build();
+
+	private WarmUp() {
+		throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+	}
+
+	/**
+	 * Enables the disk cache and persistent cache policies for the preloaded endpoints, and runs the
+	 * client's requests (warm-up included) on shared low-priority daemon threads, so that reading
+	 * and decoding the cache never competes with the game threads.
+	 *
+	 * @param builder The client configuration to extend
+	 * @param directory The disk cache directory
+	 * @return The same builder
+	 */
+	public static WapiHttpClientConfig.Builder configure(WapiHttpClientConfig.Builder builder, Path directory) {
+		return builder
+			.executor(RequestPool.INSTANCE)
+			.diskCache(directory)
+			.cachePolicy("/v3/classes", STATIC_DATA_POLICY)
+			.cachePolicy("/v3/item/metadata", STATIC_DATA_POLICY)
+			.cachePolicy("/v3/abilities", STATIC_DATA_POLICY);
+	}
+
+	/**
+	 * Starts warming up from a daemon thread, so the caller is never blocked, and reports the timings
+	 * through the mod logger. The requests themselves run on the client's executor, low-priority
+	 * threads with a client configured through {@link #configure(WapiHttpClientConfig.Builder, Path)}.
+	 *
+	 * @param client The client to warm up
+	 * @return CompletableFuture containing the report, completing once every target settled
+	 */
+	public static CompletableFuture<WarmUpReport> start(WapiClient client) {
+		CompletableFuture<WarmUpReport> report = new CompletableFuture<>();
+		Thread thread = new Thread(() -> {
+			try {
+				run(client).whenComplete((result, error) -> {
+					if (error != null) {
+						report.completeExceptionally(error);
+					} else {
+						report.complete(result);
+					}
+				});
+			} catch (RuntimeException e) {
+				ModLib.LOGGER.warn("Warm-up failed to start", e);
+				report.completeExceptionally(e);
+			}
+		}, "wapi-warm-up");
+		thread.setDaemon(true);
+		thread.setPriority(Thread.MIN_PRIORITY);
+		thread.start();
+		return report;
+	}
+
+	/**
+	 * Requests every target; disk cache hits are read and decoded on the client's request executor.
+	 */
+	private static CompletableFuture<WarmUpReport> run(WapiClient client) {
+		long start = System.nanoTime();
+		Map<String, ResponseSource> sources = new ConcurrentHashMap<>();
+		Map<String, Duration> timings = new ConcurrentHashMap<>();
+		Map<String, String> errors = new ConcurrentHashMap<>();
+
+		Map<String, CompletableFuture<? extends ApiResponse<?>>> targets = new LinkedHashMap<>();
+		targets.put("classes", client.classes().getAllClasses());
+		targets.put("item metadata", client.item().getMetadata());
+		for (String className : CLASS_NAMES) {
+			targets.put(className + " ability tree", client.ability().getTree(className));
+		}
+
+		List<CompletableFuture<?>> calls = new ArrayList<>();
+		targets.forEach((name, future) -> calls.add(future.handle((response, error) -> {
+			Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+			timings.put(name, elapsed);
+			if (error == null && response.isSuccess()) {
+				sources.put(name, response.getSource());
+				ModLib.LOGGER.debug("Warmed up {} from {} in {} ms", name, response.getSource(), elapsed.toMillis());
+			} else {
+				errors.put(name, error != null ? error.toString() : response.getError());
+				ModLib.LOGGER.warn("Failed to warm up {}: {}", name, errors.get(name));
+			}
+			return null;
+		})));
+
+		return CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+			WarmUpReport report = new WarmUpReport(Duration.ofNanos(System.nanoTime() - start), sources, timings, errors);
+			ModLib.LOGGER.info("Warm-up finished in {} ms: {} from disk, {} from network, {} failed",
+				report.getDuration().toMillis(), report.count(ResponseSource.DISK), report.count(ResponseSource.NETWORK),
+				errors.size());
+			return report;
+		});
+	}
+
+	/**
+	 * Lazily created request pool of low-priority daemon threads. It grows with the requests
+	 * in flight, as request tasks block while they wait for a connection or a response.
+	 */
+	private static final class RequestPool {
+		private static final ExecutorService INSTANCE = create();
+
+		private static ExecutorService create() {
+			AtomicInteger counter = new AtomicInteger();
+			return Executors.newCachedThreadPool(task -> {
+				Thread thread = new Thread(task, "wapi-request-" + counter.incrementAndGet());
+				thread.setDaemon(true);
+				thread.setPriority(Thread.MIN_PRIORITY);
+				return thread;
+			});
+		}
+	}
+}
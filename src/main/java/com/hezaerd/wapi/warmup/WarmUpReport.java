@@ -0,0 +1,52 @@
+package com.hezaerd.wapi.warmup;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+import com.hezaerd.wapi.models.ResponseSource;
+
+/**
+ * The outcome of a warm-up: where each target was loaded from, how long it took
+ * from the start of the warm-up, and the targets that failed.
+ */
+public class WarmUpReport {
+	private final Duration duration;
+	private final Map<String, ResponseSource> sources;
+	private final Map<String, Duration> timings;
+	private final Map<String, String> errors;
+
+	WarmUpReport(Duration duration, Map<String, ResponseSource> sources, Map<String, Duration> timings,
+			Map<String, String> errors) {
+		this.duration = duration;
+		this.sources = Collections.unmodifiableMap(sources);
+		this.timings = Collections.unmodifiableMap(timings);
+		this.errors = Collections.unmodifiableMap(errors);
+	}
+
+	/**
+	 * Counts the targets loaded from a source.
+	 *
+	 * @param source The response source
+	 * @return The number of targets
+	 */
+	public long count(ResponseSource source) {
+		return sources.values().stream().filter(source::equals).count();
+	}
+
+	public boolean isComplete() {
+		return errors.isEmpty();
+	}
+
+	// Getters
+	public Duration getDuration() { return duration; }
+	public Map<String, ResponseSource> getSources() { return sources; }
+	public Map<String, Duration> getTimings() { return timings; }
+	public Map<String, String> getErrors() { return errors; }
+
+	@Override
+	public String toString() {
+		return "WarmUpReport{duration=" + duration.toMillis() + "ms, disk=" + count(ResponseSource.DISK) +
+			", network=" + count(ResponseSource.NETWORK) + ", failed=" + errors.size() + "}";
+	}
+}
@@ -0,0 +1,119 @@
+package com.hezaerd.wapi.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+	private static final long FAST = Duration.ofMillis(10).toNanos();
+	private static final long SLOW = Duration.ofSeconds(10).toNanos();
+
+	@Test
+	void staysClosedBelowTheMinimumCalls() {
+		CircuitBreaker breaker = new CircuitBreaker(config(Duration.ofMinutes(1)));
+
+		record(breaker, 3, FAST, true);
+
+		assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+		assertTrue(breaker.tryAcquirePermission());
+	}
+
+	@Test
+	void opensOnFailureRateAndRejectsCalls() {
+		CircuitBreaker breaker = new CircuitBreaker(config(Duration.ofMinutes(1)));
+
+		record(breaker, 2, FAST, false);
+		record(breaker, 2, FAST, true);
+
+		assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+		assertFalse(breaker.tryAcquirePermission());
+	}
+
+	@Test
+	void opensOnSlowCallRate() {
+		CircuitBreaker breaker = new CircuitBreaker(config(Duration.ofMinutes(1)));
+
+		record(breaker, 4, SLOW, false);
+
+		assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+	}
+
+	@Test
+	void admitsLimitedTrialsOnceTheOpenDurationElapsed() {
+		CircuitBreaker breaker = openBreaker();
+
+		assertTrue(breaker.tryAcquirePermission());
+		assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+		assertTrue(breaker.tryAcquirePermission());
+		assertFalse(breaker.tryAcquirePermission());
+	}
+
+	@Test
+	void releasedTrialsCanBeRetaken() {
+		CircuitBreaker breaker = openBreaker();
+
+		assertTrue(breaker.tryAcquirePermission());
+		assertTrue(breaker.tryAcquirePermission());
+		breaker.releasePermission();
+
+		assertTrue(breaker.tryAcquirePermission());
+	}
+
+	@Test
+	void closesAfterSuccessfulTrials() {
+		CircuitBreaker breaker = openBreaker();
+
+		assertTrue(breaker.tryAcquirePermission());
+		assertTrue(breaker.tryAcquirePermission());
+		breaker.record(FAST, false);
+		breaker.record(FAST, false);
+
+		assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+		// The window starts over: one more failure does not reopen it
+		breaker.record(FAST, true);
+		assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+	}
+
+	@Test
+	void reopensOnAFailedTrial() {
+		CircuitBreaker breaker = openBreaker();
+
+		assertTrue(breaker.tryAcquirePermission());
+		breaker.record(FAST, true);
+
+		assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+	}
+
+	/**
+	 * Opens a breaker whose open duration has already elapsed.
+	 */
+	private static CircuitBreaker openBreaker() {
+		CircuitBreaker breaker = new CircuitBreaker(config(Duration.ZERO));
+		record(breaker, 4, FAST, true);
+		assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+		return breaker;
+	}
+
+	private static CircuitBreakerConfig config(Duration openDuration) {
+		return CircuitBreakerConfig.builder()
+			.windowSize(4)
+			.minimumCalls(4)
+			.failureRateThreshold(0.5)
+			.slowCallRateThreshold(0.75)
+			.slowCallDuration(Duration.ofSeconds(1))
+			.openDuration(openDuration)
+			.halfOpenCalls(2)
+			.build();
+	}
+
+	private static void record(CircuitBreaker breaker, int calls, long durationNanos, boolean failed) {
+		for (int i = 0; i < calls; i++) {
+			assertTrue(breaker.tryAcquirePermission());
+			breaker.record(durationNanos, failed);
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package com.hezaerd.wapi.leaderboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.hezaerd.wapi.models.LeaderboardTable;
+import com.hezaerd.wapi.models.ModelAdapters;
+
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Test;
+
+class LeaderboardHistoryTest {
+	private static final long HOUR = Duration.ofHours(1).toMillis();
+
+	private final Gson gson = ModelAdapters.createGson();
+
+	@Test
+	void firstSnapshotHasNoMovement() {
+		LeaderboardHistory history = new LeaderboardHistory();
+
+		LeaderboardDelta delta = history.record("combat", table("A", 300, "B", 200), 0);
+
+		assertEquals(0, delta.getRankChange(0));
+		assertEquals(0.0, delta.getScorePerHour(0), 0);
+	}
+
+	@Test
+	void diffsRanksAndScoreVelocityAgainstThePreviousSnapshot() {
+		LeaderboardHistory history = new LeaderboardHistory();
+		history.record("combat", table("A", 300, "B", 200, "C", 100), 0);
+
+		LeaderboardDelta delta = history.record("combat", table("B", 500, "A", 310, "D", 250), 2 * HOUR);
+
+		// B climbed from 2nd to 1st, A fell from 1st to 2nd, D is new
+		assertEquals(1, delta.getRankChange(0));
+		assertEquals(150.0, delta.getScorePerHour(0), 1e-9);
+		assertEquals(-1, delta.getRankChange(1));
+		assertEquals(5.0, delta.getScorePerHour(1), 1e-9);
+		assertTrue(delta.isNewEntry(2));
+		assertFalse(delta.isNewEntry(0));
+		assertEquals(0, delta.getPreviousTimestamp());
+	}
+
+	@Test
+	void recordingTheSameTableTwiceKeepsOneSnapshot() {
+		LeaderboardHistory history = new LeaderboardHistory();
+		LeaderboardTable table = table("A", 300);
+
+		LeaderboardDelta first = history.record("combat", table, 0);
+		LeaderboardDelta again = history.record("combat", table, HOUR);
+
+		assertSame(first, again);
+		assertEquals(1, history.getSnapshotCount("combat"));
+	}
+
+	@Test
+	void keepsTheLastSnapshotsOnly() {
+		LeaderboardHistory history = new LeaderboardHistory(3);
+		for (int i = 0; i < 5; i++) {
+			history.record("combat", table("A", 100 + i), i * HOUR);
+		}
+
+		assertEquals(3, history.getSnapshotCount("combat"));
+	}
+
+	@Test
+	void climbersCompareWithTheOldestSnapshotWithinThePeriod() {
+		LeaderboardHistory history = new LeaderboardHistory();
+		history.record("combat", table("A", 400, "B", 300, "C", 200, "D", 100), 0);
+		history.record("combat", table("A", 400, "C", 350, "B", 300, "D", 100), 10 * HOUR);
+		history.record("combat", table("D", 900, "C", 350, "A", 340, "B", 300), 20 * HOUR);
+
+		// Over the last 12 hours only D climbed, by 3 places
+		assertEquals(List.of(new RankChange("D", 1, 4, 900, 80.0)), history.climbers("combat", Duration.ofHours(12), 10));
+
+		// Over the whole day C climbed one place too
+		List<RankChange> day = history.climbers("combat", Duration.ofDays(1), 10);
+		assertEquals(List.of("D", "C"), day.stream().map(RankChange::name).toList());
+		assertEquals(1, history.climbers("combat", Duration.ofDays(1), 1).size());
+	}
+
+	/**
+	 * Builds a leaderboard from alternating names and scores, ranked in order.
+	 */
+	private LeaderboardTable table(Object... namesAndScores) {
+		StringBuilder json = new StringBuilder("{");
+		for (int i = 0; i < namesAndScores.length; i += 2) {
+			if (i > 0) {
+				json.append(',');
+			}
+			json.append('"').append(i / 2 + 1).append("\":{\"name\":\"").append(namesAndScores[i])
+				.append("\",\"score\":").append(namesAndScores[i + 1]).append('}');
+		}
+		return gson.fromJson(json.append('}').toString(), LeaderboardTable.class);
+	}
+}
@@ -0,0 +1,30 @@
+package com.hezaerd.wapi.models;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import org.junit.jupiter.api.Test;
+
+class ModelAdaptersTest {
+	private final Gson gson = ModelAdapters.createGson();
+
+	@Test
+	void readsWellFormedModel() {
+		GuildData guild = gson.fromJson("{\"name\":\"Foo\",\"level\":12}", GuildData.class);
+
+		assertEquals("Foo", guild.getName());
+		assertEquals(12, guild.getLevel());
+	}
+
+	@Test
+	void reportsMalformedNumberAsSyntaxError() {
+		assertThrows(JsonSyntaxException.class, () -> gson.fromJson("{\"name\":\"Foo\",\"level\":1.5}", GuildData.class));
+	}
+
+	@Test
+	void reportsWrongTokenAsSyntaxError() {
+		assertThrows(JsonSyntaxException.class, () -> gson.fromJson("{\"name\":\"Foo\",\"level\":{}}", GuildData.class));
+	}
+}
@@ -0,0 +1,96 @@
+package com.hezaerd.wapi.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SharedBudgetStateTest {
+	private static final long NOW = 1_000_000_000L;
+
+	private SharedBudgetState state;
+	private SharedBudgetState.Participant a;
+	private SharedBudgetState.Participant b;
+
+	@BeforeEach
+	void setUp() {
+		state = new SharedBudgetState(ByteBuffer.allocate(SharedBudgetState.SIZE), 120);
+		a = new SharedBudgetState.Participant(1);
+		b = new SharedBudgetState.Participant(2);
+		state.claim(a, NOW);
+		state.claim(b, NOW);
+	}
+
+	@Test
+	void splitsTheLimitFairly() {
+		assertEquals(60, state.getAvailable(a, NOW));
+		assertEquals(60, state.getAvailable(b, NOW));
+
+		acquire(a, 60);
+
+		assertFalse(state.tryAcquire(a, NOW));
+		assertEquals(60, state.getAvailable(b, NOW));
+	}
+
+	@Test
+	void lendsTheShareOfALeavingParticipant() {
+		acquire(a, 60);
+		state.release(b);
+
+		assertEquals(60, state.getAvailable(a, NOW));
+		assertTrue(state.tryAcquire(a, NOW));
+	}
+
+	@Test
+	void lendsTheShareOfAParticipantWithoutHeartbeat() {
+		acquire(a, 60);
+		state.getAvailable(a, NOW + 20_000);
+
+		// b was last seen more than 30 seconds ago
+		assertEquals(60, state.getAvailable(a, NOW + 31_000));
+	}
+
+	@Test
+	void neverLendsMoreThanOthersLeaveUnused() {
+		// Alone, a may use the whole limit
+		state.release(b);
+		acquire(a, 100);
+
+		state.claim(b, NOW);
+		assertEquals(0, state.getAvailable(a, NOW));
+		assertEquals(20, state.getAvailable(b, NOW));
+	}
+
+	@Test
+	void startsOverWhenTheWindowRolls() {
+		acquire(a, 60);
+		state.getAvailable(a, NOW + 45_000);
+		state.getAvailable(b, NOW + 45_000);
+
+		long nextWindow = NOW + 60_000;
+		assertEquals(60, state.getAvailable(a, nextWindow));
+		assertEquals(60, state.getResetSeconds(nextWindow));
+	}
+
+	@Test
+	void alignsWithTheWindowReportedByTheServer() {
+		acquire(a, 1);
+
+		// The server window started 10 seconds after ours, with 110 requests used by anyone
+		long later = NOW + 40_000;
+		state.update(10, 120, 30, later);
+
+		assertEquals(10, state.getAvailable(a, later));
+		assertEquals(30, state.getResetSeconds(later));
+	}
+
+	private void acquire(SharedBudgetState.Participant participant, int requests) {
+		for (int i = 0; i < requests; i++) {
+			assertTrue(state.tryAcquire(participant, NOW));
+		}
+	}
+}
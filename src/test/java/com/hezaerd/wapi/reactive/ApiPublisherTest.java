@@ -0,0 +1,134 @@
+package com.hezaerd.wapi.reactive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+import com.hezaerd.wapi.models.ApiResponse;
+import org.junit.jupiter.api.Test;
+
+class ApiPublisherTest {
+	// Requests sent by the publisher under test, completed by hand
+	private final List<CompletableFuture<ApiResponse<Integer>>> requests = new ArrayList<>();
+	private final ApiPublisher<Integer> publisher = new ApiPublisher<>((index, previous) -> {
+		CompletableFuture<ApiResponse<Integer>> request = new CompletableFuture<>();
+		requests.add(request);
+		return request;
+	});
+
+	@Test
+	void sendsNothingWithoutDemand() {
+		publisher.subscribe(new Recorder());
+
+		assertTrue(requests.isEmpty());
+	}
+
+	@Test
+	void sendsOneRequestAtATimeWithinDemand() {
+		Recorder recorder = new Recorder();
+		publisher.subscribe(recorder);
+
+		recorder.subscription.request(2);
+		assertEquals(1, requests.size());
+
+		requests.get(0).complete(ApiResponse.success(1));
+		assertEquals(2, requests.size());
+
+		requests.get(1).complete(ApiResponse.success(2));
+		assertEquals(2, requests.size());
+		assertEquals(List.of(1, 2), recorder.values);
+	}
+
+	@Test
+	void requestingFromOnNextDoesNotRecurse() {
+		Recorder recorder = new Recorder() {
+			@Override
+			public void onNext(ApiResponse<Integer> item) {
+				super.onNext(item);
+				// Nested requests would show up as a deeper stack for every element
+				depths.add(Thread.currentThread().getStackTrace().length);
+				subscription.request(1);
+			}
+		};
+		ApiPublisher<Integer> immediate = new ApiPublisher<>((index, previous) -> index < 50
+			? CompletableFuture.completedFuture(ApiResponse.success((int) index))
+			: null);
+		immediate.subscribe(recorder);
+
+		recorder.subscription.request(1);
+
+		assertEquals(50, recorder.values.size());
+		assertTrue(recorder.completed);
+		assertEquals(recorder.depths.get(0), recorder.depths.get(recorder.depths.size() - 1));
+	}
+
+	@Test
+	void completesOnceTheKeysAreExhausted() {
+		Recorder recorder = new Recorder();
+		ApiPublisher.forEach(List.of(10, 20), key -> CompletableFuture.completedFuture(ApiResponse.success(key)))
+			.subscribe(recorder);
+
+		recorder.subscription.request(Long.MAX_VALUE);
+
+		assertEquals(List.of(10, 20), recorder.values);
+		assertTrue(recorder.completed);
+	}
+
+	@Test
+	void cancelAbortsTheRequestInFlight() {
+		Recorder recorder = new Recorder();
+		publisher.subscribe(recorder);
+		recorder.subscription.request(1);
+
+		recorder.subscription.cancel();
+
+		assertTrue(requests.get(0).isCancelled());
+		assertTrue(recorder.values.isEmpty());
+		assertNull(recorder.error);
+	}
+
+	@Test
+	void rejectsNonPositiveDemand() {
+		Recorder recorder = new Recorder();
+		publisher.subscribe(recorder);
+
+		recorder.subscription.request(0);
+
+		assertInstanceOf(IllegalArgumentException.class, recorder.error);
+		assertTrue(requests.isEmpty());
+	}
+
+	private static class Recorder implements Flow.Subscriber<ApiResponse<Integer>> {
+		final List<Integer> values = new ArrayList<>();
+		final List<Integer> depths = new ArrayList<>();
+		Flow.Subscription subscription;
+		Throwable error;
+		boolean completed;
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(ApiResponse<Integer> item) {
+			values.add(item.getData());
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			error = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package com.hezaerd.wapi.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import com.hezaerd.wapi.search.SearchIndex.Kind;
+import com.hezaerd.wapi.search.SearchIndex.Match;
+import org.junit.jupiter.api.Test;
+
+class SearchIndexTest {
+	@Test
+	void prefixDistanceIgnoresTheRestOfTheKey() {
+		assertEquals(0, SearchIndex.prefixDistance("aqua", "aquarium", 2));
+		assertEquals(1, SearchIndex.prefixDistance("aqau", "aquarium", 2));
+		assertEquals(1, SearchIndex.prefixDistance("aqa", "aquarium", 2));
+		assertEquals(2, SearchIndex.prefixDistance("axxarium", "aquarium", 2));
+	}
+
+	@Test
+	void prefixDistanceStopsPastMaxEdits() {
+		assertEquals(2, SearchIndex.prefixDistance("zzzz", "aquarium", 1));
+	}
+
+	@Test
+	void ranksShorterPrefixMatchesFirst() {
+		SearchIndex index = new SearchIndex();
+		index.add(Kind.PLAYER, "Salted");
+		index.add(Kind.PLAYER, "Salt");
+		index.add(Kind.GUILD, "Saltwater Pirates", "SWP");
+
+		List<Match> matches = index.search("salt", 10);
+
+		assertEquals(List.of(
+			new Match(Kind.PLAYER, "Salt", 0),
+			new Match(Kind.PLAYER, "Salted", 0),
+			new Match(Kind.GUILD, "Saltwater Pirates", 0)), matches);
+	}
+
+	@Test
+	void ranksPrefixMatchesBeforeTypos() {
+		SearchIndex index = new SearchIndex();
+		index.add(Kind.GUILD, "Sequoia");
+		index.add(Kind.PLAYER, "Seqoiaman");
+
+		assertEquals(List.of(
+			new Match(Kind.PLAYER, "Seqoiaman", 0),
+			new Match(Kind.GUILD, "Sequoia", 1)), index.search("seqoia", 10));
+	}
+
+	@Test
+	void findsAliasesAndFiltersByKind() {
+		SearchIndex index = new SearchIndex();
+		index.add(Kind.GUILD, "The Aquarium", "TAq");
+		index.add(Kind.PLAYER, "Taqueria");
+
+		assertEquals(List.of(new Match(Kind.GUILD, "The Aquarium", 0)), index.search("taq", Kind.GUILD, 10));
+		assertEquals(List.of(new Match(Kind.PLAYER, "Taqueria", 0)), index.search("taq", Kind.PLAYER, 10));
+	}
+
+	@Test
+	void toleratesTyposInRecentAndIndexedNames() {
+		SearchIndex index = new SearchIndex();
+		index.add(Kind.GUILD, "The Aquarium");
+		// Pushes the guild out of the overflow into the sorted snapshot
+		for (int i = 0; i < 600; i++) {
+			index.add(Kind.ITEM, "Item " + i);
+		}
+		index.add(Kind.GUILD, "Sequoia");
+
+		assertEquals(List.of(new Match(Kind.GUILD, "The Aquarium", 1)), index.search("the aqaurium", 5));
+		assertEquals(List.of(new Match(Kind.GUILD, "Sequoia", 1)), index.search("sequoai", 5));
+	}
+
+	@Test
+	void toleratesNoTypoInShortQueries() {
+		SearchIndex index = new SearchIndex();
+		index.add(Kind.PLAYER, "Bob");
+
+		assertTrue(index.search("bpb", 5).isEmpty());
+	}
+
+	@Test
+	void rebuildForgetsTheOldestPlayersOverTheLimit() {
+		SearchIndex index = new SearchIndex(10);
+		index.add(Kind.GUILD, "Sequoia");
+		for (int i = 0; i < 600; i++) {
+			index.add(Kind.PLAYER, "Player" + i);
+		}
+
+		// The overflow was merged once 511 players in, keeping the 10 newest, then took the last 89
+		assertEquals(1 + 10 + 89, index.size());
+		assertTrue(index.search("player0", Kind.PLAYER, 5).stream().noneMatch(m -> m.name().equals("Player0")));
+		assertEquals(new Match(Kind.PLAYER, "Player599", 0), index.search("player599", 5).get(0));
+		assertEquals(List.of(new Match(Kind.GUILD, "Sequoia", 0)), index.search("sequoia", 5));
+	}
+}
@@ -0,0 +1,95 @@
+package com.hezaerd.wapi.tracking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.hezaerd.wapi.models.CharacterData;
+import com.hezaerd.wapi.models.ModelAdapters;
+import com.hezaerd.wapi.tracking.CharacterChange.Field;
+
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Test;
+
+class CharacterSnapshotTest {
+	private final Gson gson = ModelAdapters.createGson();
+	private final ContentIds contentIds = new ContentIds();
+
+	@Test
+	void readsContentValues() {
+		CharacterSnapshot snapshot = snapshot("{\"level\":42,\"professions\":{\"mining\":{\"level\":10}},"
+			+ "\"quests\":{\"King's Recruit\":{\"status\":\"completed\"},\"Tower\":{\"status\":\"started\"}}}");
+
+		assertEquals(42, snapshot.get(Field.LEVEL, null));
+		assertEquals(10, snapshot.get(Field.PROFESSION, "mining"));
+		assertEquals(1, snapshot.get(Field.QUEST, "King's Recruit"));
+		assertEquals(0, snapshot.get(Field.QUEST, "Tower"));
+		assertEquals(0, snapshot.get(Field.DUNGEON, "Unknown"));
+	}
+
+	@Test
+	void mergesContentPresentOnEitherSide() {
+		CharacterSnapshot before = snapshot("{\"level\":10,\"professions\":{\"mining\":{\"level\":10},\"fishing\":{\"level\":5}}}");
+		CharacterSnapshot after = snapshot("{\"level\":11,\"professions\":{\"fishing\":{\"level\":6},\"woodcutting\":{\"level\":1}}}");
+
+		List<CharacterChange> changes = new ArrayList<>();
+		after.diff(before, "Salted", "mage", changes);
+
+		assertEquals(List.of(
+			new CharacterChange("Salted", "mage", Field.LEVEL, null, 10, 11),
+			new CharacterChange("Salted", "mage", Field.PROFESSION, "mining", 10, 0),
+			new CharacterChange("Salted", "mage", Field.PROFESSION, "fishing", 5, 6),
+			new CharacterChange("Salted", "mage", Field.PROFESSION, "woodcutting", 0, 1)), changes);
+	}
+
+	@Test
+	void diffsEachContentFieldSeparately() {
+		CharacterSnapshot before = snapshot("{\"dungeons\":{\"Ice Barrows\":{\"completions\":1}}}");
+		CharacterSnapshot after = snapshot("{\"raids\":{\"Ice Barrows\":{\"completions\":1}}}");
+
+		List<CharacterChange> changes = new ArrayList<>();
+		after.diff(before, "Salted", "mage", changes);
+
+		assertEquals(List.of(
+			new CharacterChange("Salted", "mage", Field.DUNGEON, "Ice Barrows", 1, 0),
+			new CharacterChange("Salted", "mage", Field.RAID, "Ice Barrows", 0, 1)), changes);
+	}
+
+	@Test
+	void experienceCountsAsADifferenceWithoutAChange() {
+		CharacterSnapshot before = snapshot("{\"level\":10,\"xp\":100}");
+		CharacterSnapshot after = snapshot("{\"level\":10,\"xp\":150}");
+
+		List<CharacterChange> changes = new ArrayList<>();
+		after.diff(before, "Salted", "mage", changes);
+
+		assertTrue(after.differsFrom(before));
+		assertFalse(snapshot("{\"level\":10,\"xp\":100}").differsFrom(before));
+		assertTrue(changes.isEmpty());
+	}
+
+	@Test
+	void keepsThePreviousSnapshotWhenTheRawContentIsUnchanged() {
+		String json = "{\"level\":10,\"xp\":100,\"skills\":{\"strength\":{\"level\":20}}}";
+		CharacterSnapshot previous = snapshot(json);
+
+		assertSame(previous, CharacterSnapshot.of(contentIds, character(json), previous));
+		assertNotSame(previous, CharacterSnapshot.of(contentIds,
+			character("{\"level\":10,\"xp\":100,\"skills\":{\"strength\":{\"level\":21}}}"), previous));
+		assertNotSame(previous, CharacterSnapshot.of(contentIds,
+			character("{\"level\":10,\"xp\":120,\"skills\":{\"strength\":{\"level\":20}}}"), previous));
+	}
+
+	private CharacterSnapshot snapshot(String json) {
+		return CharacterSnapshot.of(contentIds, character(json));
+	}
+
+	private CharacterData character(String json) {
+		return gson.fromJson(json, CharacterData.class);
+	}
+}